@@ -28,6 +28,9 @@ public abstract class Constants {
 
   public static final int EMPTY_NUMBER = 0;
   public static final int MAX_PROMISE_THREAD_COUNT = 20;
+  public static final int MAX_KEY_CACHE_SIZE = 4096;
+  public static final int MAX_PATTERN_CACHE_SIZE = 256;
+  public static final long DEFAULT_SPILL_THRESHOLD = 1024 * 1024;
 
   public static abstract class Paging {
     public static final int PAGE_SIZE = 15;
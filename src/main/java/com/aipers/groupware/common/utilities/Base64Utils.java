@@ -0,0 +1,366 @@
+package com.aipers.groupware.common.utilities;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 정규식 없이 Base64 문자열을 검사, 복원하는 유틸리티 클래스 입니다.
+ *   표준 (+ /) 과 URL-safe (- _) 문자를 모두 허용하며 문자 table 로 한번만 순회함
+ *   허용 형식은 Formatters.BASE64_PATTERN 과 동일함 (끝의 = 는 선택, 빈 문자열 허용)
+ *   InputStream, OutputStream, ByteBuffer 단위로 나누어 처리할 수 있어 큰 첨부 파일도 일정한 메모리로 처리함
+ */
+public abstract class Base64Utils {
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final int[] VALUES = new int[128];
+  private static final byte[] STANDARD =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes();
+  private static final byte[] URL_SAFE =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes();
+
+  static {
+    Arrays.fill(VALUES, -1);
+    for (int i = 0;i < STANDARD.length;i++) VALUES[STANDARD[i]] = VALUES[URL_SAFE[i]] = i;
+  }
+
+  private Base64Utils() {}
+
+  /**
+   * 주어진 문자열이 Base64 형식인지 확인합니다
+   * @param text
+   * @return
+   */
+  public static final boolean isBase64(final CharSequence text) {
+    return null != text && 0 <= decode(text, null);
+  }
+
+  /**
+   * Base64 문자열을 복원하여 반환합니다
+   * @param text
+   * @return
+   * @throws IllegalArgumentException Base64 형식이 아닌 경우
+   */
+  public static final byte[] decode(final CharSequence text) {
+    final byte[] decoded = decodeOrNull(text);
+    if (null == decoded) throw new IllegalArgumentException("Illegal base64 string");
+
+    return decoded;
+  }
+
+  /**
+   * Base64 문자열을 복원하여 반환합니다. Base64 형식이 아니라면 null 반환합니다 (검사와 복원을 한번에 처리)
+   * @param text
+   * @return
+   */
+  public static final byte[] decodeOrNull(final CharSequence text) {
+    if (null == text) return null;
+
+    final int size = decode(text, null);
+    if (0 > size) return null;
+
+    final byte[] decoded = new byte[size];
+    decode(text, decoded);
+
+    return decoded;
+  }
+
+  /**
+   * source 의 Base64 문자 (ASCII bytes) 를 복원하여 target 에 기록하고 기록한 byte 수를 반환합니다
+   * 4 문자 단위로 처리하며 남은 문자는 source 에 남겨둡니다. endOfInput 이라면 남은 2, 3 문자도 복원합니다
+   * @param source
+   * @param target
+   * @param endOfInput
+   * @return
+   * @throws IllegalArgumentException Base64 문자가 아닌 경우
+   */
+  public static final int decode(
+      final ByteBuffer source, final ByteBuffer target, final boolean endOfInput
+  ) {
+    int written = 0;
+
+    while (4 <= source.remaining() && 3 <= target.remaining()) {
+      final int position = source.position();
+      final int third = source.get(position + 2), fourth = source.get(position + 3);
+      final int count = '=' != fourth ? 4 : '=' != third ? 3 : 2;
+
+      written += decodeQuantum(source, position, count, target);
+      source.position(position + 4);
+    }
+
+    if (endOfInput && 0 < source.remaining() && 4 > source.remaining() && 2 <= target.remaining()) {
+      final int position = source.position();
+      int count = source.remaining();
+      if (3 == count && '=' == source.get(position + 2)) count = 2;
+      if (2 > count) throw new IllegalArgumentException("Illegal base64 ending");
+
+      written += decodeQuantum(source, position, count, target);
+      source.position(source.limit());
+    }
+
+    return written;
+  }
+
+  /**
+   * source 의 byte 를 Base64 문자 (ASCII bytes) 로 인코딩하여 target 에 기록하고 기록한 문자 수를 반환합니다
+   * 3 byte 단위로 처리하며 남은 byte 는 source 에 남겨둡니다. endOfInput 이라면 남은 byte 를 = 를 붙여 인코딩합니다
+   * @param source
+   * @param target
+   * @param endOfInput
+   * @param urlSafe
+   * @return
+   */
+  public static final int encode(
+      final ByteBuffer source, final ByteBuffer target, final boolean endOfInput, final boolean urlSafe
+  ) {
+    final byte[] alphabet = urlSafe ? URL_SAFE : STANDARD;
+    int written = 0;
+
+    while (4 <= target.remaining() && (3 <= source.remaining()
+        || (endOfInput && 0 < source.remaining()))) {
+      final int count = Math.min(3, source.remaining());
+      final int bits = (source.get() & 0xFF) << 16
+          | (1 < count ? (source.get() & 0xFF) << 8 : 0)
+          | (2 < count ? source.get() & 0xFF : 0);
+
+      target.put(alphabet[bits >>> 18])
+          .put(alphabet[(bits >>> 12) & 0x3F])
+          .put(1 < count ? alphabet[(bits >>> 6) & 0x3F] : (byte) '=')
+          .put(2 < count ? alphabet[bits & 0x3F] : (byte) '=');
+      written += 4;
+    }
+
+    return written;
+  }
+
+  /**
+   * Base64 문자열을 읽으면서 복원하는 InputStream 을 반환합니다. 줄바꿈 (CR, LF) 은 무시합니다
+   * @param in
+   * @return
+   */
+  public static final InputStream decoding(final InputStream in) {
+    return new DecodingInputStream(in);
+  }
+
+  /**
+   * 기록하는 byte 를 Base64 문자로 인코딩하여 out 에 기록하는 OutputStream 을 반환합니다
+   * 반환된 stream 을 닫아야 마지막 문자가 기록되며 out 도 함께 닫힙니다
+   * @param out
+   * @param urlSafe
+   * @return
+   */
+  public static final OutputStream encoding(final OutputStream out, final boolean urlSafe) {
+    return (urlSafe ? Base64.getUrlEncoder() : Base64.getEncoder()).wrap(out);
+  }
+
+  /**
+   * in 의 Base64 문자를 끝까지 읽어 복원한 byte 를 out 에 기록하고 기록한 byte 수를 반환합니다. stream 은 닫지 않습니다
+   * @param in
+   * @param out
+   * @return
+   * @throws IOException
+   */
+  public static final long decode(final InputStream in, final OutputStream out) throws IOException {
+    final InputStream decoding = decoding(in);
+    final byte[] buffer = new byte[BUFFER_SIZE];
+    long total = 0;
+
+    for (int read;-1 != (read = decoding.read(buffer));total += read) out.write(buffer, 0, read);
+
+    return total;
+  }
+
+  /**
+   * in 의 byte 를 끝까지 읽어 Base64 문자로 out 에 기록하고 기록한 문자 수를 반환합니다. stream 은 닫지 않습니다
+   * @param in
+   * @param out
+   * @param urlSafe
+   * @return
+   * @throws IOException
+   */
+  public static final long encode(
+      final InputStream in, final OutputStream out, final boolean urlSafe
+  ) throws IOException {
+    final ByteBuffer source = ByteBuffer.allocate(BUFFER_SIZE - BUFFER_SIZE % 3);
+    final ByteBuffer target = ByteBuffer.allocate(BUFFER_SIZE / 3 * 4 + 4);
+    long total = 0;
+    boolean endOfInput = false;
+
+    while (!endOfInput) {
+      final int read = in.read(source.array(), source.position(), source.remaining());
+      if (0 < read) source.position(source.position() + read);
+      endOfInput = -1 == read;
+
+      source.flip();
+      total += encode(source, target, endOfInput, urlSafe);
+      source.compact();
+
+      out.write(target.array(), 0, target.position());
+      target.clear();
+    }
+
+    return total;
+  }
+
+  /**
+   * BASE64_PATTERN 과 같은 형식인지 확인하고 복원한 byte 수를 반환합니다. 형식이 아니라면 -1 반환합니다
+   * target 이 null 이 아니라면 복원한 byte 를 기록합니다
+   */
+  private static int decode(final CharSequence text, final byte[] target) {
+    final int length = text.length();
+    int padding = 0;
+    while (2 > padding && padding < length && '=' == text.charAt(length - 1 - padding)) padding++;
+
+    final int count = length - padding, remainder = count & 3;
+    if (1 == remainder || (0 == remainder && 0 < padding) || (3 == remainder && 1 < padding)) {
+      return -1;
+    }
+
+    final int full = count - remainder;
+    int written = 0;
+
+    for (int i = 0;i < full;i += 4) {
+      final int bits = value(text.charAt(i)) << 18 | value(text.charAt(i + 1)) << 12
+          | value(text.charAt(i + 2)) << 6 | value(text.charAt(i + 3));
+      if (0 > bits) return -1;
+
+      if (null != target) {
+        target[written] = (byte) (bits >> 16);
+        target[written + 1] = (byte) (bits >> 8);
+        target[written + 2] = (byte) bits;
+      }
+
+      written += 3;
+    }
+
+    if (0 < remainder) {
+      final int bits = value(text.charAt(full)) << 18 | value(text.charAt(full + 1)) << 12
+          | (3 == remainder ? value(text.charAt(full + 2)) << 6 : 0);
+      if (0 > bits) return -1;
+
+      if (null != target) {
+        target[written] = (byte) (bits >> 16);
+        if (3 == remainder) target[written + 1] = (byte) (bits >> 8);
+      }
+
+      written += remainder - 1;
+    }
+
+    return written;
+  }
+
+  /**
+   * position 부터 count (2 ~ 4) 문자를 복원하여 target 에 기록하고 기록한 byte 수를 반환합니다
+   */
+  private static int decodeQuantum(
+      final ByteBuffer source, final int position, final int count, final ByteBuffer target
+  ) {
+    int bits = 0;
+
+    for (int i = 0;i < 4;i++) {
+      final int value = i < count ? value((char) (source.get(position + i) & 0xFF)) : 0;
+      if (0 > value) {
+        throw new IllegalArgumentException("Illegal base64 character at " + (position + i));
+      }
+
+      bits = bits << 6 | value;
+    }
+
+    target.put((byte) (bits >> 16));
+    if (2 < count) target.put((byte) (bits >> 8));
+    if (3 < count) target.put((byte) bits);
+
+    return count - 1;
+  }
+
+  private static int value(final char letter) {
+    return 128 > letter ? VALUES[letter] : -1;
+  }
+
+  /**
+   * 읽은 문자를 ByteBuffer 단위로 복원하는 InputStream 입니다
+   */
+  private static final class DecodingInputStream extends InputStream {
+
+    private final InputStream in;
+    private final ByteBuffer source = ByteBuffer.allocate(BUFFER_SIZE);
+    private final ByteBuffer decoded = ByteBuffer.allocate(BUFFER_SIZE / 4 * 3 + 3);
+    private boolean endOfInput;
+
+    private DecodingInputStream(final InputStream in) {
+      this.in = in;
+      decoded.flip();
+    }
+
+    @Override
+    public int read() throws IOException {
+      return fill() ? decoded.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+      if (0 == length) return 0;
+      if (!fill()) return -1;
+
+      final int count = Math.min(length, decoded.remaining());
+      decoded.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return decoded.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+      in.close();
+    }
+
+    /**
+     * 복원된 byte 가 없다면 다음 문자를 읽어 복원합니다. 더 이상 읽을 byte 가 없다면 false 반환합니다
+     */
+    private boolean fill() throws IOException {
+      while (!decoded.hasRemaining()) {
+        if (endOfInput && 0 == source.position()) return false;
+
+        if (!endOfInput) {
+          final int read = in.read(source.array(), source.position(), source.remaining());
+          if (0 < read) source.position(skipLineBreaks(source.position(), read));
+          endOfInput = -1 == read;
+        }
+
+        source.flip();
+        decoded.clear();
+        decode(source, decoded, endOfInput);
+        decoded.flip();
+        source.compact();
+
+        if (endOfInput && 0 < source.position() && !decoded.hasRemaining()) {
+          throw new IllegalArgumentException("Illegal base64 ending");
+        }
+      }
+
+      return true;
+    }
+
+    /**
+     * 새로 읽은 구간에서 CR, LF 를 제거하고 다음 기록 위치를 반환합니다
+     */
+    private int skipLineBreaks(final int from, final int count) {
+      final byte[] bytes = source.array();
+      int position = from;
+
+      for (int i = from;i < from + count;i++) {
+        if ('\r' != bytes[i] && '\n' != bytes[i]) bytes[position++] = bytes[i];
+      }
+
+      return position;
+    }
+
+  }
+
+}
@@ -0,0 +1,320 @@
+package com.aipers.groupware.common.utilities;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bean 객체와 Dictionary 간의 변환을 처리하는 유틸리티 클래스 입니다.
+ *   클래스별 getter, setter, public 필드는 최초 한번만 조회하여 MethodHandle 로 보관함 (ClassValue)
+ *   프로퍼티 이름은 Jackson 과 같이 접두어를 뺀 이름의 앞쪽 대문자를 소문자로 변환하여 사용함
+ *   값은 변환하지 않고 그대로 옮김 (중첩된 객체는 Dictionary 로 변환하지 않음)
+ */
+public abstract class BeanUtils {
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private static final ClassValue<BeanProperties> PROPERTIES = new ClassValue<BeanProperties>() {
+    @Override
+    protected BeanProperties computeValue(final Class<?> type) {
+      return new BeanProperties(type);
+    }
+  };
+
+  private BeanUtils() {}
+
+  /**
+   * 주어진 객체의 프로퍼티를 Dictionary 로 변환하여 반환합니다
+   * @param bean
+   * @return
+   */
+  public static Dictionary toDictionary(final Object bean) {
+    if (null == bean) return new Dictionary();
+    if (bean instanceof Map) return new Dictionary(asMap(bean));
+
+    final BeanProperties properties = PROPERTIES.get(bean.getClass());
+    final Dictionary dictionary = new Dictionary((int) (properties.names.length / 0.75f) + 1);
+
+    try {
+      for (int i = 0;i < properties.names.length;i++) {
+        dictionary.set(properties.names[i], (Object) properties.getters[i].invokeExact(bean));
+      }
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+
+    return dictionary;
+  }
+
+  /**
+   * 주어진 Map 의 값으로 지정된 유형의 객체를 생성하여 반환합니다
+   * 대상 유형은 인자가 없는 생성자가 있어야 합니다
+   * @param source
+   * @param type
+   * @return
+   * @param <T>
+   */
+  public static <T> T toBean(final Map<String, ?> source, final Class<T> type) {
+    final BeanProperties properties = PROPERTIES.get(type);
+
+    if (null == properties.constructor)
+      throw new IllegalArgumentException(String.format("[%s] No default constructor", type.getName()));
+
+    try {
+      return populate(source, type.cast((Object) properties.constructor.invokeExact()));
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * 주어진 Map 의 값을 객체의 프로퍼티에 설정 후 반환합니다. 일치하는 프로퍼티가 없는 키는 무시합니다
+   * @param source
+   * @param bean
+   * @return
+   * @param <T>
+   */
+  public static <T> T populate(final Map<String, ?> source, final T bean) {
+    if (null == source) return bean;
+
+    final BeanProperties properties = PROPERTIES.get(bean.getClass());
+
+    try {
+      for (final Map.Entry<String, ?> entry : source.entrySet()) {
+        final Setter setter = properties.setters.get(entry.getKey());
+        if (null == setter) continue;
+
+        final Object value = convert(entry.getValue(), setter.type);
+        if (null == value && setter.type.isPrimitive()) continue;
+
+        setter.handle.invokeExact((Object) bean, value);
+      }
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+
+    return bean;
+  }
+
+  private static Object convert(final Object value, final Class<?> type) {
+    if (null == value) return null;
+
+    final Class<?> target = wrap(type);
+    if (target.isInstance(value)) return value;
+
+    if (String.class == target) return String.valueOf(value);
+    if (Boolean.class == target) return CommonUtils.isTrue(value);
+
+    if (value instanceof Number || value instanceof String) {
+      final String text = value.toString().trim();
+
+      if (Integer.class == target)
+        return value instanceof Number ? ((Number) value).intValue() : Integer.valueOf(text);
+      if (Long.class == target)
+        return value instanceof Number ? ((Number) value).longValue() : Long.valueOf(text);
+      if (Double.class == target)
+        return value instanceof Number ? ((Number) value).doubleValue() : Double.valueOf(text);
+      if (Float.class == target)
+        return value instanceof Number ? ((Number) value).floatValue() : Float.valueOf(text);
+      if (Short.class == target)
+        return value instanceof Number ? ((Number) value).shortValue() : Short.valueOf(text);
+      if (Byte.class == target)
+        return value instanceof Number ? ((Number) value).byteValue() : Byte.valueOf(text);
+      if (BigDecimal.class == target) return new BigDecimal(text);
+      if (BigInteger.class == target) return new BigInteger(text);
+      if (Character.class == target && 1 == text.length()) return text.charAt(0);
+    }
+
+    if (value instanceof Map && !Map.class.isAssignableFrom(target))
+      return toBean(asMap(value), target);
+
+    throw new IllegalArgumentException(
+        String.format("Cannot convert %s to %s", value.getClass().getName(), type.getName()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, ?> asMap(final Object value) {
+    return (Map<String, ?>) value;
+  }
+
+  private static Class<?> wrap(final Class<?> type) {
+    if (!type.isPrimitive()) return type;
+    if (int.class == type) return Integer.class;
+    if (long.class == type) return Long.class;
+    if (double.class == type) return Double.class;
+    if (float.class == type) return Float.class;
+    if (boolean.class == type) return Boolean.class;
+    if (short.class == type) return Short.class;
+    if (byte.class == type) return Byte.class;
+    if (char.class == type) return Character.class;
+    return Void.class;
+  }
+
+  /**
+   * getter 이름에서 프로퍼티 이름을 만듭니다 (getURLName => urlname, getUserName => userName)
+   * @param name
+   * @param prefix
+   * @return
+   */
+  private static String toPropertyName(final String name, final int prefix) {
+    final char[] letters = name.substring(prefix).toCharArray();
+
+    for (int i = 0;i < letters.length && Character.isUpperCase(letters[i]);i++) {
+      letters[i] = Character.toLowerCase(letters[i]);
+    }
+
+    return new String(letters);
+  }
+
+  private static MethodHandle unreflect(final Method method) {
+    try {
+      return MethodHandles.publicLookup().unreflect(method);
+    } catch (IllegalAccessException e) {
+      try {
+        method.setAccessible(true);
+        return MethodHandles.lookup().unreflect(method);
+      } catch (RuntimeException | IllegalAccessException ex) {
+        return null;
+      }
+    }
+  }
+
+  private static MethodHandle unreflectField(final Field field, final boolean isSetter) {
+    try {
+      return isSetter
+          ? MethodHandles.publicLookup().unreflectSetter(field)
+          : MethodHandles.publicLookup().unreflectGetter(field);
+    } catch (IllegalAccessException e) {
+      try {
+        field.setAccessible(true);
+        return isSetter
+            ? MethodHandles.lookup().unreflectSetter(field)
+            : MethodHandles.lookup().unreflectGetter(field);
+      } catch (RuntimeException | IllegalAccessException ex) {
+        return null;
+      }
+    }
+  }
+
+  private static MethodHandle findConstructor(final Class<?> type) {
+    if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) return null;
+
+    try {
+      final Constructor<?> constructor = type.getDeclaredConstructor();
+      try {
+        return MethodHandles.publicLookup().unreflectConstructor(constructor);
+      } catch (IllegalAccessException e) {
+        constructor.setAccessible(true);
+        return MethodHandles.lookup().unreflectConstructor(constructor);
+      }
+    } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * 클래스별로 조회된 프로퍼티 접근자 정보 입니다
+   */
+  private static final class BeanProperties {
+    private final String[] names;
+    private final MethodHandle[] getters;
+    private final Map<String, Setter> setters = new HashMap<>();
+    private final MethodHandle constructor;
+
+    private BeanProperties(final Class<?> type) {
+      final Map<String, MethodHandle> readers = new LinkedHashMap<>();
+
+      for (final Method method : type.getMethods()) {
+        // generic 타입의 bridge 메서드 (setValue(Object) 등) 는 실제 메서드와 타입이 달라 제외함
+        if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.isSynthetic()
+            || Object.class == method.getDeclaringClass())
+          continue;
+
+        final String name = method.getName();
+
+        if (0 == method.getParameterCount() && void.class != method.getReturnType()) {
+          final String property = name.startsWith("get") && 3 < name.length()
+              ? toPropertyName(name, 3)
+              : name.startsWith("is") && 2 < name.length() && boolean.class == method.getReturnType()
+                  ? toPropertyName(name, 2)
+                  : null;
+          final MethodHandle handle = null == property ? null : unreflect(method);
+
+          if (null != handle) readers.put(property, handle.asType(GETTER_TYPE));
+        } else if (1 == method.getParameterCount() && name.startsWith("set") && 3 < name.length()) {
+          final String property = toPropertyName(name, 3);
+          final Class<?> parameterType = method.getParameterTypes()[0];
+          final Setter current = setters.get(property);
+          if (null != current && !isPreferred(parameterType, current.type)) continue;
+
+          final MethodHandle handle = unreflect(method);
+          if (null != handle) setters.put(property, new Setter(parameterType, handle.asType(SETTER_TYPE)));
+        }
+      }
+
+      for (final Field field : type.getFields()) {
+        final int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) continue;
+
+        if (!readers.containsKey(field.getName())) {
+          final MethodHandle handle = unreflectField(field, false);
+          if (null != handle) readers.put(field.getName(), handle.asType(GETTER_TYPE));
+        }
+
+        if (!Modifier.isFinal(modifiers) && !setters.containsKey(field.getName())) {
+          final MethodHandle handle = unreflectField(field, true);
+          if (null != handle)
+            setters.put(field.getName(), new Setter(field.getType(), handle.asType(SETTER_TYPE)));
+        }
+      }
+
+      this.names = readers.keySet().toArray(new String[0]);
+      this.getters = readers.values().toArray(new MethodHandle[0]);
+
+      final MethodHandle constructor = findConstructor(type);
+      this.constructor = null == constructor
+          ? null
+          : constructor.asType(MethodType.methodType(Object.class));
+    }
+  }
+
+  /**
+   * 같은 이름의 setter 가 여러개라면 getMethods 순서와 관계 없이 같은 setter 를 선택하도록 비교합니다
+   *   하위 타입 (더 구체적인 타입) 을 우선하며 관계가 없는 타입은 타입 이름 순으로 선택함
+   */
+  private static boolean isPreferred(final Class<?> candidate, final Class<?> current) {
+    if (candidate == current) return false;
+    if (current.isAssignableFrom(candidate)) return true;
+    if (candidate.isAssignableFrom(current)) return false;
+
+    return 0 > candidate.getName().compareTo(current.getName());
+  }
+
+  private static final class Setter {
+    private final Class<?> type;
+    private final MethodHandle handle;
+
+    private Setter(final Class<?> type, final MethodHandle handle) {
+      this.type = type;
+      this.handle = handle;
+    }
+  }
+
+}
@@ -0,0 +1,139 @@
+package com.aipers.groupware.common.utilities;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 최대 크기가 제한된 동시성 캐시 입니다.
+ *   최대 크기에 도달하면 최근에 사용되지 않은 항목부터 제거함 (second chance)
+ *   여러 스레드에서 잠금 없이 조회 가능함
+ *   조회시 캐시 적중 (hit), 실패 (miss) 횟수를 기록함
+ * @param <K>
+ * @param <V>
+ */
+public class BoundedCache<K, V> {
+
+  private final ConcurrentHashMap<K, Node<V>> store;
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final int maximumSize;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public BoundedCache(final int maximumSize) {
+    if (0 >= maximumSize) throw new IllegalArgumentException("maximumSize must be positive");
+
+    this.maximumSize = maximumSize;
+    this.store = new ConcurrentHashMap<>(Math.min(maximumSize, 1024));
+  }
+
+  /**
+   * 캐시된 값을 반환합니다. 값이 없다면 loader 호출하여 생성한 값을 저장 후 반환합니다
+   * @param key
+   * @param loader
+   * @return
+   */
+  public V get(final K key, final Function<? super K, ? extends V> loader) {
+    final Node<V> cached = store.get(key);
+    if (null != cached) {
+      hits.increment();
+      return cached.touch();
+    }
+
+    misses.increment();
+
+    final V value = loader.apply(key);
+    if (null == value) return null;
+
+    if (store.size() >= maximumSize) evict();
+
+    final Node<V> previous = store.putIfAbsent(key, new Node<>(value));
+    return null == previous ? value : previous.touch();
+  }
+
+  /**
+   * 캐시된 값을 반환합니다. 값이 없다면 null 반환합니다
+   * @param key
+   * @return
+   */
+  public V getIfPresent(final K key) {
+    final Node<V> cached = store.get(key);
+
+    if (null == cached) {
+      misses.increment();
+      return null;
+    }
+
+    hits.increment();
+    return cached.touch();
+  }
+
+  public int size() {
+    return store.size();
+  }
+
+  public void clear() {
+    store.clear();
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * 전체 조회 대비 캐시 적중 비율을 반환합니다 (0 ~ 1)
+   * @return
+   */
+  public double getHitRate() {
+    final long hit = hits.sum();
+    final long total = hit + misses.sum();
+    return 0 == total ? 0D : (double) hit / total;
+  }
+
+  /**
+   * 최근 조회되지 않은 항목을 제거하여 최대 크기의 3/4 수준으로 줄입니다
+   * 다른 스레드가 제거중이라면 기다리지 않고 돌아갑니다
+   */
+  private void evict() {
+    if (!evictionLock.tryLock()) return;
+
+    try {
+      final int target = maximumSize - Math.max(1, maximumSize >> 2);
+
+      while (store.size() > target) {
+        final Iterator<Map.Entry<K, Node<V>>> entries = store.entrySet().iterator();
+
+        while (entries.hasNext() && store.size() > target) {
+          final Node<V> node = entries.next().getValue();
+
+          if (node.referenced) node.referenced = false;
+          else entries.remove();
+        }
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private static final class Node<V> {
+    private final V value;
+    private volatile boolean referenced;
+
+    private Node(final V value) {
+      this.value = value;
+    }
+
+    private V touch() {
+      if (!referenced) referenced = true;
+      return value;
+    }
+  }
+
+}
@@ -2,7 +2,6 @@ package com.aipers.groupware.common.utilities;
 
 import com.aipers.groupware.common.Constants;
 import java.lang.reflect.Array;
-import java.net.URLDecoder;
 import java.security.Key;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -187,10 +186,9 @@ public abstract class CommonUtils {
     try {
       final Cipher cipher = Cipher.getInstance("RSA");
       cipher.init(Cipher.DECRYPT_MODE, key);
-      final String urlSafeBase64 = StringUtils.replace(
-          StringUtils.replace(URLDecoder.decode(encodedText, Constants.DEFAULT_ENCODING), "%20", "+"),
-          " ", "+"
-      );
+      // 전달 과정에서 + 가 공백 (또는 두번 인코딩되어 %20) 으로 바뀐 경우를 복원함
+      final String urlSafeBase64 =
+          StringUtils.replace(UrlUtils.decodeComponent(encodedText), "%20", "+").replace(' ', '+');
       final byte[] decoded = cipher.doFinal(StringUtils.decodeBase64(urlSafeBase64));
       return new String(decoded, Constants.DEFAULT_CHARSET);
     } catch (Exception e) {
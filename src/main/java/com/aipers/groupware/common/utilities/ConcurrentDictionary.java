@@ -0,0 +1,462 @@
+package com.aipers.groupware.common.utilities;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 여러 스레드에서 동시에 값을 쓰고 읽을 수 있는 Dictionary 입니다.
+ *   ConcurrentHashMap 기반으로 Dictionary 와 같은 set chaining, getX 변환 메서드를 제공함
+ *   ConcurrentHashMap 은 null 을 저장할 수 없으므로 null 값을 set 하면 해당 키가 삭제됨
+ *   increment, add 로 만든 카운터는 LongAdder, DoubleAdder 로 보관되어 경합이 많아도 잠금 없이 누적됨
+ *   카운터 키는 누적 값이 유실되지 않도록 set, put, replace 로 덮어쓸 수 없으며 remove 후 다시 설정해야 함
+ *   put, putAll, replace 는 Dictionary.put 과 같이 키를 camel case 로 변환함
+ *   merge, compute 등 ConcurrentHashMap 의 원자적 메서드는 그대로 사용 가능함
+ */
+public class ConcurrentDictionary extends ConcurrentHashMap<String, Object> {
+
+  private final static long serialVersionUID = -4518937416350269122L;
+
+  public ConcurrentDictionary() {
+    super();
+  }
+
+  public ConcurrentDictionary(final int initialCapacity) {
+    super(initialCapacity);
+  }
+
+  public ConcurrentDictionary(final Map<String, ?> map) {
+    super();
+    setAll(map);
+  }
+
+  /**
+   * 값을 저장합니다. null 이면 키를 삭제합니다
+   * increment, add 로 만든 카운터 키는 진행중인 누적 값이 유실될 수 있으므로 IllegalStateException 이 발생합니다
+   * @param column
+   * @param value
+   * @return
+   */
+  public ConcurrentDictionary set(final String column, final Object value) {
+    store(column, value);
+    return this;
+  }
+
+  public ConcurrentDictionary set(final String column, final String value) {
+    return set(column, (Object) value);
+  }
+
+  public ConcurrentDictionary set(final String column, final int value) {
+    return set(column, (Object) Integer.toString(value));
+  }
+
+  public ConcurrentDictionary set(final String column, final long value) {
+    return set(column, (Object) Long.toString(value));
+  }
+
+  public ConcurrentDictionary set(final String column, final float value) {
+    return set(column, (Object) Float.toString(value));
+  }
+
+  public ConcurrentDictionary set(final String column, final double value) {
+    return set(column, (Object) Double.toString(value));
+  }
+
+  /**
+   * 키를 camel case 로 변환하여 set 과 같이 저장합니다. null 이면 키를 삭제합니다
+   * @param key
+   * @param value
+   * @return
+   */
+  @Override
+  public Object put(final String key, final Object value) {
+    return store(StringUtils.toCamelCase(key), value);
+  }
+
+  @Override
+  public void putAll(final Map<? extends String, ?> map) {
+    map.forEach(this::put);
+  }
+
+  /**
+   * 키가 있을 때만 camel case 로 변환한 키의 값을 바꿉니다. 카운터 키라면 IllegalStateException 이 발생합니다
+   * @param key
+   * @param value
+   * @return
+   */
+  @Override
+  public Object replace(final String key, final Object value) {
+    final Object[] previous = new Object[1];
+
+    super.computeIfPresent(StringUtils.toCamelCase(key), (column, current) -> {
+      if (isCounter(current)) throw counterException(column);
+
+      previous[0] = current;
+      return value;
+    });
+
+    return previous[0];
+  }
+
+  @Override
+  public boolean replace(final String key, final Object oldValue, final Object newValue) {
+    final boolean[] replaced = new boolean[1];
+
+    super.computeIfPresent(StringUtils.toCamelCase(key), (column, current) -> {
+      if (isCounter(current)) throw counterException(column);
+      if (!current.equals(oldValue)) return current;
+
+      replaced[0] = true;
+      return newValue;
+    });
+
+    return replaced[0];
+  }
+
+  /**
+   * 카운터 키의 값을 다른 값으로 바꾸면 IllegalStateException 이 발생합니다
+   * @param function
+   */
+  @Override
+  public void replaceAll(final BiFunction<? super String, ? super Object, ?> function) {
+    super.replaceAll((key, current) -> {
+      final Object value = function.apply(key, current);
+      if (isCounter(current) && value != current) throw counterException(key);
+
+      return value;
+    });
+  }
+
+  /**
+   * 주어진 Map 의 값을 모두 추가합니다. null 값은 해당 키를 삭제합니다
+   * @param map
+   * @return
+   */
+  public ConcurrentDictionary setAll(final Map<String, ?> map) {
+    if (null != map) map.forEach(this::set);
+    return this;
+  }
+
+  /**
+   * 키가 없을 때만 값을 추가합니다
+   * @param column
+   * @param value
+   * @return
+   */
+  public ConcurrentDictionary setIfAbsent(final String column, final Object value) {
+    if (null != value) super.putIfAbsent(column, value);
+    return this;
+  }
+
+  /**
+   * 키의 값을 1 증가시킵니다
+   * @param column
+   * @return
+   */
+  public ConcurrentDictionary increment(final String column) {
+    return increment(column, 1L);
+  }
+
+  /**
+   * 키의 값을 주어진 만큼 증가시킵니다
+   * 최초 호출시 기존 값을 시작 값으로 하는 LongAdder 로 바뀌며 이후에는 잠금 없이 누적됩니다
+   * add 로 만든 실수 카운터 (DoubleAdder) 라면 해당 카운터에 더합니다
+   * 누적 값은 getLong, getInt 등으로 조회합니다
+   * @param column
+   * @param delta
+   * @return
+   */
+  public ConcurrentDictionary increment(final String column, final long delta) {
+    final Object current = super.get(column);
+
+    final Object counter = isCounter(current)
+        ? current
+        : super.compute(column, (key, value) -> {
+          if (isCounter(value)) return value;
+
+          final LongAdder created = new LongAdder();
+          created.add(toLong(value, 0L));
+          return created;
+        });
+
+    if (counter instanceof LongAdder) ((LongAdder) counter).add(delta);
+    else ((DoubleAdder) counter).add(delta);
+
+    return this;
+  }
+
+  /**
+   * 키의 값에 주어진 실수를 더합니다
+   * 최초 호출시 기존 값을 시작 값으로 하는 DoubleAdder 로 바뀌며 이후에는 잠금 없이 누적됩니다
+   * increment 로 만든 정수 카운터 (LongAdder) 에는 값이 잘리므로 IllegalStateException 이 발생합니다
+   * @param column
+   * @param delta
+   * @return
+   */
+  public ConcurrentDictionary add(final String column, final double delta) {
+    final Object current = super.get(column);
+    if (current instanceof LongAdder) throw counterException(column);
+
+    final DoubleAdder adder = current instanceof DoubleAdder
+        ? (DoubleAdder) current
+        : (DoubleAdder) super.compute(column, (key, value) -> {
+          if (value instanceof LongAdder) throw counterException(key);
+          if (value instanceof DoubleAdder) return value;
+
+          final DoubleAdder created = new DoubleAdder();
+          created.add(toDouble(value, 0D));
+          return created;
+        });
+
+    adder.add(delta);
+    return this;
+  }
+
+  /**
+   * 키의 값을 원자적으로 변경 후 long 으로 반환합니다. 함수의 결과가 null 이면 키가 삭제됩니다
+   * increment, add 로 만든 카운터에는 사용할 수 없습니다 (진행중인 누적 값이 유실될 수 있음)
+   * @param column
+   * @param function
+   * @return
+   */
+  public long computeLong(final String column, final Function<Long, Long> function) {
+    final Object value = super.compute(column, (key, current) -> {
+      if (isCounter(current)) throw counterException(key);
+
+      return function.apply(null == current ? null : toLong(current, 0L));
+    });
+
+    return toLong(value, 0L);
+  }
+
+  /**
+   * 다른 Dictionary 의 숫자 값을 키별로 원자적으로 더합니다. 숫자가 아닌 값은 덮어씁니다
+   * @param map
+   * @return
+   */
+  public ConcurrentDictionary mergeAll(final Map<String, ?> map) {
+    if (null == map) return this;
+
+    for (final Map.Entry<String, ?> entry : map.entrySet()) {
+      final Object value = entry.getValue();
+
+      if (value instanceof Long || value instanceof Integer) {
+        increment(entry.getKey(), ((Number) value).longValue());
+      } else if (value instanceof Double || value instanceof Float) {
+        add(entry.getKey(), ((Number) value).doubleValue());
+      } else {
+        set(entry.getKey(), value);
+      }
+    }
+
+    return this;
+  }
+
+  public Object take(final String key) {
+    return super.get(key);
+  }
+
+  public <T> T take(final String key, final Class<T> type) {
+    final Object value = super.get(key);
+    if (null == value) return CommonUtils.getEmptyInstance(type);
+
+    try {
+      return type.cast(value);
+    } catch (Exception e) {
+      return CommonUtils.getEmptyInstance(type);
+    }
+  }
+
+  public String get(final String key) {
+    final Object value = super.get(key);
+
+    if (value instanceof String[]) {
+      final String[] arr = (String[]) value;
+      return 0 == arr.length ? "" : arr[0];
+    }
+
+    return null == value ? "" : String.valueOf(value);
+  }
+
+  public String get(final String key, final int value) {
+    final Object current = super.get(key);
+    return CommonUtils.isEmpty(current) ? Integer.toString(value) : String.valueOf(current);
+  }
+
+  public String get(final String key, final String value) {
+    final Object current = super.get(key);
+    return null == current ? value : String.valueOf(current);
+  }
+
+  public String getString(final String column) {
+    return getString(column, "");
+  }
+
+  public String getString(final String column, final String v_default) {
+    return get(column, v_default);
+  }
+
+  public int getInt(final String column) {
+    return getInt(column, 0);
+  }
+
+  public int getInt(final String column, final int v_default) {
+    final Object value = super.get(column);
+    if (null == value) return v_default;
+
+    try {
+      return value instanceof Number
+          ? ((Number) value).intValue()
+          : Integer.parseInt(String.valueOf(value));
+    } catch (NumberFormatException e) {
+      return v_default;
+    }
+  }
+
+  public long getLong(final String column) {
+    return getLong(column, 0);
+  }
+
+  public long getLong(final String column, final long v_default) {
+    return toLong(super.get(column), v_default);
+  }
+
+  public float getFloat(final String column) {
+    return getFloat(column, 0);
+  }
+
+  public float getFloat(final String column, final float v_default) {
+    return (float) toDouble(super.get(column), v_default);
+  }
+
+  public double getDouble(final String column) {
+    return getDouble(column, 0);
+  }
+
+  public double getDouble(final String column, final double v_default) {
+    return toDouble(super.get(column), v_default);
+  }
+
+  public BigDecimal getDecimal(final String column) {
+    return getDecimal(column, 0D);
+  }
+
+  public BigDecimal getDecimal(final String column, final double v_default) {
+    final Object value = super.get(column);
+
+    if (value instanceof BigDecimal) return (BigDecimal) value;
+    if (value instanceof LongAdder) return BigDecimal.valueOf(((LongAdder) value).sum());
+
+    try {
+      return null == value
+          ? BigDecimal.valueOf(v_default)
+          : BigDecimal.valueOf(toDouble(value, v_default));
+    } catch (NumberFormatException e) {
+      return BigDecimal.valueOf(v_default);
+    }
+  }
+
+  public boolean getBoolean(final String column) {
+    final Object value = super.get(column);
+    return value instanceof Boolean ? (Boolean) value : null != value;
+  }
+
+  @SuppressWarnings("rawtypes")
+  public List getList(final String key) {
+    return getList(key, new ArrayList<>());
+  }
+
+  @SuppressWarnings("rawtypes")
+  public List getList(final String key, final List value) {
+    final Object current = super.get(key);
+    return null == current ? value : (List) current;
+  }
+
+  public boolean isNull(final String key) {
+    return null == super.get(key);
+  }
+
+  public boolean isEmpty(final String key) {
+    return CommonUtils.isEmpty(super.get(key));
+  }
+
+  /**
+   * 현재 값을 복사한 Dictionary 를 반환합니다. 카운터는 현재까지 누적된 값 (Long, Double) 으로 변환됩니다
+   * @return
+   */
+  public Dictionary toDictionary() {
+    final Dictionary dictionary = new Dictionary((int) (size() / 0.75f) + 1);
+
+    forEach((key, value) -> {
+      if (value instanceof LongAdder) dictionary.set(key, (Object) ((LongAdder) value).sum());
+      else if (value instanceof DoubleAdder) dictionary.set(key, (Object) ((DoubleAdder) value).sum());
+      else dictionary.set(key, value);
+    });
+
+    return dictionary;
+  }
+
+  public String toJson() {
+    return toDictionary().toJson();
+  }
+
+  /**
+   * 값을 저장 후 이전 값을 반환합니다. null 이면 키를 삭제하며 카운터 키라면 IllegalStateException 이 발생합니다
+   * @param key
+   * @param value
+   * @return
+   */
+  private Object store(final String key, final Object value) {
+    final Object[] previous = new Object[1];
+
+    super.compute(key, (column, current) -> {
+      if (isCounter(current)) throw counterException(column);
+
+      previous[0] = current;
+      return value;
+    });
+
+    return previous[0];
+  }
+
+  private static boolean isCounter(final Object value) {
+    return value instanceof LongAdder || value instanceof DoubleAdder;
+  }
+
+  private static IllegalStateException counterException(final String key) {
+    return new IllegalStateException(String.format("[%s] is an increment counter", key));
+  }
+
+  private static long toLong(final Object value, final long v_default) {
+    if (null == value) return v_default;
+    if (value instanceof Timestamp) return ((Timestamp) value).getTime();
+
+    try {
+      return value instanceof Number
+          ? ((Number) value).longValue()
+          : Long.parseLong(String.valueOf(value));
+    } catch (NumberFormatException e) {
+      return v_default;
+    }
+  }
+
+  private static double toDouble(final Object value, final double v_default) {
+    if (null == value) return v_default;
+
+    try {
+      return value instanceof Number
+          ? ((Number) value).doubleValue()
+          : Double.parseDouble(String.valueOf(value));
+    } catch (NumberFormatException e) {
+      return v_default;
+    }
+  }
+
+}
@@ -1,26 +1,34 @@
 package com.aipers.groupware.common.utilities;
 
 import com.aipers.groupware.common.Constants;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.BufferedReader;
-import java.io.ByteArrayOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -28,19 +36,27 @@ import java.util.stream.Stream;
  *   set 사용시 chaining 으로 사용가능
  *   자주 사용되는 자료형으로 값을 변환 처리하기 용이함
  *   put 메서드를 사용하여 값 주입시 키는 camel case 처리됨
+ *   track 호출시 변경된 키를 기록하며 delta 로 변경 내역만 추출 가능함
  */
 public class Dictionary extends HashMap<String, Object> {
 
   private final static long serialVersionUID = 2135268622818763181L;
 
+  private transient Set<String> changedKeys;
+  private transient Set<String> removedKeys;
+
   public Dictionary() {
     super();
   }
 
+  public Dictionary(final int initialCapacity) {
+    super(initialCapacity);
+  }
+
   public Dictionary(Object o) {
     super();
 
-    this.putAll(o instanceof Map ? (Map) o : new ObjectMapper().convertValue(o, Map.class));
+    this.putAll(o instanceof Map ? (Map) o : JsonUtils.getMapper().convertValue(o, Map.class));
   }
 
   public Dictionary(final Map<String,?> map) {
@@ -53,80 +69,367 @@ public class Dictionary extends HashMap<String, Object> {
     super.put(key, value);
   }
 
+  public static Dictionary fromJson(final InputStream json) throws IOException {
+    return JsonUtils.readDictionary(json);
+  }
+
+  public static Dictionary fromJson(final Reader json) throws IOException {
+    return JsonUtils.readDictionary(json);
+  }
+
+  public static Dictionary fromJson(final byte[] json) throws IOException {
+    return JsonUtils.readDictionary(json);
+  }
+
+  public static Dictionary fromJson(final String json) throws IOException {
+    return JsonUtils.readDictionary(json);
+  }
+
+  public static Dictionary fromBytes(final byte[] bytes) {
+    return DictionaryCodec.decode(bytes);
+  }
+
+  public static Dictionary fromBytes(final ByteBuffer buffer) {
+    return DictionaryCodec.decode(buffer);
+  }
+
+  public static Dictionary ofBean(final Object bean) {
+    return BeanUtils.toDictionary(bean);
+  }
+
+  public <T> T toBean(final Class<T> type) {
+    return BeanUtils.toBean(this, type);
+  }
+
   public int length() {
     return super.entrySet().size();
   }
 
   public Dictionary copy() {
-    return (Dictionary) super.clone();
+    return clone();
   }
 
   @Override
   public Object put(final String key, final Object value) {
-    return super.put(StringUtils.toCamelCase(key), value);
+    return store(StringUtils.toCamelCase(key), value);
+  }
+
+  @Override
+  public void putAll(final Map<? extends String, ?> map) {
+    if (null == changedKeys) super.putAll(map);
+    else map.forEach(this::store);
+  }
+
+  @Override
+  public Object remove(final Object key) {
+    if (null != changedKeys && super.containsKey(key)) markRemoved(String.valueOf(key));
+    return super.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    if (null != changedKeys) super.keySet().forEach(this::markRemoved);
+    super.clear();
+  }
+
+  @Override
+  public boolean remove(final Object key, final Object value) {
+    final boolean removed = super.remove(key, value);
+    if (removed && null != changedKeys) markRemoved(String.valueOf(key));
+
+    return removed;
+  }
+
+  @Override
+  public Object putIfAbsent(final String key, final Object value) {
+    if (null == changedKeys) return super.putIfAbsent(key, value);
+
+    final boolean existed = super.containsKey(key);
+    final Object previous = super.putIfAbsent(key, value);
+    recordChange(key, existed, previous);
+
+    return previous;
+  }
+
+  @Override
+  public Object replace(final String key, final Object value) {
+    if (null == changedKeys) return super.replace(key, value);
+
+    final boolean existed = super.containsKey(key);
+    final Object previous = super.replace(key, value);
+    recordChange(key, existed, previous);
+
+    return previous;
+  }
+
+  @Override
+  public boolean replace(final String key, final Object oldValue, final Object newValue) {
+    final boolean replaced = super.replace(key, oldValue, newValue);
+    if (replaced && null != changedKeys && !Objects.equals(oldValue, newValue)) markChanged(key);
+
+    return replaced;
+  }
+
+  @Override
+  public void replaceAll(final BiFunction<? super String, ? super Object, ?> function) {
+    if (null == changedKeys) {
+      super.replaceAll(function);
+      return;
+    }
+
+    for (final Map.Entry<String, Object> entry : super.entrySet()) {
+      final Object previous = entry.getValue();
+      final Object value = function.apply(entry.getKey(), previous);
+
+      entry.setValue(value);
+      if (!Objects.equals(previous, value)) markChanged(entry.getKey());
+    }
+  }
+
+  @Override
+  public Object computeIfAbsent(final String key, final Function<? super String, ?> function) {
+    if (null == changedKeys) return super.computeIfAbsent(key, function);
+
+    final boolean existed = super.containsKey(key);
+    final Object previous = super.get(key);
+    final Object value = super.computeIfAbsent(key, function);
+    recordChange(key, existed, previous);
+
+    return value;
+  }
+
+  @Override
+  public Object computeIfPresent(
+      final String key, final BiFunction<? super String, ? super Object, ?> function) {
+    if (null == changedKeys) return super.computeIfPresent(key, function);
+
+    final boolean existed = super.containsKey(key);
+    final Object previous = super.get(key);
+    final Object value = super.computeIfPresent(key, function);
+    recordChange(key, existed, previous);
+
+    return value;
+  }
+
+  @Override
+  public Object compute(final String key, final BiFunction<? super String, ? super Object, ?> function) {
+    if (null == changedKeys) return super.compute(key, function);
+
+    final boolean existed = super.containsKey(key);
+    final Object previous = super.get(key);
+    final Object value = super.compute(key, function);
+    recordChange(key, existed, previous);
+
+    return value;
+  }
+
+  @Override
+  public Object merge(
+      final String key, final Object value, final BiFunction<? super Object, ? super Object, ?> function) {
+    if (null == changedKeys) return super.merge(key, value, function);
+
+    final boolean existed = super.containsKey(key);
+    final Object previous = super.get(key);
+    final Object merged = super.merge(key, value, function);
+    recordChange(key, existed, previous);
+
+    return merged;
+  }
+
+  /**
+   * 변경 추적중에는 삭제 (remove, removeIf, iterator.remove 등) 와 entry.setValue 를 기록하는 view 를 반환합니다
+   * @return
+   */
+  @Override
+  public Set<String> keySet() {
+    return null == changedKeys ? super.keySet() : new TrackedSet<>(super.keySet(), Map.Entry::getKey);
+  }
+
+  @Override
+  public Collection<Object> values() {
+    if (null == changedKeys) return super.values();
+
+    return new AbstractCollection<Object>() {
+      @Override
+      public Iterator<Object> iterator() {
+        return new TrackedIterator<>(Map.Entry::getValue);
+      }
+
+      @Override
+      public int size() {
+        return Dictionary.this.size();
+      }
+
+      @Override
+      public boolean contains(final Object value) {
+        return containsValue(value);
+      }
+    };
+  }
+
+  @Override
+  public Set<Map.Entry<String, Object>> entrySet() {
+    return null == changedKeys ? super.entrySet() : new TrackedSet<>(super.entrySet(), TrackedEntry::new);
+  }
+
+  /**
+   * 변경 추적을 시작합니다. 이후 set, put, remove 등 Map 의 변경 메서드와 keySet, values, entrySet 에서의 삭제로 바뀐 키를 기록합니다
+   * 이미 추적중이라면 기록을 비웁니다 (checkpoint)
+   * @return
+   */
+  public Dictionary track() {
+    if (null == changedKeys) {
+      changedKeys = new LinkedHashSet<>();
+      removedKeys = new LinkedHashSet<>();
+    }
+
+    return checkpoint();
+  }
+
+  /**
+   * 변경 추적을 종료하고 기록을 버립니다
+   * @return
+   */
+  public Dictionary untrack() {
+    changedKeys = null;
+    removedKeys = null;
+    return this;
+  }
+
+  public boolean isTracking() {
+    return null != changedKeys;
+  }
+
+  /**
+   * 지금까지의 변경 기록을 비웁니다
+   * @return
+   */
+  public Dictionary checkpoint() {
+    if (null != changedKeys) {
+      changedKeys.clear();
+      removedKeys.clear();
+    }
+    return this;
+  }
+
+  /**
+   * 마지막 checkpoint 이후 변경된 키가 있는지 확인합니다
+   * @return
+   */
+  public boolean isDirty() {
+    return null != changedKeys && (!changedKeys.isEmpty() || !removedKeys.isEmpty());
+  }
+
+  /**
+   * 마지막 checkpoint 이후의 변경 내역을 반환합니다. 추적중이 아니라면 빈 내역을 반환합니다
+   * @return
+   */
+  public DictionaryDelta delta() {
+    if (null == changedKeys) return new DictionaryDelta(null, null);
+
+    final Dictionary changed = new Dictionary((int) (changedKeys.size() / 0.75f) + 1);
+    for (final String key : changedKeys) changed.set(key, super.get(key));
+
+    return new DictionaryDelta(changed, removedKeys);
+  }
+
+  /**
+   * 변경 내역을 반영합니다
+   * @param delta
+   * @return
+   */
+  public Dictionary apply(final DictionaryDelta delta) {
+    return null == delta ? this : delta.applyTo(this);
   }
 
+  /**
+   * Clob 의 내용을 모두 읽어 저장합니다. 기준 크기를 넘는 값은 LargeValue 로 저장됩니다
+   * @param column
+   * @param value
+   * @return
+   */
   public Dictionary set(final String column, final Clob value) {
-    final StringBuilder text = new StringBuilder();
-
-    try (
-        final Reader reader = value.getCharacterStream();
-        final BufferedReader buffer = new BufferedReader(reader)
-    ) {
-      Stream.of(buffer)
-          .forEach(buf -> {
-            try {
-              text.append(buf.readLine()).append("\n");
-            } catch(IOException e) {}
-          });
-    } catch (SQLException | IOException e) {}
-
-    set(column, text.toString());
+    try {
+      store(column, LargeValue.read(value));
+    } catch (SQLException | IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    return this;
+  }
+
+  /**
+   * Blob 의 내용을 모두 읽어 저장합니다. 기준 크기를 넘는 값은 LargeValue 로 저장됩니다
+   * @param column
+   * @param value
+   * @return
+   */
+  public Dictionary set(final String column, final Blob value) {
+    try {
+      store(column, LargeValue.read(value));
+    } catch (SQLException | IOException e) {
+      throw new RuntimeException(e);
+    }
+
     return this;
   }
 
   public Dictionary set(final String column, final String value) {
-    super.put(column, value);
+    store(column, value);
     return this;
   }
 
   public Dictionary set(final String column, final Object value) {
-    super.put(column, value);
+    store(column, value);
     return this;
   }
 
   public Dictionary set(final String column, final int value) {
-    super.put(column, Integer.toString(value));
+    store(column, Integer.toString(value));
     return this;
   }
 
   public Dictionary set(final String column, final long value) {
-    super.put(column, Long.toString(value));
+    store(column, Long.toString(value));
     return this;
   }
 
   public Dictionary set(final String column, final float value) {
-    super.put(column, Float.toString(value));
+    store(column, Float.toString(value));
     return this;
   }
 
   public Dictionary set(final String column, final double value) {
-    super.put(column, Double.toString(value));
+    store(column, Double.toString(value));
     return this;
   }
 
   public Dictionary set(final String column, final List<Dictionary> value) {
-    super.put(column, value);
+    store(column, value);
     return this;
   }
 
   public Dictionary set(final String column, final String[] value) {
-    super.put(column, value);
+    store(column, value);
     return this;
   }
 
   public Dictionary set(final String column, final InputStream value) {
-    super.put(column, value);
+    store(column, value);
+    return this;
+  }
+
+  /**
+   * InputStream 의 내용을 모두 읽어 저장합니다. 기준 크기를 넘는 값은 LargeValue (memory-mapped 임시 파일) 로 저장됩니다
+   * set(String, InputStream) 은 InputStream 을 그대로 저장하므로 읽어서 보관해야 하는 경우 사용합니다
+   * InputStream 은 닫지 않습니다
+   * @param column
+   * @param value
+   * @return
+   * @throws IOException
+   */
+  public Dictionary spill(final String column, final InputStream value) throws IOException {
+    store(column, LargeValue.read(value));
     return this;
   }
 
@@ -184,17 +487,15 @@ public class Dictionary extends HashMap<String, Object> {
       return null == arr || 0 == arr.length ? "" : arr[0];
     }
 
-    return StringUtils.nvl(super.get(key));
+    return toText(super.get(key), Constants.EMPTY_STRING);
   }
 
   public String get(final String key, final int value) {
-    return CommonUtils.isEmpty(super.get(key))
-        ? Integer.toString(value)
-        : StringUtils.nvl(super.get(key));
+    return toText(super.get(key), Integer.toString(value));
   }
 
   public String get(final String key, final String value) {
-    return StringUtils.nvl(super.get(key), value);
+    return toText(super.get(key), value);
   }
 
   public List getList(final String key) {
@@ -212,13 +513,14 @@ public class Dictionary extends HashMap<String, Object> {
   }
 
   public String getString(final String column, final String v_default) {
-    return StringUtils.nvl(super.get(column), v_default);
+    return toText(super.get(column), v_default);
   }
 
   public byte[] getByte(final String key) {
     if (null != super.get(key)) {
       final Object obj = super.get(key);
       if (obj instanceof byte[]) return (byte[]) obj;
+      else if (obj instanceof LargeValue) return ((LargeValue) obj).getBytes();
       else {
         try {
           return String.valueOf(obj).getBytes();
@@ -229,6 +531,21 @@ public class Dictionary extends HashMap<String, Object> {
     return new byte[0];
   }
 
+  /**
+   * 값을 읽는 InputStream 을 반환합니다. LargeValue 는 힙에 복사하지 않고 읽습니다
+   * @param key
+   * @return
+   */
+  public InputStream getStream(final String key) {
+    final Object obj = super.get(key);
+
+    if (null == obj) return null;
+    if (obj instanceof InputStream) return (InputStream) obj;
+    if (obj instanceof LargeValue) return ((LargeValue) obj).openStream();
+
+    return new ByteArrayInputStream(getByte(key));
+  }
+
   public String[] getValues(final String key){
     if (null != super.get(key)) {
       try{
@@ -312,6 +629,10 @@ public class Dictionary extends HashMap<String, Object> {
         : new Dictionary().set(column, super.get(column));
   }
 
+  public Object find(final String path) {
+    return DictionaryPath.compile(path).get(this);
+  }
+
   public File getFile(final String column) {
     return super.get(column) instanceof File ? (File) super.get(column) : null;
   }
@@ -326,30 +647,11 @@ public class Dictionary extends HashMap<String, Object> {
     if (Formatters.isBase64String(queryString))
       queryString = StringUtils.decodeBase64String(queryString);
 
-    return new Dictionary(
-        Arrays.stream(
-                (queryString.startsWith("?")
-                    ? queryString.substring(1)
-                    : queryString
-                ).split("&")
-            )
-            .map(v -> v.split("="))
-            .collect(Collectors.toMap(v -> v[0], v -> v[1]))
-    );
+    return UrlUtils.parseQuery(queryString);
   }
 
   public byte[] toByte() {
-    try (
-        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        final ObjectOutputStream out = new ObjectOutputStream(bos)
-    ) {
-      out.writeObject(this);
-      out.flush();
-
-      return bos.toByteArray();
-    } catch(Exception e) {
-      return String.valueOf(UUID.randomUUID().hashCode()).getBytes();
-    }
+    return DictionaryCodec.encode(this);
   }
 
   public boolean isNull(final String key) {
@@ -357,8 +659,9 @@ public class Dictionary extends HashMap<String, Object> {
   }
 
   public boolean isMatched(final String pattern, final String... keys) {
-    return Stream.of(keys)
-        .allMatch(key -> Pattern.compile(pattern).matcher(getString(key)).matches());
+    final Pattern compiled = PatternCache.compile(pattern);
+
+    return Stream.of(keys).allMatch(key -> compiled.matcher(getString(key)).matches());
   }
 
   public boolean isEmpty(final String key) {
@@ -387,7 +690,14 @@ public class Dictionary extends HashMap<String, Object> {
 
   @Override
   public Dictionary clone() {
-    return (Dictionary) super.clone();
+    final Dictionary clone = (Dictionary) super.clone();
+
+    if (null != changedKeys) {
+      clone.changedKeys = new LinkedHashSet<>(changedKeys);
+      clone.removedKeys = new LinkedHashSet<>(removedKeys);
+    }
+
+    return clone;
   }
 
   public Dictionary pick(final String ... args) {
@@ -400,12 +710,50 @@ public class Dictionary extends HashMap<String, Object> {
     return newDict;
   }
 
+  /**
+   * 키와 주어진 키의 문자열 값을 pool 의 인스턴스로 교체합니다
+   * 키를 지정하지 않으면 모든 문자열 값을 교체합니다
+   * @param pool
+   * @param keys
+   * @return
+   */
+  public Dictionary intern(final InternPool<String> pool, final String ... keys) {
+    final Object[] entries = new Object[size() * 2];
+    int count = 0;
+
+    for (final Map.Entry<String, Object> entry : super.entrySet()) {
+      entries[count++] = entry.getKey();
+      entries[count++] = entry.getValue();
+    }
+
+    final List<String> targets = Arrays.asList(keys);
+    super.clear();
+
+    for (int i = 0;i < count;i += 2) {
+      final String key = (String) entries[i];
+      final Object value = entries[i + 1];
+
+      super.put(
+          pool.intern(key),
+          value instanceof String && (targets.isEmpty() || targets.contains(key))
+              ? pool.intern((String) value)
+              : value
+      );
+    }
+
+    return this;
+  }
+
+  public PersistentDictionary toPersistent() {
+    return PersistentDictionary.of(this);
+  }
+
   public Dictionary omit(final String ... args) {
     return this.copy().delete(args);
   }
 
   public Dictionary delete(final String ... keys) {
-    Arrays.stream(keys).forEach(super::remove);
+    Arrays.stream(keys).forEach(this::remove);
 
     return this;
   }
@@ -419,35 +767,195 @@ public class Dictionary extends HashMap<String, Object> {
     );
   }
 
+  /**
+   * 값을 문자열로 반환합니다. 비어있는 값은 기본 값을 반환합니다
+   * 숫자는 0 도 그대로, LargeValue 는 내용을 읽어서, 그 외 문자열이 아닌 값은 String.valueOf 로 변환합니다
+   * @param value
+   * @param v_default
+   * @return
+   */
+  private static String toText(final Object value, final String v_default) {
+    if (value instanceof Number || value instanceof LargeValue) return value.toString();
+    if (CommonUtils.isEmpty(value)) return v_default;
+
+    return value instanceof String ? (String) value : String.valueOf(value);
+  }
+
+  private Object store(final String key, final Object value) {
+    final Object previous = super.put(key, value);
+
+    if (null != changedKeys && (null == previous ? null != value : !previous.equals(value)))
+      markChanged(key);
+
+    return previous;
+  }
+
+  /**
+   * HashMap 의 기본 메서드로 값이 바뀐 경우 store 와 같은 기준으로 변경을 기록합니다
+   * @param key
+   * @param existed
+   * @param previous
+   */
+  private void recordChange(final String key, final boolean existed, final Object previous) {
+    if (super.containsKey(key)) {
+      if (!Objects.equals(existed ? previous : null, super.get(key))) markChanged(key);
+    } else if (existed) {
+      markRemoved(key);
+    }
+  }
+
+  private void markChanged(final String key) {
+    changedKeys.add(key);
+    removedKeys.remove(key);
+  }
+
+  private void markRemoved(final String key) {
+    changedKeys.remove(key);
+    removedKeys.add(key);
+  }
+
   public Object getObject(final String key) {
     return super.get(key);
   }
 
   public String toQueryString() {
-    return StringUtils.replace(
-        this.entrySet().stream()
-            .map(entry -> String.format("%s=%s", entry.getKey(), entry.getValue()))
-            .collect(Collectors.joining("&")),
-        "null", ""
-    );
+    return UrlUtils.toQueryString(this);
+  }
+
+  public void writeQueryString(final Appendable out) throws IOException {
+    UrlUtils.appendQuery(this, out);
   }
 
   public String toJson() {
     try {
-      return new ObjectMapper().writeValueAsString(this);
+      return JsonUtils.toJson(this);
     } catch(Exception e) {
       return toString();
     }
   }
 
+  public void writeJson(final OutputStream out) throws IOException {
+    JsonUtils.write(this, out);
+  }
+
+  public void writeJson(final Writer out) throws IOException {
+    JsonUtils.write(this, out);
+  }
+
   @Override
   public String toString() {
-    return "{" +
-        this.entrySet().stream()
-            .map(entry -> String.format("\"%s\":\"%s\"", entry.getKey(), entry.getValue()))
-            .collect(Collectors.joining(", "))
-        + "}";
+    final StringBuilder text = new StringBuilder(16 * size() + 2).append('{');
+
+    for (final Map.Entry<String, Object> entry : this.entrySet()) {
+      if (1 < text.length()) text.append(", ");
+      text.append('"').append(entry.getKey()).append("\":\"").append(entry.getValue()).append('"');
+    }
+
+    return text.append('}').toString();
   }
 
-}
+  /**
+   * keySet, entrySet 의 변경 추적 view 입니다
+   */
+  private final class TrackedSet<E> extends AbstractSet<E> {
+    private final Set<E> view;
+    private final Function<Map.Entry<String, Object>, E> mapper;
 
+    private TrackedSet(final Set<E> view, final Function<Map.Entry<String, Object>, E> mapper) {
+      this.view = view;
+      this.mapper = mapper;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      return new TrackedIterator<>(mapper);
+    }
+
+    @Override
+    public int size() {
+      return view.size();
+    }
+
+    @Override
+    public boolean contains(final Object value) {
+      return view.contains(value);
+    }
+  }
+
+  /**
+   * iterator.remove 로 삭제된 키를 기록합니다
+   */
+  private final class TrackedIterator<E> implements Iterator<E> {
+    private final Iterator<Map.Entry<String, Object>> iterator = Dictionary.super.entrySet().iterator();
+    private final Function<Map.Entry<String, Object>, E> mapper;
+    private String current;
+
+    private TrackedIterator(final Function<Map.Entry<String, Object>, E> mapper) {
+      this.mapper = mapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+
+    @Override
+    public E next() {
+      final Map.Entry<String, Object> entry = iterator.next();
+      current = entry.getKey();
+
+      return mapper.apply(entry);
+    }
+
+    @Override
+    public void remove() {
+      iterator.remove();
+      if (null != changedKeys) markRemoved(current);
+    }
+  }
+
+  /**
+   * setValue 로 바뀐 값을 기록합니다
+   */
+  private final class TrackedEntry implements Map.Entry<String, Object> {
+    private final Map.Entry<String, Object> entry;
+
+    private TrackedEntry(final Map.Entry<String, Object> entry) {
+      this.entry = entry;
+    }
+
+    @Override
+    public String getKey() {
+      return entry.getKey();
+    }
+
+    @Override
+    public Object getValue() {
+      return entry.getValue();
+    }
+
+    @Override
+    public Object setValue(final Object value) {
+      final Object previous = entry.setValue(value);
+      if (null != changedKeys && !Objects.equals(previous, value)) markChanged(entry.getKey());
+
+      return previous;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      return entry.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+      return entry.hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return entry.toString();
+    }
+  }
+
+}
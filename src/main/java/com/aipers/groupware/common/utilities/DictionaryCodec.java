@@ -0,0 +1,450 @@
+package com.aipers.groupware.common.utilities;
+
+import com.aipers.groupware.common.Constants;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary 를 태그 기반의 작은 바이너리 형식으로 변환하는 유틸리티 클래스 입니다.
+ *   [헤더 2byte][값] 구조이며 값은 [타입 태그 1byte][내용] 으로 기록됨
+ *   길이와 정수는 varint (음수는 zigzag) 로 기록함
+ *   전용 태그가 없는 Serializable 값 (enum, Set, 배열, java.sql.Date 등) 은 Java 직렬화 결과를 기록함
+ *   Serializable 이 아닌 값이나 잘못된 입력은 IllegalArgumentException 을 발생시킴
+ */
+public abstract class DictionaryCodec {
+
+  private static final byte MAGIC = 0x44;
+  private static final byte VERSION = 1;
+
+  private static final byte NULL = 0;
+  private static final byte TRUE = 1;
+  private static final byte FALSE = 2;
+  private static final byte INT = 3;
+  private static final byte LONG = 4;
+  private static final byte SHORT = 5;
+  private static final byte BYTE = 6;
+  private static final byte FLOAT = 7;
+  private static final byte DOUBLE = 8;
+  private static final byte DECIMAL = 9;
+  private static final byte BIG_INTEGER = 10;
+  private static final byte STRING = 11;
+  private static final byte BYTES = 12;
+  private static final byte STRING_ARRAY = 13;
+  private static final byte TIMESTAMP = 14;
+  private static final byte DATE = 15;
+  private static final byte LIST = 16;
+  private static final byte MAP = 17;
+  private static final byte DICTIONARY = 18;
+  private static final byte TYPED_DICTIONARY = 19;
+  private static final byte CHARACTER = 20;
+  private static final byte SERIALIZED = 21;
+
+  private DictionaryCodec() {}
+
+  /**
+   * Dictionary 를 바이너리 형식으로 변환합니다
+   * @param dictionary
+   * @return
+   */
+  public static byte[] encode(final Dictionary dictionary) {
+    final Output out = new Output(64 + 32 * dictionary.size());
+
+    out.write(MAGIC);
+    out.write(VERSION);
+    writeValue(out, dictionary);
+
+    return out.toByteArray();
+  }
+
+  /**
+   * Dictionary 를 바이너리 형식으로 변환하여 전달된 ByteBuffer 에 기록합니다
+   * 남은 공간이 부족하면 BufferOverflowException 을 발생시킵니다
+   * @param dictionary
+   * @param buffer
+   */
+  public static void encode(final Dictionary dictionary, final ByteBuffer buffer) {
+    buffer.put(encode(dictionary));
+  }
+
+  /**
+   * 바이너리 형식의 데이터를 Dictionary 로 복원합니다
+   * @param bytes
+   * @return
+   */
+  public static Dictionary decode(final byte[] bytes) {
+    return decode(ByteBuffer.wrap(bytes));
+  }
+
+  /**
+   * ByteBuffer 의 현재 위치부터 바이너리 형식의 데이터를 읽어 Dictionary 로 복원합니다
+   * 읽은 만큼 ByteBuffer 의 위치가 이동합니다
+   * Java 직렬화 값이 포함될 수 있으므로 신뢰할 수 없는 입력은 복원하지 않아야 합니다
+   * @param buffer
+   * @return
+   */
+  public static Dictionary decode(final ByteBuffer buffer) {
+    try {
+      if (MAGIC != buffer.get() || VERSION != buffer.get())
+        throw new IllegalArgumentException("Not a dictionary binary");
+
+      final Object value = readValue(buffer);
+      if (!(value instanceof Dictionary))
+        throw new IllegalArgumentException("Root value is not a dictionary");
+
+      return (Dictionary) value;
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated dictionary binary", e);
+    }
+  }
+
+  private static void writeValue(final Output out, final Object value) {
+    if (null == value) {
+      out.write(NULL);
+    } else if (value instanceof String) {
+      out.write(STRING);
+      writeString(out, (String) value);
+    } else if (value instanceof Integer) {
+      out.write(INT);
+      out.writeVarLong(zigzag((Integer) value));
+    } else if (value instanceof Long) {
+      out.write(LONG);
+      out.writeVarLong(zigzag((Long) value));
+    } else if (value instanceof Boolean) {
+      out.write((Boolean) value ? TRUE : FALSE);
+    } else if (value instanceof Double) {
+      out.write(DOUBLE);
+      out.writeLong(Double.doubleToRawLongBits((Double) value));
+    } else if (value instanceof Float) {
+      out.write(FLOAT);
+      out.writeInt(Float.floatToRawIntBits((Float) value));
+    } else if (value instanceof BigDecimal) {
+      out.write(DECIMAL);
+      out.writeVarLong(zigzag(((BigDecimal) value).scale()));
+      writeBytes(out, ((BigDecimal) value).unscaledValue().toByteArray());
+    } else if (value instanceof BigInteger) {
+      out.write(BIG_INTEGER);
+      writeBytes(out, ((BigInteger) value).toByteArray());
+    } else if (value instanceof Short) {
+      out.write(SHORT);
+      out.writeVarLong(zigzag((Short) value));
+    } else if (value instanceof Byte) {
+      out.write(BYTE);
+      out.write((Byte) value);
+    } else if (value instanceof Character) {
+      out.write(CHARACTER);
+      out.writeVarLong((Character) value);
+    } else if (value instanceof Timestamp) {
+      out.write(TIMESTAMP);
+      out.writeVarLong(zigzag(((Timestamp) value).getTime()));
+      out.writeVarLong(((Timestamp) value).getNanos());
+    } else if (value instanceof LargeValue) {
+      out.write(((LargeValue) value).isText() ? STRING : BYTES);
+      writeBytes(out, ((LargeValue) value).getBytes());
+    } else if (value instanceof byte[]) {
+      out.write(BYTES);
+      writeBytes(out, (byte[]) value);
+    } else if (value instanceof String[]) {
+      final String[] values = (String[]) value;
+
+      out.write(STRING_ARRAY);
+      out.writeVarLong(values.length);
+      for (final String text : values) writeValue(out, text);
+    } else if (value instanceof Map) {
+      final Map<?, ?> map = (Map<?, ?>) value;
+
+      out.write(value instanceof TypedDictionary
+          ? TYPED_DICTIONARY
+          : value instanceof Dictionary ? DICTIONARY : MAP);
+      out.writeVarLong(map.size());
+
+      for (final Map.Entry<?, ?> entry : map.entrySet()) {
+        if (!(entry.getKey() instanceof String))
+          throw new IllegalArgumentException("Only string keys are supported: " + entry.getKey());
+
+        writeString(out, (String) entry.getKey());
+        writeValue(out, entry.getValue());
+      }
+    } else if (value instanceof List) {
+      final List<?> list = (List<?>) value;
+
+      out.write(LIST);
+      out.writeVarLong(list.size());
+      for (final Object item : list) writeValue(out, item);
+    } else if (value.getClass() == Date.class) {
+      out.write(DATE);
+      out.writeVarLong(zigzag(((Date) value).getTime()));
+    } else if (value instanceof Serializable) {
+      out.write(SERIALIZED);
+      writeBytes(out, serialize(value));
+    } else {
+      throw new IllegalArgumentException("Unsupported value type: " + value.getClass().getName());
+    }
+  }
+
+  private static Object readValue(final ByteBuffer in) {
+    final byte tag = in.get();
+
+    switch (tag) {
+      case NULL: return null;
+      case TRUE: return Boolean.TRUE;
+      case FALSE: return Boolean.FALSE;
+      case INT: return (int) unzigzag(readVarLong(in));
+      case LONG: return unzigzag(readVarLong(in));
+      case SHORT: return (short) unzigzag(readVarLong(in));
+      case BYTE: return in.get();
+      case CHARACTER: return (char) readVarLong(in);
+      case FLOAT: return Float.intBitsToFloat(readInt(in));
+      case DOUBLE: return Double.longBitsToDouble((long) readInt(in) << 32 | (readInt(in) & 0xFFFFFFFFL));
+      case DECIMAL: {
+        final int scale = (int) unzigzag(readVarLong(in));
+        return new BigDecimal(new BigInteger(readBytes(in)), scale);
+      }
+      case BIG_INTEGER: return new BigInteger(readBytes(in));
+      case STRING: return readString(in);
+      case BYTES: return readBytes(in);
+      case STRING_ARRAY: {
+        final String[] values = new String[readLength(in)];
+        for (int i = 0;i < values.length;i++) values[i] = (String) readValue(in);
+        return values;
+      }
+      case TIMESTAMP: {
+        final Timestamp timestamp = new Timestamp(unzigzag(readVarLong(in)));
+        timestamp.setNanos((int) readVarLong(in));
+        return timestamp;
+      }
+      case DATE: return new Date(unzigzag(readVarLong(in)));
+      case LIST: {
+        final int size = readLength(in);
+        final List<Object> list = new ArrayList<>(Math.min(size, in.remaining()));
+        for (int i = 0;i < size;i++) list.add(readValue(in));
+        return list;
+      }
+      case MAP: {
+        final int size = readLength(in);
+        final Map<String, Object> map = new LinkedHashMap<>((int) (size / 0.75f) + 1);
+
+        for (int i = 0;i < size;i++) {
+          final String key = readString(in);
+          map.put(key, readValue(in));
+        }
+        return map;
+      }
+      case DICTIONARY:
+      case TYPED_DICTIONARY: {
+        final int size = readLength(in);
+        final int capacity = (int) (size / 0.75f) + 1;
+        final Dictionary dictionary =
+            TYPED_DICTIONARY == tag ? new TypedDictionary(capacity) : new Dictionary(capacity);
+
+        for (int i = 0;i < size;i++) {
+          final String key = readString(in);
+          dictionary.set(key, readValue(in));
+        }
+        return dictionary;
+      }
+      case SERIALIZED: return deserialize(readBytes(in));
+      default:
+        throw new IllegalArgumentException("Unknown type tag: " + tag);
+    }
+  }
+
+  private static byte[] serialize(final Object value) {
+    try (
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ObjectOutputStream out = new ObjectOutputStream(bytes)
+    ) {
+      out.writeObject(value);
+      out.flush();
+      return bytes.toByteArray();
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot serialize value type: " + value.getClass().getName(), e);
+    }
+  }
+
+  private static Object deserialize(final byte[] bytes) {
+    try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return in.readObject();
+    } catch (IOException | ClassNotFoundException e) {
+      throw new IllegalArgumentException("Invalid serialized value", e);
+    }
+  }
+
+  private static void writeString(final Output out, final String text) {
+    final int length = text.length();
+    int encodedLength = 0;
+
+    for (int i = 0;i < length;i++) {
+      final char letter = text.charAt(i);
+
+      if (0x80 > letter) encodedLength += 1;
+      else if (0x800 > letter) encodedLength += 2;
+      else if (Character.isHighSurrogate(letter) && i + 1 < length
+          && Character.isLowSurrogate(text.charAt(i + 1))) {
+        encodedLength += 4;
+        i++;
+      } else if (Character.isSurrogate(letter)) encodedLength += 1;
+      else encodedLength += 3;
+    }
+
+    out.writeVarLong(encodedLength);
+    out.ensure(encodedLength);
+
+    final byte[] buffer = out.buffer;
+    int position = out.position;
+
+    for (int i = 0;i < length;i++) {
+      final char letter = text.charAt(i);
+
+      if (0x80 > letter) {
+        buffer[position++] = (byte) letter;
+      } else if (0x800 > letter) {
+        buffer[position++] = (byte) (0xC0 | (letter >> 6));
+        buffer[position++] = (byte) (0x80 | (letter & 0x3F));
+      } else if (Character.isHighSurrogate(letter) && i + 1 < length
+          && Character.isLowSurrogate(text.charAt(i + 1))) {
+        final int codePoint = Character.toCodePoint(letter, text.charAt(++i));
+        buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+        buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+      } else if (Character.isSurrogate(letter)) {
+        buffer[position++] = '?';
+      } else {
+        buffer[position++] = (byte) (0xE0 | (letter >> 12));
+        buffer[position++] = (byte) (0x80 | ((letter >> 6) & 0x3F));
+        buffer[position++] = (byte) (0x80 | (letter & 0x3F));
+      }
+    }
+
+    out.position = position;
+  }
+
+  private static String readString(final ByteBuffer in) {
+    final int length = readLength(in);
+
+    if (in.hasArray()) {
+      final String text =
+          new String(in.array(), in.arrayOffset() + in.position(), length, Constants.DEFAULT_CHARSET);
+      in.position(in.position() + length);
+      return text;
+    }
+
+    final byte[] bytes = new byte[length];
+    in.get(bytes);
+    return new String(bytes, Constants.DEFAULT_CHARSET);
+  }
+
+  private static void writeBytes(final Output out, final byte[] bytes) {
+    out.writeVarLong(bytes.length);
+    out.write(bytes);
+  }
+
+  private static byte[] readBytes(final ByteBuffer in) {
+    final byte[] bytes = new byte[readLength(in)];
+    in.get(bytes);
+    return bytes;
+  }
+
+  private static int readLength(final ByteBuffer in) {
+    final long length = readVarLong(in);
+
+    if (0 > length || length > in.remaining())
+      throw new IllegalArgumentException("Invalid length: " + length);
+
+    return (int) length;
+  }
+
+  private static int readInt(final ByteBuffer in) {
+    return (in.get() & 0xFF) << 24 | (in.get() & 0xFF) << 16 | (in.get() & 0xFF) << 8 | (in.get() & 0xFF);
+  }
+
+  private static long readVarLong(final ByteBuffer in) {
+    long value = 0;
+
+    for (int shift = 0;shift < 64;shift += 7) {
+      final byte b = in.get();
+      value |= (long) (b & 0x7F) << shift;
+      if (0 == (b & 0x80)) return value;
+    }
+
+    throw new IllegalArgumentException("Malformed varint");
+  }
+
+  private static long zigzag(final long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unzigzag(final long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * 동기화 없이 사용하는 ByteArrayOutputStream 대용 버퍼 입니다
+   */
+  private static final class Output {
+    private byte[] buffer;
+    private int position;
+
+    private Output(final int capacity) {
+      this.buffer = new byte[capacity];
+    }
+
+    private void ensure(final int length) {
+      if (buffer.length - position < length)
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + length));
+    }
+
+    private void write(final byte value) {
+      ensure(1);
+      buffer[position++] = value;
+    }
+
+    private void write(final byte[] bytes) {
+      ensure(bytes.length);
+      System.arraycopy(bytes, 0, buffer, position, bytes.length);
+      position += bytes.length;
+    }
+
+    private void writeInt(final int value) {
+      ensure(4);
+      buffer[position++] = (byte) (value >>> 24);
+      buffer[position++] = (byte) (value >>> 16);
+      buffer[position++] = (byte) (value >>> 8);
+      buffer[position++] = (byte) value;
+    }
+
+    private void writeLong(final long value) {
+      writeInt((int) (value >>> 32));
+      writeInt((int) value);
+    }
+
+    private void writeVarLong(long value) {
+      ensure(10);
+      while (0 != (value & ~0x7FL)) {
+        buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      buffer[position++] = (byte) value;
+    }
+
+    private byte[] toByteArray() {
+      return Arrays.copyOf(buffer, position);
+    }
+  }
+
+}
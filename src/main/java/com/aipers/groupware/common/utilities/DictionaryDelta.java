@@ -0,0 +1,65 @@
+package com.aipers.groupware.common.utilities;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dictionary 의 변경 내역 입니다. (Dictionary.track 참고)
+ *   changed 는 추가, 변경된 키와 값, removed 는 삭제된 키 목록 입니다
+ *   다른 Dictionary 에 적용하여 같은 변경을 반영할 수 있음
+ */
+public final class DictionaryDelta {
+
+  private final Dictionary changed;
+  private final Set<String> removed;
+
+  public DictionaryDelta(final Map<String, ?> changed, final Set<String> removed) {
+    this.changed = new Dictionary(null == changed ? 0 : (int) (changed.size() / 0.75f) + 1);
+    this.removed = null == removed
+        ? Collections.emptySet()
+        : Collections.unmodifiableSet(new LinkedHashSet<>(removed));
+
+    if (null != changed) changed.forEach(this.changed::set);
+  }
+
+  /**
+   * 추가, 변경된 키와 값의 복사본을 반환합니다 (getRemoved 와 같이 변경 내역은 바꿀 수 없음)
+   * @return
+   */
+  public Dictionary getChanged() {
+    return changed.copy();
+  }
+
+  /**
+   * 삭제된 키 목록을 반환합니다
+   * @return
+   */
+  public Set<String> getRemoved() {
+    return removed;
+  }
+
+  public boolean hasChanges() {
+    return !changed.isEmpty() || !removed.isEmpty();
+  }
+
+  /**
+   * 변경 내역을 주어진 Dictionary 에 반영 후 반환합니다. 키는 camel case 변환 없이 그대로 사용합니다
+   * @param target
+   * @return
+   * @param <T>
+   */
+  public <T extends Dictionary> T applyTo(final T target) {
+    target.delete(removed.toArray(new String[0]));
+    changed.forEach(target::set);
+
+    return target;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("{\"changed\":%s, \"removed\":%s}", changed, removed);
+  }
+
+}
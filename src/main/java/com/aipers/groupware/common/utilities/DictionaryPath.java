@@ -0,0 +1,261 @@
+package com.aipers.groupware.common.utilities;
+
+import com.aipers.groupware.common.Constants;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 중첩된 Dictionary, Map, List, 배열의 값을 경로 표현식으로 조회하는 클래스 입니다.
+ *   "order.items[3].price", "data['user.name']" 형식을 지원함
+ *   compile 된 경로는 캐시되며 여러 스레드에서 재사용 가능함
+ *   조회 중 중간 객체를 생성하지 않으며 경로가 없다면 null (또는 기본값) 을 반환함
+ */
+public final class DictionaryPath {
+
+  private static final BoundedCache<String, DictionaryPath> CACHE =
+      new BoundedCache<>(Constants.MAX_KEY_CACHE_SIZE);
+
+  private final String expression;
+  private final String[] keys;
+  private final int[] indexes;
+
+  private DictionaryPath(final String expression, final String[] keys, final int[] indexes) {
+    this.expression = expression;
+    this.keys = keys;
+    this.indexes = indexes;
+  }
+
+  /**
+   * 경로 표현식을 해석하여 반환합니다. 같은 표현식은 캐시된 객체를 반환합니다
+   * @param expression
+   * @return
+   */
+  public static DictionaryPath compile(final String expression) {
+    return CACHE.get(expression, DictionaryPath::parse);
+  }
+
+  /**
+   * 주어진 객체에서 경로의 값을 반환합니다
+   * @param root
+   * @return
+   */
+  public Object get(final Object root) {
+    Object current = root;
+
+    for (int i = 0;i < keys.length && null != current;i++) {
+      current = null == keys[i] ? element(current, indexes[i]) : property(current, keys[i]);
+    }
+
+    return current;
+  }
+
+  public String getString(final Object root) {
+    return getString(root, Constants.EMPTY_STRING);
+  }
+
+  public String getString(final Object root, final String v_default) {
+    final Object value = get(root);
+    return null == value ? v_default : String.valueOf(value);
+  }
+
+  public int getInt(final Object root) {
+    return getInt(root, 0);
+  }
+
+  public int getInt(final Object root, final int v_default) {
+    final Object value = get(root);
+    if (null == value) return v_default;
+
+    try {
+      return value instanceof Number
+          ? ((Number) value).intValue()
+          : Integer.parseInt(String.valueOf(value));
+    } catch (NumberFormatException e) {
+      return v_default;
+    }
+  }
+
+  public long getLong(final Object root) {
+    return getLong(root, 0);
+  }
+
+  public long getLong(final Object root, final long v_default) {
+    final Object value = get(root);
+    if (null == value) return v_default;
+    if (value instanceof Timestamp) return ((Timestamp) value).getTime();
+
+    try {
+      return value instanceof Number
+          ? ((Number) value).longValue()
+          : Long.parseLong(String.valueOf(value));
+    } catch (NumberFormatException e) {
+      return v_default;
+    }
+  }
+
+  public double getDouble(final Object root) {
+    return getDouble(root, 0);
+  }
+
+  public double getDouble(final Object root, final double v_default) {
+    final Object value = get(root);
+    if (null == value) return v_default;
+
+    try {
+      return value instanceof Number
+          ? ((Number) value).doubleValue()
+          : Double.parseDouble(String.valueOf(value));
+    } catch (NumberFormatException e) {
+      return v_default;
+    }
+  }
+
+  public BigDecimal getDecimal(final Object root) {
+    return getDecimal(get(root), BigDecimal.ZERO);
+  }
+
+  public BigDecimal getDecimal(final Object root, final double v_default) {
+    return getDecimal(get(root), BigDecimal.valueOf(v_default));
+  }
+
+  public boolean getBoolean(final Object root) {
+    final Object value = get(root);
+    return value instanceof Boolean ? (Boolean) value : null != value;
+  }
+
+  @Override
+  public String toString() {
+    return expression;
+  }
+
+  /**
+   * 값을 BigDecimal 로 변환합니다. NaN, Infinity 등 변환할 수 없는 값은 기본 값을 반환합니다
+   * @param value
+   * @param v_default
+   * @return
+   */
+  private static BigDecimal getDecimal(final Object value, final BigDecimal v_default) {
+    if (null == value) return v_default;
+    if (value instanceof BigDecimal) return (BigDecimal) value;
+    if (value instanceof Long || value instanceof Integer)
+      return BigDecimal.valueOf(((Number) value).longValue());
+    if (value instanceof Double)
+      return Double.isFinite((Double) value) ? BigDecimal.valueOf((Double) value) : v_default;
+
+    try {
+      return new BigDecimal(String.valueOf(value).trim());
+    } catch (NumberFormatException e) {
+      return v_default;
+    }
+  }
+
+  private static Object property(final Object current, final String key) {
+    return current instanceof Map ? ((Map<?, ?>) current).get(key) : null;
+  }
+
+  private static Object element(final Object current, final int index) {
+    if (current instanceof List) {
+      final List<?> list = (List<?>) current;
+      return index < list.size() ? list.get(index) : null;
+    }
+
+    if (current.getClass().isArray()) {
+      return index < Array.getLength(current) ? Array.get(current, index) : null;
+    }
+
+    return null;
+  }
+
+  /**
+   * 경로 표현식을 키와 인덱스 목록으로 분리합니다. 인덱스 구간은 키가 null 입니다
+   * @param expression
+   * @return
+   */
+  private static DictionaryPath parse(final String expression) {
+    final List<String> keys = new ArrayList<>();
+    final List<Integer> indexes = new ArrayList<>();
+    final int length = expression.length();
+    int position = 0;
+
+    while (position < length) {
+      final char letter = expression.charAt(position);
+
+      if ('.' == letter) {
+        final char next = charAt(expression, position + 1);
+        if (0 == position || 0 == next || '.' == next || '[' == next)
+          throw invalid(expression, position);
+        position++;
+      } else if ('[' == letter) {
+        final int close = expression.indexOf(']', position);
+        if (0 > close) throw invalid(expression, position);
+
+        final char quote = expression.charAt(position + 1);
+
+        if ('\'' == quote || '"' == quote) {
+          final int end = expression.indexOf(quote, position + 2);
+          if (0 > end || ']' != charAt(expression, end + 1)) throw invalid(expression, position);
+
+          keys.add(expression.substring(position + 2, end));
+          indexes.add(-1);
+          position = end + 2;
+          requireSeparator(expression, position);
+        } else {
+          int index = 0;
+          for (int i = position + 1;i < close;i++) {
+            final char digit = expression.charAt(i);
+            if ('0' > digit || '9' < digit) throw invalid(expression, i);
+            if ((Integer.MAX_VALUE - (digit - '0')) / 10 < index) throw invalid(expression, i);
+            index = index * 10 + (digit - '0');
+          }
+          if (position + 1 == close) throw invalid(expression, position);
+
+          keys.add(null);
+          indexes.add(index);
+          position = close + 1;
+          requireSeparator(expression, position);
+        }
+      } else {
+        int end = position;
+        while (end < length && '.' != expression.charAt(end) && '[' != expression.charAt(end)) {
+          if (']' == expression.charAt(end)) throw invalid(expression, end);
+          end++;
+        }
+
+        keys.add(expression.substring(position, end));
+        indexes.add(-1);
+        position = end;
+      }
+    }
+
+    if (keys.isEmpty()) throw invalid(expression, 0);
+
+    final int[] indexArray = new int[indexes.size()];
+    for (int i = 0;i < indexArray.length;i++) indexArray[i] = indexes.get(i);
+
+    return new DictionaryPath(expression, keys.toArray(new String[0]), indexArray);
+  }
+
+  private static char charAt(final String text, final int index) {
+    return index < text.length() ? text.charAt(index) : 0;
+  }
+
+  /**
+   * [] 구간 다음은 경로의 끝이거나 '.', '[' 이어야 합니다 (a[0]b 등은 허용하지 않음)
+   * @param expression
+   * @param position
+   */
+  private static void requireSeparator(final String expression, final int position) {
+    final char next = charAt(expression, position);
+    if (0 != next && '.' != next && '[' != next) throw invalid(expression, position);
+  }
+
+  private static IllegalArgumentException invalid(final String expression, final int position) {
+    return new IllegalArgumentException(
+        String.format("Invalid path expression [%s] at %d", expression, position));
+  }
+
+}
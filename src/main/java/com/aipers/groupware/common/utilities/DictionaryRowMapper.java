@@ -0,0 +1,286 @@
+package com.aipers.groupware.common.utilities;
+
+import java.io.IOException;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * ResultSet 의 행을 Dictionary 로 변환하는 클래스 입니다.
+ *   ResultSetMetaData 는 한번만 조회하여 camel case 키와 컬럼별 값 추출기를 미리 만들어 둠
+ *   전체 행을 List 로 반환하거나 한 행씩 읽어오는 Stream (cursor) 형태로 반환 가능함
+ *   CLOB, BLOB 컬럼은 기준 크기를 넘으면 LargeValue (memory-mapped 임시 파일) 로 보관함
+ */
+public class DictionaryRowMapper {
+
+  private final String[] keys;
+  private final ColumnReader[] readers;
+  private final boolean[] stringTypes;
+  private final int capacity;
+
+  public DictionaryRowMapper(final ResultSetMetaData metaData) throws SQLException {
+    final int count = metaData.getColumnCount();
+
+    this.keys = new String[count];
+    this.readers = new ColumnReader[count];
+    this.stringTypes = new boolean[count];
+
+    for (int i = 0;i < count;i++) {
+      keys[i] = StringUtils.toCamelCase(metaData.getColumnLabel(i + 1));
+      readers[i] = getReader(metaData.getColumnType(i + 1));
+      stringTypes[i] = isStringType(metaData.getColumnType(i + 1));
+    }
+
+    this.capacity = (int) (count / 0.75f) + 1;
+  }
+
+  /**
+   * 주어진 ResultSet 의 메타 정보로 RowMapper 를 생성합니다
+   * @param resultSet
+   * @return
+   * @throws SQLException
+   */
+  public static DictionaryRowMapper of(final ResultSet resultSet) throws SQLException {
+    return new DictionaryRowMapper(resultSet.getMetaData());
+  }
+
+  /**
+   * 주어진 ResultSet 의 남은 행 전체를 Dictionary 목록으로 반환합니다
+   * @param resultSet
+   * @return
+   * @throws SQLException
+   */
+  public static List<Dictionary> toList(final ResultSet resultSet) throws SQLException {
+    return of(resultSet).mapAll(resultSet);
+  }
+
+  /**
+   * 주어진 ResultSet 을 한 행씩 읽어 Dictionary 로 변환하는 Stream 을 반환합니다
+   * ResultSet 은 호출한 쪽에서 닫아야 합니다
+   * @param resultSet
+   * @return
+   * @throws SQLException
+   */
+  public static Stream<Dictionary> stream(final ResultSet resultSet) throws SQLException {
+    return of(resultSet).mapStream(resultSet);
+  }
+
+  /**
+   * 주어진 ResultSet 의 남은 행 전체를 컬럼 단위로 보관하는 DictionaryTable 로 반환합니다
+   * @param resultSet
+   * @return
+   * @throws SQLException
+   */
+  public static DictionaryTable toTable(final ResultSet resultSet) throws SQLException {
+    return of(resultSet).mapTable(resultSet);
+  }
+
+  /**
+   * 컬럼 키 목록을 반환합니다
+   * @return
+   */
+  public String[] getKeys() {
+    return keys.clone();
+  }
+
+  /**
+   * 주어진 컬럼의 문자열 값을 pool 을 거쳐 저장하도록 설정합니다 (코드 값, Y/N 등 중복이 많은 컬럼)
+   * 컬럼을 지정하지 않으면 모든 문자열 (CHAR, VARCHAR 등) 컬럼에 적용합니다
+   * @param pool
+   * @param columns camel case 키
+   * @return
+   */
+  public DictionaryRowMapper intern(final InternPool<String> pool, final String ... columns) {
+    for (int i = 0;i < keys.length;i++) {
+      if (0 < columns.length && !Arrays.asList(columns).contains(keys[i])) continue;
+      if (0 == columns.length && !stringTypes[i]) continue;
+
+      final ColumnReader reader = readers[i];
+      readers[i] = (rs, column) -> {
+        final Object value = reader.read(rs, column);
+        return value instanceof String ? pool.intern((String) value) : value;
+      };
+    }
+
+    return this;
+  }
+
+  /**
+   * ResultSet 의 현재 행을 Dictionary 로 변환합니다
+   * @param resultSet
+   * @return
+   * @throws SQLException
+   */
+  public Dictionary mapRow(final ResultSet resultSet) throws SQLException {
+    final Dictionary row = new Dictionary(capacity);
+
+    for (int i = 0;i < keys.length;i++) {
+      row.set(keys[i], readers[i].read(resultSet, i + 1));
+    }
+
+    return row;
+  }
+
+  /**
+   * ResultSet 의 남은 행 전체를 Dictionary 목록으로 반환합니다
+   * @param resultSet
+   * @return
+   * @throws SQLException
+   */
+  public List<Dictionary> mapAll(final ResultSet resultSet) throws SQLException {
+    final List<Dictionary> rows = new ArrayList<>();
+
+    while (resultSet.next()) rows.add(mapRow(resultSet));
+
+    return rows;
+  }
+
+  /**
+   * ResultSet 의 남은 행 전체를 DictionaryTable 로 반환합니다
+   * 행마다 Dictionary 를 만들지 않으며 숫자 컬럼은 원시형 배열로 보관됩니다
+   * @param resultSet
+   * @return
+   * @throws SQLException
+   */
+  public DictionaryTable mapTable(final ResultSet resultSet) throws SQLException {
+    final DictionaryTable.Builder builder = DictionaryTable.builder(keys);
+    final Object[] values = new Object[keys.length];
+
+    while (resultSet.next()) {
+      for (int i = 0;i < keys.length;i++) values[i] = readers[i].read(resultSet, i + 1);
+      builder.add(values);
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * ResultSet 을 한 행씩 읽어 Dictionary 로 변환하는 Stream 을 반환합니다
+   * 읽은 행은 보관하지 않기 때문에 대량의 결과도 일정한 메모리로 처리할 수 있습니다
+   * @param resultSet
+   * @return
+   */
+  public Stream<Dictionary> mapStream(final ResultSet resultSet) {
+    return StreamSupport.stream(
+        new Spliterators.AbstractSpliterator<Dictionary>(
+            Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL
+        ) {
+          @Override
+          public boolean tryAdvance(final Consumer<? super Dictionary> action) {
+            try {
+              if (!resultSet.next()) return false;
+
+              action.accept(mapRow(resultSet));
+              return true;
+            } catch (SQLException e) {
+              throw new RuntimeException(e);
+            }
+          }
+        },
+        false
+    );
+  }
+
+  private static boolean isStringType(final int sqlType) {
+    switch (sqlType) {
+      case Types.CHAR:
+      case Types.VARCHAR:
+      case Types.NCHAR:
+      case Types.NVARCHAR:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static ColumnReader getReader(final int sqlType) {
+    switch (sqlType) {
+      case Types.CHAR:
+      case Types.VARCHAR:
+      case Types.LONGVARCHAR:
+      case Types.NCHAR:
+      case Types.NVARCHAR:
+      case Types.LONGNVARCHAR:
+        return ResultSet::getString;
+      case Types.CLOB:
+      case Types.NCLOB:
+        return (rs, column) -> readLargeValue(rs.getClob(column));
+      case Types.BLOB:
+        return (rs, column) -> readLargeValue(rs.getBlob(column));
+      case Types.BINARY:
+      case Types.VARBINARY:
+      case Types.LONGVARBINARY:
+        return ResultSet::getBytes;
+      case Types.NUMERIC:
+      case Types.DECIMAL:
+        return ResultSet::getBigDecimal;
+      case Types.TINYINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+        return (rs, column) -> {
+          final int value = rs.getInt(column);
+          return rs.wasNull() ? null : value;
+        };
+      case Types.BIGINT:
+        return (rs, column) -> {
+          final long value = rs.getLong(column);
+          return rs.wasNull() ? null : value;
+        };
+      case Types.REAL:
+        return (rs, column) -> {
+          final float value = rs.getFloat(column);
+          return rs.wasNull() ? null : value;
+        };
+      case Types.FLOAT:
+      case Types.DOUBLE:
+        return (rs, column) -> {
+          final double value = rs.getDouble(column);
+          return rs.wasNull() ? null : value;
+        };
+      case Types.BIT:
+      case Types.BOOLEAN:
+        return (rs, column) -> {
+          final boolean value = rs.getBoolean(column);
+          return rs.wasNull() ? null : value;
+        };
+      case Types.TIMESTAMP:
+      case Types.TIMESTAMP_WITH_TIMEZONE:
+        return ResultSet::getTimestamp;
+      default:
+        return ResultSet::getObject;
+    }
+  }
+
+  private static Object readLargeValue(final Clob clob) throws SQLException {
+    try {
+      return LargeValue.read(clob);
+    } catch (IOException e) {
+      throw new SQLException(e);
+    }
+  }
+
+  private static Object readLargeValue(final Blob blob) throws SQLException {
+    try {
+      return LargeValue.read(blob);
+    } catch (IOException e) {
+      throw new SQLException(e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface ColumnReader {
+    Object read(ResultSet resultSet, int column) throws SQLException;
+  }
+
+}
@@ -0,0 +1,836 @@
+package com.aipers.groupware.common.utilities;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.DoublePredicate;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * 여러 행의 Dictionary 를 컬럼 단위로 보관하는 테이블 입니다.
+ *   모든 행이 하나의 키 목록 (key index) 을 공유하며 숫자 컬럼은 원시형 배열로 보관함
+ *   각 행은 Map 을 구현한 가벼운 Row 객체로 조회하며 필요할 때만 Dictionary 로 변환함
+ *   filter, sort 는 행을 만들지 않고 행 번호 배열만 새로 만들어 컬럼을 공유하는 테이블을 반환함
+ *   생성 이후 내용은 변경할 수 없음
+ */
+public class DictionaryTable implements Iterable<DictionaryTable.Row> {
+
+  private final String[] keys;
+  private final Map<String, Integer> keyIndex;
+  private final Column[] columns;
+  private final int[] rows;
+
+  private DictionaryTable(
+      final String[] keys, final Map<String, Integer> keyIndex, final Column[] columns,
+      final int[] rows
+  ) {
+    this.keys = keys;
+    this.keyIndex = keyIndex;
+    this.columns = columns;
+    this.rows = rows;
+  }
+
+  /**
+   * 주어진 키 목록을 컬럼으로 갖는 테이블 Builder 를 반환합니다
+   * @param keys
+   * @return
+   */
+  public static Builder builder(final String ... keys) {
+    return new Builder(keys);
+  }
+
+  /**
+   * 주어진 Map 목록을 테이블로 변환합니다. 컬럼은 처음 등장한 키의 순서를 따릅니다
+   * @param source
+   * @return
+   */
+  public static DictionaryTable of(final Collection<? extends Map<String, ?>> source) {
+    final Map<String, Boolean> keys = new LinkedHashMap<>();
+    for (final Map<String, ?> row : source) {
+      for (final String key : row.keySet()) keys.putIfAbsent(key, Boolean.TRUE);
+    }
+
+    final Builder builder = new Builder(keys.keySet().toArray(new String[0]));
+    for (final Map<String, ?> row : source) builder.add(row);
+
+    return builder.build();
+  }
+
+  public int size() {
+    return rows.length;
+  }
+
+  public boolean isEmpty() {
+    return 0 == rows.length;
+  }
+
+  /**
+   * 컬럼 키 목록을 반환합니다
+   * @return
+   */
+  public String[] getKeys() {
+    return keys.clone();
+  }
+
+  public boolean hasKey(final String key) {
+    return keyIndex.containsKey(key);
+  }
+
+  /**
+   * 주어진 위치의 행을 반환합니다. 반환된 Row 는 테이블의 값을 직접 참조합니다
+   * @param index
+   * @return
+   */
+  public Row row(final int index) {
+    if (0 > index || index >= rows.length) throw new IndexOutOfBoundsException("row: " + index);
+
+    return new Row(rows[index]);
+  }
+
+  /**
+   * 주어진 위치의 행을 Dictionary 로 복사하여 반환합니다
+   * @param index
+   * @return
+   */
+  public Dictionary toDictionary(final int index) {
+    return row(index).toDictionary();
+  }
+
+  /**
+   * 모든 행을 Dictionary 목록으로 복사하여 반환합니다
+   * @return
+   */
+  public List<Dictionary> toList() {
+    final List<Dictionary> list = new ArrayList<>(rows.length);
+    for (final int row : rows) list.add(new Row(row).toDictionary());
+    return list;
+  }
+
+  @Override
+  public Iterator<Row> iterator() {
+    return new Iterator<Row>() {
+      private int position = 0;
+
+      @Override
+      public boolean hasNext() {
+        return position < rows.length;
+      }
+
+      @Override
+      public Row next() {
+        if (position >= rows.length) throw new NoSuchElementException();
+        return new Row(rows[position++]);
+      }
+    };
+  }
+
+  public Stream<Row> stream() {
+    return Arrays.stream(rows).mapToObj(Row::new);
+  }
+
+  /**
+   * 컬럼의 값을 순서대로 반환합니다 (null 포함)
+   * @param key
+   * @return
+   */
+  public Stream<Object> values(final String key) {
+    final Column column = column(key);
+    return Arrays.stream(rows).mapToObj(column::get);
+  }
+
+  /**
+   * 숫자 컬럼의 값을 long 으로 반환합니다. null 값은 제외됩니다
+   * @param key
+   * @return
+   */
+  public LongStream longs(final String key) {
+    final Column column = column(key);
+    return Arrays.stream(rows).filter(row -> !column.isNull(row)).mapToLong(column::getLong);
+  }
+
+  /**
+   * 숫자 컬럼의 값을 double 로 반환합니다. null 값은 제외됩니다
+   * @param key
+   * @return
+   */
+  public DoubleStream doubles(final String key) {
+    final Column column = column(key);
+    return Arrays.stream(rows).filter(row -> !column.isNull(row)).mapToDouble(column::getDouble);
+  }
+
+  /**
+   * 조건에 맞는 행만 갖는 테이블을 반환합니다. 컬럼은 복사하지 않고 공유합니다
+   * @param predicate
+   * @return
+   */
+  public DictionaryTable filter(final Predicate<? super Row> predicate) {
+    return select(row -> predicate.test(new Row(row)));
+  }
+
+  /**
+   * 주어진 컬럼의 값이 조건에 맞는 행만 갖는 테이블을 반환합니다
+   * @param key
+   * @param predicate
+   * @return
+   */
+  public DictionaryTable filter(final String key, final Predicate<Object> predicate) {
+    final Column column = column(key);
+    return select(row -> predicate.test(column.get(row)));
+  }
+
+  /**
+   * 숫자 컬럼의 값이 조건에 맞는 행만 갖는 테이블을 반환합니다. null 값은 제외됩니다
+   * @param key
+   * @param predicate
+   * @return
+   */
+  public DictionaryTable filterLong(final String key, final LongPredicate predicate) {
+    final Column column = column(key);
+    return select(row -> !column.isNull(row) && predicate.test(column.getLong(row)));
+  }
+
+  /**
+   * 숫자 컬럼의 값이 조건에 맞는 행만 갖는 테이블을 반환합니다. null 값은 제외됩니다
+   * @param key
+   * @param predicate
+   * @return
+   */
+  public DictionaryTable filterDouble(final String key, final DoublePredicate predicate) {
+    final Column column = column(key);
+    return select(row -> !column.isNull(row) && predicate.test(column.getDouble(row)));
+  }
+
+  /**
+   * 주어진 컬럼 기준으로 오름차순 정렬된 테이블을 반환합니다. null 값은 마지막에 위치합니다
+   * @param key
+   * @return
+   */
+  public DictionaryTable sort(final String key) {
+    return sort(key, false);
+  }
+
+  /**
+   * 주어진 컬럼 기준으로 정렬된 테이블을 반환합니다. null 값은 정렬 방향과 관계없이 마지막에 위치합니다
+   * @param key
+   * @param descending
+   * @return
+   */
+  public DictionaryTable sort(final String key, final boolean descending) {
+    final Column column = column(key);
+
+    return order((a, b) -> {
+      final boolean aNull = column.isNull(a), bNull = column.isNull(b);
+      if (aNull || bNull) return aNull == bNull ? 0 : aNull ? 1 : -1;
+
+      final int result = column.compare(a, b);
+      return descending ? -result : result;
+    });
+  }
+
+  /**
+   * 주어진 비교 함수로 정렬된 테이블을 반환합니다
+   * @param comparator
+   * @return
+   */
+  public DictionaryTable sort(final Comparator<? super Row> comparator) {
+    return order((a, b) -> comparator.compare(new Row(a), new Row(b)));
+  }
+
+  private DictionaryTable select(final IntPredicate predicate) {
+    return new DictionaryTable(keys, keyIndex, columns, Arrays.stream(rows).filter(predicate).toArray());
+  }
+
+  private DictionaryTable order(final IntBinaryOperator comparator) {
+    final int[] sorted = rows.clone();
+    mergeSort(sorted, rows.clone(), 0, sorted.length, comparator);
+
+    return new DictionaryTable(keys, keyIndex, columns, sorted);
+  }
+
+  private Column column(final String key) {
+    final Integer index = keyIndex.get(key);
+    if (null == index) throw new IllegalArgumentException("Unknown column: " + key);
+
+    return columns[index];
+  }
+
+  /**
+   * 박싱 없이 행 번호 배열을 정렬합니다 (stable)
+   */
+  private static void mergeSort(
+      final int[] target, final int[] source, final int from, final int to,
+      final IntBinaryOperator comparator
+  ) {
+    if (2 > to - from) return;
+
+    final int middle = (from + to) >>> 1;
+    mergeSort(source, target, from, middle, comparator);
+    mergeSort(source, target, middle, to, comparator);
+
+    for (int i = from, left = from, right = middle;i < to;i++) {
+      target[i] = right >= to
+          || (left < middle && 0 >= comparator.applyAsInt(source[left], source[right]))
+          ? source[left++]
+          : source[right++];
+    }
+  }
+
+  /**
+   * 테이블의 한 행을 나타내는 Map 입니다. 값은 테이블의 컬럼에서 직접 읽습니다
+   *   Dictionary 와 같은 getter (get, getString, getInt, take 등) 를 제공하며 get(String) 은 문자열을 반환함
+   *   Dictionary 를 상속하지 않으므로 Dictionary 가 필요한 곳에는 toDictionary 로 복사하여 사용함
+   */
+  public final class Row extends AbstractMap<String, Object> {
+    private final int row;
+
+    private Row(final int row) {
+      this.row = row;
+    }
+
+    @Override
+    public int size() {
+      return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+      return keyIndex.containsKey(key);
+    }
+
+    @Override
+    public Object get(final Object key) {
+      final Integer index = keyIndex.get(key);
+      return null == index ? null : columns[index].get(row);
+    }
+
+    /**
+     * Dictionary.get 과 같이 값을 문자열로 반환합니다. 값이 없다면 빈 문자열을 반환합니다
+     * @param key
+     * @return
+     */
+    public String get(final String key) {
+      return getString(key, "");
+    }
+
+    public String get(final String key, final int value) {
+      return isEmpty(key) ? Integer.toString(value) : getString(key, "");
+    }
+
+    public String get(final String key, final String value) {
+      return isEmpty(key) ? value : getString(key, value);
+    }
+
+    public Object take(final String key) {
+      return get((Object) key);
+    }
+
+    public <T> T take(final String key, final Class<T> type) {
+      final Object value = get((Object) key);
+      return type.isInstance(value) ? type.cast(value) : CommonUtils.getEmptyInstance(type);
+    }
+
+    public Object getObject(final String key) {
+      return get((Object) key);
+    }
+
+    public boolean isEmpty(final String key) {
+      return CommonUtils.isEmpty(get((Object) key));
+    }
+
+    public boolean isNull(final String key) {
+      final Integer index = keyIndex.get(key);
+      return null == index || columns[index].isNull(row);
+    }
+
+    public String getString(final String key) {
+      return getString(key, "");
+    }
+
+    public String getString(final String key, final String v_default) {
+      final Object value = get((Object) key);
+      if (value instanceof String[]) {
+        final String[] values = (String[]) value;
+        return 0 == values.length ? v_default : values[0];
+      }
+
+      return null == value ? v_default : String.valueOf(value);
+    }
+
+    public int getInt(final String key) {
+      return (int) getLong(key, 0);
+    }
+
+    public int getInt(final String key, final int v_default) {
+      return (int) getLong(key, v_default);
+    }
+
+    public long getLong(final String key) {
+      return getLong(key, 0);
+    }
+
+    public long getLong(final String key, final long v_default) {
+      final Integer index = keyIndex.get(key);
+      if (null == index || columns[index].isNull(row)) return v_default;
+
+      try {
+        return columns[index].getLong(row);
+      } catch (NumberFormatException e) {
+        return v_default;
+      }
+    }
+
+    public double getDouble(final String key) {
+      return getDouble(key, 0);
+    }
+
+    public double getDouble(final String key, final double v_default) {
+      final Integer index = keyIndex.get(key);
+      if (null == index || columns[index].isNull(row)) return v_default;
+
+      try {
+        return columns[index].getDouble(row);
+      } catch (NumberFormatException e) {
+        return v_default;
+      }
+    }
+
+    public float getFloat(final String key) {
+      return (float) getDouble(key, 0);
+    }
+
+    public float getFloat(final String key, final float v_default) {
+      return (float) getDouble(key, v_default);
+    }
+
+    public BigDecimal getDecimal(final String key) {
+      return getDecimal(key, BigDecimal.ZERO);
+    }
+
+    public BigDecimal getDecimal(final String key, final double v_default) {
+      return getDecimal(key, BigDecimal.valueOf(v_default));
+    }
+
+    public boolean getBoolean(final String key) {
+      final Object value = get((Object) key);
+      return value instanceof Boolean ? (Boolean) value : null != value;
+    }
+
+    /**
+     * 값을 BigDecimal 로 변환합니다. NaN, Infinity 등 변환할 수 없는 값은 기본 값을 반환합니다
+     */
+    private BigDecimal getDecimal(final String key, final BigDecimal v_default) {
+      final Object value = get((Object) key);
+
+      if (null == value) return v_default;
+      if (value instanceof BigDecimal) return (BigDecimal) value;
+      if (value instanceof Long || value instanceof Integer) return BigDecimal.valueOf(getLong(key));
+      if (value instanceof Double)
+        return Double.isFinite((Double) value) ? BigDecimal.valueOf((Double) value) : v_default;
+
+      try {
+        return new BigDecimal(String.valueOf(value).trim());
+      } catch (NumberFormatException e) {
+        return v_default;
+      }
+    }
+
+    /**
+     * 행의 값을 Dictionary 로 복사하여 반환합니다
+     * @return
+     */
+    public Dictionary toDictionary() {
+      final Dictionary dictionary = new Dictionary((int) (keys.length / 0.75f) + 1);
+      for (int i = 0;i < keys.length;i++) dictionary.set(keys[i], columns[i].get(row));
+      return dictionary;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+      return new AbstractSet<Map.Entry<String, Object>>() {
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+          return new Iterator<Map.Entry<String, Object>>() {
+            private int position = 0;
+
+            @Override
+            public boolean hasNext() {
+              return position < keys.length;
+            }
+
+            @Override
+            public Map.Entry<String, Object> next() {
+              if (position >= keys.length) throw new NoSuchElementException();
+
+              final int index = position++;
+              return new SimpleImmutableEntry<>(keys[index], columns[index].get(row));
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return keys.length;
+        }
+      };
+    }
+  }
+
+  /**
+   * 행 단위로 값을 추가하여 테이블을 만드는 Builder 입니다.
+   *   컬럼 유형 (int, long, double, Object) 은 처음 추가된 null 이 아닌 값으로 정해지며
+   *   다른 유형의 값이 들어오면 Object 컬럼으로 변경됨 (값의 유형은 그대로 유지됨)
+   */
+  public static final class Builder {
+    private final String[] keys;
+    private final Map<String, Integer> keyIndex;
+    private final Column[] columns;
+    private int size;
+
+    private Builder(final String[] keys) {
+      this.keys = keys.clone();
+      this.keyIndex = new HashMap<>((int) (keys.length / 0.75f) + 1);
+      this.columns = new Column[keys.length];
+
+      for (int i = 0;i < keys.length;i++) {
+        if (null != keyIndex.put(keys[i], i))
+          throw new IllegalArgumentException("Duplicated column: " + keys[i]);
+      }
+    }
+
+    /**
+     * 키 순서대로 나열된 값을 한 행으로 추가합니다
+     * @param values
+     * @return
+     */
+    public Builder add(final Object ... values) {
+      if (values.length != keys.length)
+        throw new IllegalArgumentException(
+            String.format("Expected %d values but %d", keys.length, values.length));
+
+      for (int i = 0;i < keys.length;i++) append(i, values[i]);
+      size++;
+
+      return this;
+    }
+
+    /**
+     * Map 의 값을 한 행으로 추가합니다. 컬럼에 없는 키는 무시합니다
+     * @param row
+     * @return
+     */
+    public Builder add(final Map<String, ?> row) {
+      for (int i = 0;i < keys.length;i++) append(i, row.get(keys[i]));
+      size++;
+
+      return this;
+    }
+
+    public DictionaryTable build() {
+      final Column[] built = new Column[columns.length];
+
+      for (int i = 0;i < columns.length;i++) {
+        built[i] = null == columns[i] ? new ObjectColumn(size) : columns[i].trim(size);
+      }
+
+      final int[] rows = new int[size];
+      for (int i = 0;i < size;i++) rows[i] = i;
+
+      return new DictionaryTable(keys, keyIndex, built, rows);
+    }
+
+    private void append(final int column, final Object value) {
+      if (null == columns[column]) {
+        if (null == value) return;
+        columns[column] = Column.create(value, size);
+      }
+
+      columns[column] = columns[column].set(size, value);
+    }
+  }
+
+  /**
+   * 한 컬럼의 값을 보관합니다. set 은 값을 저장할 수 없다면 Object 컬럼으로 옮겨 반환합니다
+   */
+  private static abstract class Column {
+    protected final BitSet nulls = new BitSet();
+
+    /**
+     * 값의 유형에 맞는 컬럼을 생성합니다. 앞선 행 (rows 개) 은 null 로 채워집니다
+     */
+    static Column create(final Object value, final int rows) {
+      final int capacity = Math.max(16, rows + 1);
+      final Column column;
+
+      if (value instanceof Integer) column = new IntColumn(capacity);
+      else if (value instanceof Long) column = new LongColumn(capacity);
+      else if (value instanceof Double) column = new DoubleColumn(capacity);
+      else return new ObjectColumn(capacity);
+
+      column.nulls.set(0, rows);
+      return column;
+    }
+
+    boolean isNull(final int row) {
+      return nulls.get(row);
+    }
+
+    abstract Object get(int row);
+    abstract Column set(int row, Object value);
+    abstract Column trim(int size);
+    abstract int compare(int a, int b);
+
+    long getLong(final int row) {
+      final Object value = get(row);
+      return value instanceof Number
+          ? ((Number) value).longValue()
+          : Long.parseLong(String.valueOf(value).trim());
+    }
+
+    double getDouble(final int row) {
+      final Object value = get(row);
+      return value instanceof Number
+          ? ((Number) value).doubleValue()
+          : Double.parseDouble(String.valueOf(value).trim());
+    }
+
+    /**
+     * 저장된 값을 Object 컬럼으로 옮긴 뒤 새 값을 저장합니다
+     */
+    protected Column promote(final int row, final Object value, final int capacity) {
+      final ObjectColumn target = new ObjectColumn(capacity);
+      for (int i = 0;i < row;i++) target.values[i] = get(i);
+      return target.set(row, value);
+    }
+
+    protected static int grow(final int length, final int row) {
+      return Math.max(length << 1, row + 1);
+    }
+  }
+
+  private static final class IntColumn extends Column {
+    private int[] values;
+
+    private IntColumn(final int capacity) {
+      this.values = new int[capacity];
+    }
+
+    @Override
+    Object get(final int row) {
+      return isNull(row) ? null : values[row];
+    }
+
+    @Override
+    long getLong(final int row) {
+      return values[row];
+    }
+
+    @Override
+    double getDouble(final int row) {
+      return values[row];
+    }
+
+    @Override
+    Column set(final int row, final Object value) {
+      // Short, Byte 는 Integer 로 바뀌지 않도록 Object 컬럼에 보관함
+      if (null != value && !(value instanceof Integer)) return promote(row, value, values.length);
+
+      if (row >= values.length) values = Arrays.copyOf(values, grow(values.length, row));
+
+      if (null == value) nulls.set(row);
+      else values[row] = ((Number) value).intValue();
+      return this;
+    }
+
+    @Override
+    Column trim(final int size) {
+      if (size != values.length) values = Arrays.copyOf(values, size);
+      return this;
+    }
+
+    @Override
+    int compare(final int a, final int b) {
+      return Integer.compare(values[a], values[b]);
+    }
+  }
+
+  private static final class LongColumn extends Column {
+    private long[] values;
+
+    private LongColumn(final int capacity) {
+      this.values = new long[capacity];
+    }
+
+    @Override
+    Object get(final int row) {
+      return isNull(row) ? null : values[row];
+    }
+
+    @Override
+    long getLong(final int row) {
+      return values[row];
+    }
+
+    @Override
+    double getDouble(final int row) {
+      return values[row];
+    }
+
+    @Override
+    Column set(final int row, final Object value) {
+      if (null != value && !(value instanceof Long)) return promote(row, value, values.length);
+
+      if (row >= values.length) values = Arrays.copyOf(values, grow(values.length, row));
+
+      if (null == value) nulls.set(row);
+      else values[row] = (Long) value;
+      return this;
+    }
+
+    @Override
+    Column trim(final int size) {
+      if (size != values.length) values = Arrays.copyOf(values, size);
+      return this;
+    }
+
+    @Override
+    int compare(final int a, final int b) {
+      return Long.compare(values[a], values[b]);
+    }
+  }
+
+  private static final class DoubleColumn extends Column {
+    private double[] values;
+
+    private DoubleColumn(final int capacity) {
+      this.values = new double[capacity];
+    }
+
+    @Override
+    Object get(final int row) {
+      return isNull(row) ? null : values[row];
+    }
+
+    @Override
+    long getLong(final int row) {
+      return (long) values[row];
+    }
+
+    @Override
+    double getDouble(final int row) {
+      return values[row];
+    }
+
+    @Override
+    Column set(final int row, final Object value) {
+      if (null != value && !(value instanceof Double)) return promote(row, value, values.length);
+
+      if (row >= values.length) values = Arrays.copyOf(values, grow(values.length, row));
+
+      if (null == value) nulls.set(row);
+      else values[row] = (Double) value;
+      return this;
+    }
+
+    @Override
+    Column trim(final int size) {
+      if (size != values.length) values = Arrays.copyOf(values, size);
+      return this;
+    }
+
+    @Override
+    int compare(final int a, final int b) {
+      return Double.compare(values[a], values[b]);
+    }
+  }
+
+  private static final class ObjectColumn extends Column {
+    private Object[] values;
+
+    private ObjectColumn(final int capacity) {
+      this.values = new Object[capacity];
+    }
+
+    @Override
+    Object get(final int row) {
+      return values[row];
+    }
+
+    @Override
+    boolean isNull(final int row) {
+      return null == values[row];
+    }
+
+    @Override
+    Column set(final int row, final Object value) {
+      if (row >= values.length) values = Arrays.copyOf(values, grow(values.length, row));
+
+      values[row] = value;
+      return this;
+    }
+
+    @Override
+    Column trim(final int size) {
+      if (size != values.length) values = Arrays.copyOf(values, size);
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    int compare(final int a, final int b) {
+      final Object left = values[a], right = values[b];
+
+      if (left instanceof Comparable && left.getClass() == right.getClass())
+        return ((Comparable<Object>) left).compareTo(right);
+
+      // Integer, Long 등 유형이 다른 숫자는 문자열이 아닌 숫자 크기로 비교함
+      final boolean leftNumber = left instanceof Number, rightNumber = right instanceof Number;
+      if (leftNumber && rightNumber) {
+        final BigDecimal x = toDecimal((Number) left), y = toDecimal((Number) right);
+
+        return null == x || null == y
+            ? Double.compare(((Number) left).doubleValue(), ((Number) right).doubleValue())
+            : x.compareTo(y);
+      }
+
+      // 숫자와 문자열을 섞어 비교하면 순서가 어긋나므로 (9 < 10 < "1a" < 9) 숫자를 항상 앞에 둠
+      if (leftNumber != rightNumber) return leftNumber ? -1 : 1;
+
+      return String.valueOf(left).compareTo(String.valueOf(right));
+    }
+
+    /**
+     * 숫자를 손실 없이 BigDecimal 로 변환합니다. NaN, Infinity 는 null 을 반환합니다
+     */
+    private static BigDecimal toDecimal(final Number value) {
+      if (value instanceof BigDecimal) return (BigDecimal) value;
+      if (value instanceof BigInteger) return new BigDecimal((BigInteger) value);
+      if (value instanceof Long || value instanceof Integer
+          || value instanceof Short || value instanceof Byte)
+        return BigDecimal.valueOf(value.longValue());
+
+      final double number = value.doubleValue();
+      return Double.isFinite(number) ? new BigDecimal(number) : null;
+    }
+  }
+
+}
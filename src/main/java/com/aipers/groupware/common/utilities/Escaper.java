@@ -0,0 +1,283 @@
+package com.aipers.groupware.common.utilities;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * 문자열을 문맥 (HTML, JSON, CSV, URL) 에 맞게 escape 하는 클래스 입니다.
+ *   ASCII 문자별 치환 문자열 table 로 처리하며 변경이 없는 구간은 한번에 복사함
+ *   CharSequence, Reader 의 내용을 Appendable, Writer 로 바로 기록하므로 전체 결과 문자열을 만들지 않아도 됨
+ *   생성 이후 변경할 수 없으며 여러 스레드에서 공유 가능함
+ */
+public final class Escaper {
+
+  private static final int ASCII = 128;
+  private static final int BUFFER_SIZE = 8192;
+  private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+  /**
+   * StringUtils.safeHTML 과 같은 문자 (&amp; # &lt; &gt; ( ) " ') 를 escape 합니다
+   */
+  public static final Escaper HTML = new Escaper(table(
+      "&", "&amp;", "#", "&#35;", "<", "&lt;", ">", "&gt;",
+      "(", "&#40;", ")", "&#41;", "\"", "&quot;", "'", "&#39;"
+  ), false, null);
+
+  /**
+   * JSON 문자열 값 (따옴표 안쪽) 으로 escape 합니다. 제어 문자는 \b \f \n \r \t 또는 \\u00XX 로 기록합니다
+   */
+  public static final Escaper JSON = new Escaper(jsonTable(), false, null);
+
+  /**
+   * CSV 필드 (RFC 4180) 로 escape 합니다. , " CR LF 가 있다면 따옴표로 감싸고 " 는 "" 로 기록합니다
+   * Reader 로 읽는 경우 미리 내용을 알 수 없으므로 항상 따옴표로 감쌉니다
+   */
+  public static final Escaper CSV = new Escaper(table("\"", "\"\""), false, ",\"\r\n");
+
+  /**
+   * URL 구성 요소 (RFC 3986 unreserved 문자 외 모두 인코딩) 로 escape 합니다. non-ASCII 문자는 UTF-8 로 인코딩합니다
+   */
+  public static final Escaper URL_COMPONENT = new Escaper(percentTable("-._~"), true, null);
+
+  /**
+   * URL path 로 escape 합니다. unreserved 문자와 sub-delims, : @ / 는 그대로 둡니다
+   */
+  public static final Escaper URL_PATH = new Escaper(percentTable("-._~!$&'()*+,;=:@/"), true, null);
+
+  /**
+   * URL query 의 키, 값으로 escape 합니다. 구분 문자로 쓰이는 &amp; = + # 는 인코딩합니다
+   */
+  public static final Escaper URL_QUERY = new Escaper(percentTable("-._~!$'()*,;:@/?"), true, null);
+
+  /**
+   * URL fragment 로 escape 합니다. path 에서 허용하는 문자와 ? 는 그대로 둡니다
+   */
+  public static final Escaper URL_FRAGMENT = new Escaper(percentTable("-._~!$&'()*+,;=:@/?"), true, null);
+
+  /**
+   * URLEncoder 와 같은 문자 (영문, 숫자, . - * _) 만 그대로 두며 공백은 %20 으로 escape 합니다 (StringUtils.encodeUrl)
+   */
+  public static final Escaper URL_FORM = new Escaper(percentTable(".-*_"), true, null);
+
+  private final String[] replacements;
+  private final boolean encodeNonAscii;
+  private final String quoteTriggers;
+
+  private Escaper(
+      final String[] replacements, final boolean encodeNonAscii, final String quoteTriggers
+  ) {
+    this.replacements = replacements;
+    this.encodeNonAscii = encodeNonAscii;
+    this.quoteTriggers = quoteTriggers;
+  }
+
+  /**
+   * escape 한 문자열을 반환합니다. 변경할 문자가 없다면 원본을 그대로 반환합니다
+   * @param text
+   * @return
+   */
+  public String escape(final CharSequence text) {
+    if (null == text) return null;
+
+    final int length = text.length();
+    int first = 0;
+    while (first < length && !needsEscape(text.charAt(first))) first++;
+
+    if (first == length && !isQuoted(text)) return text.toString();
+
+    final StringBuilder out = new StringBuilder(length + (length >> 3) + 16);
+
+    try {
+      return escape(text, out).toString();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * escape 한 결과를 out 에 기록합니다
+   * @param text
+   * @param out
+   * @return
+   * @param <A>
+   * @throws IOException
+   */
+  public <A extends Appendable> A escape(final CharSequence text, final A out)
+      throws IOException {
+    if (null == text) return out;
+
+    final boolean quoted = isQuoted(text);
+
+    if (quoted) out.append('"');
+    write(text, 0, text.length(), out);
+    if (quoted) out.append('"');
+
+    return out;
+  }
+
+  /**
+   * Reader 의 내용을 끝까지 읽어 escape 한 결과를 out 에 기록합니다. Reader 는 닫지 않습니다
+   * @param in
+   * @param out
+   * @return
+   * @param <W>
+   * @throws IOException
+   */
+  public <W extends Writer> W escape(final Reader in, final W out) throws IOException {
+    final char[] buffer = new char[BUFFER_SIZE];
+    final CharBuffer chars = CharBuffer.wrap(buffer);
+    final boolean quoted = null != quoteTriggers;
+    int carry = 0;
+
+    if (quoted) out.write('"');
+
+    for (int read;-1 != (read = in.read(buffer, carry, buffer.length - carry));) {
+      final int end = carry + read;
+
+      // surrogate pair 가 읽기 단위에 걸쳐 나뉘었다면 high surrogate 는 다음 읽기로 넘김
+      carry = encodeNonAscii && 0 < end && Character.isHighSurrogate(buffer[end - 1]) ? 1 : 0;
+
+      write(chars, 0, end - carry, out);
+      if (0 < carry) buffer[0] = buffer[end - 1];
+    }
+
+    if (0 < carry) write(chars, 0, carry, out);
+    if (quoted) out.write('"');
+
+    return out;
+  }
+
+  private void write(
+      final CharSequence text, final int from, final int to, final Appendable out
+  ) throws IOException {
+    int copied = from;
+
+    for (int i = from;i < to;) {
+      if (!needsEscape(text.charAt(i))) {
+        i++;
+        continue;
+      }
+
+      if (copied < i) appendRun(text, copied, i, out);
+
+      i += appendEscaped(text, i, to, out);
+      copied = i;
+    }
+
+    if (copied < to) appendRun(text, copied, to, out);
+  }
+
+  private boolean needsEscape(final char letter) {
+    return ASCII > letter ? null != replacements[letter] : encodeNonAscii;
+  }
+
+  private boolean isQuoted(final CharSequence text) {
+    if (null == quoteTriggers) return false;
+
+    for (int i = 0;i < text.length();i++) {
+      if (0 <= quoteTriggers.indexOf(text.charAt(i))) return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * index 위치의 문자를 escape 하여 기록하고 처리한 문자 수를 반환합니다 (surrogate pair 는 2)
+   */
+  private int appendEscaped(
+      final CharSequence text, final int index, final int to, final Appendable out
+  ) throws IOException {
+    final char letter = text.charAt(index);
+
+    if (ASCII > letter) {
+      out.append(replacements[letter]);
+      return 1;
+    }
+
+    if (0x800 > letter) {
+      appendPercent(out, 0xC0 | (letter >> 6));
+      appendPercent(out, 0x80 | (letter & 0x3F));
+      return 1;
+    }
+
+    if (Character.isHighSurrogate(letter) && index + 1 < to
+        && Character.isLowSurrogate(text.charAt(index + 1))) {
+      final int codePoint = Character.toCodePoint(letter, text.charAt(index + 1));
+      appendPercent(out, 0xF0 | (codePoint >> 18));
+      appendPercent(out, 0x80 | ((codePoint >> 12) & 0x3F));
+      appendPercent(out, 0x80 | ((codePoint >> 6) & 0x3F));
+      appendPercent(out, 0x80 | (codePoint & 0x3F));
+      return 2;
+    }
+
+    if (Character.isSurrogate(letter)) {
+      appendPercent(out, '?');
+      return 1;
+    }
+
+    appendPercent(out, 0xE0 | (letter >> 12));
+    appendPercent(out, 0x80 | ((letter >> 6) & 0x3F));
+    appendPercent(out, 0x80 | (letter & 0x3F));
+    return 1;
+  }
+
+  /**
+   * 변경이 없는 구간을 복사합니다. Writer 는 중간 문자열 없이 바로 기록합니다
+   */
+  private static void appendRun(
+      final CharSequence text, final int from, final int to, final Appendable out
+  ) throws IOException {
+    if (out instanceof Writer) {
+      if (text instanceof String) {
+        ((Writer) out).write((String) text, from, to - from);
+        return;
+      }
+
+      if (text instanceof CharBuffer && ((CharBuffer) text).hasArray()) {
+        final CharBuffer chars = (CharBuffer) text;
+        ((Writer) out).write(chars.array(), chars.arrayOffset() + chars.position() + from, to - from);
+        return;
+      }
+    }
+
+    out.append(text, from, to);
+  }
+
+  private static void appendPercent(final Appendable out, final int value) throws IOException {
+    out.append('%').append(HEX[(value >> 4) & 0xF]).append(HEX[value & 0xF]);
+  }
+
+  private static String[] table(final String ... pairs) {
+    final String[] table = new String[ASCII];
+    for (int i = 0;i < pairs.length;i += 2) table[pairs[i].charAt(0)] = pairs[i + 1];
+    return table;
+  }
+
+  private static String[] jsonTable() {
+    final String[] table = table(
+        "\"", "\\\"", "\\", "\\\\", "\b", "\\b", "\f", "\\f", "\n", "\\n", "\r", "\\r", "\t", "\\t"
+    );
+
+    for (char letter = 0;letter < 0x20;letter++) {
+      if (null == table[letter]) table[letter] = "\\u00" + HEX[letter >> 4] + HEX[letter & 0xF];
+    }
+
+    return table;
+  }
+
+  private static String[] percentTable(final String safe) {
+    final String[] table = new String[ASCII];
+
+    for (char letter = 0;letter < ASCII;letter++) {
+      final boolean unreserved = ('a' <= letter && 'z' >= letter) || ('A' <= letter && 'Z' >= letter)
+          || ('0' <= letter && '9' >= letter) || 0 <= safe.indexOf(letter);
+
+      if (!unreserved) table[letter] = "%" + HEX[letter >> 4] + HEX[letter & 0xF];
+    }
+
+    return table;
+  }
+
+}
@@ -1,5 +1,8 @@
 package com.aipers.groupware.common.utilities;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.regex.Pattern;
 
 public abstract class Formatters {
@@ -46,7 +49,7 @@ public abstract class Formatters {
    * @return
    */
   public final static boolean isBase64String(final String txt) {
-    return BASE64_PATTERN.matcher(txt).matches();
+    return Base64Utils.isBase64(txt);
   }
 
   /**
@@ -64,7 +67,7 @@ public abstract class Formatters {
    * @return
    */
   public final static String maskingBetweenChars(final String origin) {
-    return origin.replaceAll("(?<!^.?).(?!.?$)", "*");
+    return PatternCache.replaceAll(origin, "(?<!^.?).(?!.?$)", "*");
   }
 
   /**
@@ -72,12 +75,30 @@ public abstract class Formatters {
    * @param str
    * @return
    */
-  public static String phone(String str) {
-    str = StringUtils.nvl(str).trim().replaceAll("[^\\d]", "");
+  public static String phone(final String str) {
+    final String source = StringUtils.nvl(str);
+    return format(source, (out) -> phone(source, out));
+  }
+
+  /**
+   * 숫자만 추려 전화번호 포맷으로 out 에 기록합니다
+   *   8 자리는 1234-5678, 02 로 시작하는 7 자리 이상은 02-XXX-XXXX, 9 자리 이상은 XXX-XXX-XXXX
+   *   그 외에는 숫자만 기록합니다
+   * @param str
+   * @param out
+   * @return
+   * @param <A>
+   * @throws IOException
+   */
+  public static <A extends Appendable> A phone(final CharSequence str, final A out)
+      throws IOException {
+    final int count = countDigits(str);
 
-    return 8 == str.length()
-        ? str.replaceAll("(\\d{4})(\\d{4})", "$1-$2")
-        : str.replaceAll("(^02.{0}|^01\\d{1}|\\d{3})(\\d+)(\\d{4})", "$1-$2-$3");
+    if (8 == count) return appendDigits(str, out, 4, -1, -1);
+    if (7 <= count && startsWithDigits(str, '0', '2')) return appendDigits(str, out, 2, count - 4, -1);
+    if (9 <= count) return appendDigits(str, out, 3, count - 4, -1);
+
+    return appendDigits(str, out, -1, -1, -1);
   }
 
   /**
@@ -86,12 +107,118 @@ public abstract class Formatters {
    * @return
    */
   public static String number(final String str) {
-    final String[] parts = str.split("\\.");
-    return StringUtils.nvl(parts[0]).trim()
-        .replaceAll("[^\\d|\\-]", "")
-        .replaceFirst("^0+(?!$)", "")
-        .replaceAll(NUMBER_PATTERN, "$1,") +
-        (1 < parts.length ? ".".concat(parts[1]) : "");
+    return format(str, (out) -> number(str, out));
+  }
+
+  /**
+   * 자릿수 단위 포맷으로 변환합니다
+   * @param value
+   * @return
+   */
+  public static String number(final long value) {
+    return format(null, (out) -> number(value, out));
+  }
+
+  /**
+   * 자릿수 단위 포맷으로 변환합니다. 지수 표기 없이 (toPlainString) 변환합니다
+   * @param value
+   * @return
+   */
+  public static String number(final BigDecimal value) {
+    return number(value.toPlainString());
+  }
+
+  /**
+   * 자릿수 단위 포맷으로 out 에 기록합니다
+   *   소수점 앞 부분은 숫자, -, | 만 남기고 앞의 0 을 제거한 후 연속된 숫자마다 세자리 단위로 , 를 넣음
+   *   소수점 뒷 부분은 다음 소수점 전까지를 그대로 기록함 (String.split 과 같이 비어있는 끝 부분은 무시함)
+   * @param str
+   * @param out
+   * @return
+   * @param <A>
+   * @throws IOException
+   */
+  public static <A extends Appendable> A number(final CharSequence str, final A out)
+      throws IOException {
+    final int length = str.length();
+    int dot = 0;
+    while (dot < length && '.' != str.charAt(dot)) dot++;
+
+    int fraction = dot + 1;
+    while (fraction < length && '.' == str.charAt(fraction)) fraction++;
+
+    final boolean hasFraction = fraction < length;
+    // 기존 구현 (split) 과 같이 점으로만 이루어진 문자열은 조각이 없으므로 예외가 발생함
+    if (0 == dot && !hasFraction && 0 < length) {
+      throw new ArrayIndexOutOfBoundsException("Index 0 out of bounds for length 0");
+    }
+
+    // 앞의 0 은 모두 제거하되 0 만 있다면 하나를 남김
+    int start = nextNumberChar(str, 0, dot);
+    while (start < dot && '0' == str.charAt(start)) {
+      final int next = nextNumberChar(str, start + 1, dot);
+      if (next == dot) break;
+      start = next;
+    }
+
+    int run = 0;
+
+    for (int i = start;i < dot;i = nextNumberChar(str, i + 1, dot)) {
+      final char letter = str.charAt(i);
+
+      if (!isDigit(letter)) {
+        out.append(letter);
+        run = 0;
+        continue;
+      }
+
+      if (0 == run) {
+        for (int j = i;j < dot;j = nextNumberChar(str, j + 1, dot)) {
+          if (!isDigit(str.charAt(j))) break;
+          run++;
+        }
+      }
+
+      out.append(letter);
+      if (0 < --run && 0 == run % 3) out.append(',');
+    }
+
+    if (hasFraction) {
+      int end = dot + 1;
+      while (end < length && '.' != str.charAt(end)) end++;
+      out.append('.').append(str, dot + 1, end);
+    }
+
+    return out;
+  }
+
+  /**
+   * 자릿수 단위 포맷으로 out 에 기록합니다
+   * @param value
+   * @param out
+   * @return
+   * @param <A>
+   * @throws IOException
+   */
+  public static <A extends Appendable> A number(final long value, final A out) throws IOException {
+    if (0 > value) out.append('-');
+
+    // Long.MIN_VALUE 도 처리할 수 있도록 음수로 계산함
+    final long negative = 0 > value ? value : -value;
+    long divisor = -1;
+    int digits = 1;
+
+    while (negative / 10 <= divisor) {
+      divisor *= 10;
+      digits++;
+    }
+
+    for (divisor = -divisor;0 < digits;digits--, divisor /= 10) {
+      out.append((char) ('0' - negative / divisor % 10));
+      if (1 < digits && 1 == digits % 3) out.append(',');
+    }
+
+    return out;
   }
 
   /**
@@ -100,9 +227,23 @@ public abstract class Formatters {
    * @return
    */
   public static String biz(final String str) {
-    return StringUtils.nvl(str).trim()
-        .replaceAll("[^\\d]", "")
-        .replaceAll(BUSINESS_NO_PATTERN, "$1-$2-$3");
+    final String source = StringUtils.nvl(str);
+    return format(source, (out) -> biz(source, out));
+  }
+
+  /**
+   * 숫자만 추려 사업자 번호 포맷 (123-45-67890) 으로 out 에 기록합니다. 6 자리 미만은 숫자만 기록합니다
+   * @param str
+   * @param out
+   * @return
+   * @param <A>
+   * @throws IOException
+   */
+  public static <A extends Appendable> A biz(final CharSequence str, final A out)
+      throws IOException {
+    return 6 <= countDigits(str)
+        ? appendDigits(str, out, 3, 5, -1)
+        : appendDigits(str, out, -1, -1, -1);
   }
 
   /**
@@ -111,18 +252,195 @@ public abstract class Formatters {
    * @return
    */
   public static String card(final String str) {
-    return StringUtils.nvl(str).trim()
-        .replaceAll("\\D", "")
-        .replaceAll(CARD_NO_PATTERN, "$1-$2-$3-$4");
+    final String source = StringUtils.nvl(str);
+    return format(source, (out) -> card(source, out));
+  }
+
+  /**
+   * 숫자만 추려 카드 번호 포맷 (1234-5678-9012-3456) 으로 out 에 기록합니다. 13 자리 미만은 숫자만 기록합니다
+   * @param str
+   * @param out
+   * @return
+   * @param <A>
+   * @throws IOException
+   */
+  public static <A extends Appendable> A card(final CharSequence str, final A out)
+      throws IOException {
+    return 13 <= countDigits(str)
+        ? appendDigits(str, out, 4, 8, 12)
+        : appendDigits(str, out, -1, -1, -1);
+  }
+
+  /**
+   * 목록의 key 컬럼 값을 주어진 포맷으로 변환하여 target 컬럼에 저장합니다. 값이 없는 행은 건너뜁니다
+   *   모든 행에서 하나의 StringBuilder 를 재사용하며 숫자 (Long, Integer, BigDecimal) 는 문자열 변환 없이 처리함
+   * @param rows
+   * @param key
+   * @param target
+   * @param field
+   * @param <T>
+   * @return
+   */
+  public static <T extends Dictionary> List<T> format(
+      final List<T> rows, final String key, final String target, final Field field
+  ) {
+    final StringBuilder buffer = new StringBuilder(32);
+
+    try {
+      for (final T row : rows) {
+        final Object value = row.take(key);
+        if (null == value) continue;
+
+        buffer.setLength(0);
+        field.append(value, buffer);
+        row.set(target, buffer.toString());
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+
+    return rows;
+  }
+
+  /**
+   * 목록의 key 컬럼 값을 주어진 포맷으로 변환하여 같은 컬럼에 저장합니다
+   * @param rows
+   * @param key
+   * @param field
+   * @param <T>
+   * @return
+   */
+  public static <T extends Dictionary> List<T> format(
+      final List<T> rows, final String key, final Field field
+  ) {
+    return format(rows, key, key, field);
+  }
+
+  /**
+   * 일괄 변환 (format) 에 사용하는 포맷 종류 입니다
+   */
+  public enum Field {
+    PHONE, NUMBER, BUSINESS_NO, CARD_NO;
+
+    private void append(final Object value, final StringBuilder out) throws IOException {
+      if (NUMBER == this && (value instanceof Long || value instanceof Integer
+          || value instanceof Short || value instanceof Byte)) {
+        number(((Number) value).longValue(), out);
+        return;
+      }
+
+      final CharSequence text = value instanceof BigDecimal
+          ? ((BigDecimal) value).toPlainString()
+          : value instanceof CharSequence ? (CharSequence) value : String.valueOf(value);
+
+      switch (this) {
+        case PHONE: phone(text, out); break;
+        case NUMBER: number(text, out); break;
+        case BUSINESS_NO: biz(text, out); break;
+        default: card(text, out); break;
+      }
+    }
   }
 
   /**
    * 주어진 문자열에서 특정 문자열이 3회이상 반복되는지 확인 합니다. (주로 비밀번호의 유효성 검증을 위해 사용됩니다)
+   * 이미 컴파일된 호출부와의 호환을 위해 instance 메서드로 유지합니다 (isRepeatedThreeTimesMore 참고)
    * @param value
    * @return
    */
   public boolean isRepeatedAtThreeTimeMore(final String value) {
-    return REPEAT_CHAR_PATTERN.matcher(value).find();
+    return StringUtils.isRepeatedAtLimitMore(value, 3);
+  }
+
+  /**
+   * 주어진 문자열에서 같은 문자가 3회이상 반복되는지 확인 합니다. (주로 비밀번호의 유효성 검증을 위해 사용됩니다)
+   * @param value
+   * @return
+   */
+  public static final boolean isRepeatedThreeTimesMore(final String value) {
+    return StringUtils.isRepeatedAtLimitMore(value, 3);
+  }
+
+  /**
+   * StringBuilder 에 기록한 결과를 반환합니다. 결과가 원본과 같다면 원본을 반환합니다
+   */
+  private static String format(final String source, final Appender appender) {
+    final StringBuilder out = new StringBuilder(null == source ? 24 : source.length() + 8);
+
+    try {
+      appender.append(out);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+
+    return null != source && source.contentEquals(out) ? source : out.toString();
+  }
+
+  /**
+   * 숫자 ([0-9]) 의 개수를 반환합니다
+   */
+  private static int countDigits(final CharSequence str) {
+    int count = 0;
+    for (int i = 0;i < str.length();i++) {
+      if (isDigit(str.charAt(i))) count++;
+    }
+    return count;
+  }
+
+  /**
+   * 숫자만 추렸을 때 first, second 로 시작하는지 확인합니다
+   */
+  private static boolean startsWithDigits(final CharSequence str, final char first, final char second) {
+    int matched = 0;
+
+    for (int i = 0;i < str.length() && 2 > matched;i++) {
+      final char letter = str.charAt(i);
+      if (!isDigit(letter)) continue;
+      if ((0 == matched ? first : second) != letter) return false;
+      matched++;
+    }
+
+    return 2 == matched;
+  }
+
+  /**
+   * 숫자만 추려 기록하며 숫자 순번이 split 위치 (사용하지 않는다면 -1) 라면 앞에 - 를 넣습니다
+   */
+  private static <A extends Appendable> A appendDigits(
+      final CharSequence str, final A out, final int first, final int second, final int third
+  ) throws IOException {
+    int index = 0;
+
+    for (int i = 0;i < str.length();i++) {
+      final char letter = str.charAt(i);
+      if (!isDigit(letter)) continue;
+
+      if (0 < index && (index == first || index == second || index == third)) out.append('-');
+      out.append(letter);
+      index++;
+    }
+
+    return out;
+  }
+
+  /**
+   * from 부터 to 전까지 숫자, -, | 인 다음 위치를 반환합니다. 없다면 to 를 반환합니다
+   */
+  private static int nextNumberChar(final CharSequence str, int from, final int to) {
+    while (from < to) {
+      final char letter = str.charAt(from);
+      if (isDigit(letter) || '-' == letter || '|' == letter) return from;
+      from++;
+    }
+    return to;
+  }
+
+  private static boolean isDigit(final char letter) {
+    return '0' <= letter && '9' >= letter;
+  }
+
+  private interface Appender {
+    void append(StringBuilder out) throws IOException;
   }
 
 }
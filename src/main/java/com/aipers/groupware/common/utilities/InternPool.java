@@ -0,0 +1,110 @@
+package com.aipers.groupware.common.utilities;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 값 (키 문자열, 코드 값 등) 을 하나의 인스턴스로 공유하기 위한 pool 입니다.
+ *   고정된 크기의 2-way 슬롯 배열로 크기가 제한되며 두 슬롯이 모두 차 있다면 오래된 값을 덮어씀
+ *   값은 WeakReference 로 보관하므로 사용하는 곳이 없어지면 GC 대상이 됨
+ *   잠금 없이 여러 스레드에서 사용 가능하며 hit, miss 횟수로 절약 효과를 확인할 수 있음
+ *   값은 변경할 수 없는 객체 (String, Integer 등) 여야 함
+ * @param <T>
+ */
+public class InternPool<T> {
+
+  private final AtomicReferenceArray<WeakReference<T>> slots;
+  private final int mask;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public InternPool(final int capacity) {
+    if (0 >= capacity) throw new IllegalArgumentException("capacity must be positive");
+
+    final int size = Integer.highestOneBit(Math.max(2, capacity - 1) << 1);
+    this.slots = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+  }
+
+  /**
+   * pool 에 같은 값이 있다면 pool 의 인스턴스를, 없다면 주어진 값을 저장 후 반환합니다
+   * @param value
+   * @return
+   */
+  public T intern(final T value) {
+    if (null == value) return null;
+
+    final int hash = value.hashCode();
+    final int first = (hash ^ (hash >>> 16)) & mask;
+    final int second = first ^ 1;
+
+    final T primary = valueAt(first);
+    if (value.equals(primary)) {
+      hits.increment();
+      return primary;
+    }
+
+    final T secondary = valueAt(second);
+    if (value.equals(secondary)) {
+      hits.increment();
+      return secondary;
+    }
+
+    misses.increment();
+
+    if (null != primary && null == secondary) {
+      slots.set(second, new WeakReference<>(value));
+    } else {
+      if (null != primary) slots.set(second, slots.get(first));
+      slots.set(first, new WeakReference<>(value));
+    }
+
+    return value;
+  }
+
+  public int capacity() {
+    return slots.length();
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * 조회 대비 pool 의 값을 재사용한 비율을 반환합니다 (0 ~ 1)
+   * @return
+   */
+  public double getHitRate() {
+    final long hit = hits.sum();
+    final long total = hit + misses.sum();
+    return 0 == total ? 0D : (double) hit / total;
+  }
+
+  /**
+   * 보관된 값과 통계를 모두 비웁니다
+   */
+  public void clear() {
+    for (int i = 0;i < slots.length();i++) slots.set(i, null);
+    hits.reset();
+    misses.reset();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "InternPool{capacity=%d, hits=%d, misses=%d, hitRate=%.3f}",
+        capacity(), getHitCount(), getMissCount(), getHitRate()
+    );
+  }
+
+  private T valueAt(final int index) {
+    final WeakReference<T> reference = slots.get(index);
+    return null == reference ? null : reference.get();
+  }
+
+}
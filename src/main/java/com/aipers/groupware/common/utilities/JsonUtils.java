@@ -0,0 +1,306 @@
+package com.aipers.groupware.common.utilities;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 공유 ObjectMapper 를 사용하여 JSON 변환을 처리하는 유틸리티 클래스 입니다.
+ *   ObjectMapper, ObjectWriter 는 설정 후 변경하지 않으므로 여러 스레드에서 공유 가능함
+ *   목록 출력시 중간 문자열을 만들지 않고 OutputStream, Writer 에 바로 기록함
+ *   JSON 입력은 중간 Map 없이 토큰 단위로 읽어 Dictionary 를 바로 생성함
+ *   전달된 InputStream, Reader, OutputStream, Writer 는 닫지 않음
+ */
+public abstract class JsonUtils {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final ObjectWriter WRITER;
+  private static final ObjectWriter ELEMENT_WRITER;
+
+  static {
+    MAPPER.getFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    MAPPER.getFactory().disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+    WRITER = MAPPER.writer();
+    ELEMENT_WRITER = WRITER.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+
+  private JsonUtils() {}
+
+  /**
+   * 공유 ObjectMapper 를 반환합니다. 반환된 객체의 설정은 변경하지 않아야 합니다
+   * @return
+   */
+  public static final ObjectMapper getMapper() {
+    return MAPPER;
+  }
+
+  /**
+   * 주어진 객체를 JSON 문자열로 변환합니다
+   * @param value
+   * @return
+   * @throws JsonProcessingException
+   */
+  public static final String toJson(final Object value) throws JsonProcessingException {
+    return WRITER.writeValueAsString(value);
+  }
+
+  /**
+   * 주어진 객체를 JSON 으로 변환하여 OutputStream 에 기록합니다 (UTF-8)
+   * @param value
+   * @param out
+   * @throws IOException
+   */
+  public static final void write(final Object value, final OutputStream out) throws IOException {
+    WRITER.writeValue(out, value);
+  }
+
+  /**
+   * 주어진 객체를 JSON 으로 변환하여 Writer 에 기록합니다
+   * @param value
+   * @param out
+   * @throws IOException
+   */
+  public static final void write(final Object value, final Writer out) throws IOException {
+    WRITER.writeValue(out, value);
+  }
+
+  /**
+   * 주어진 목록을 JSON 배열로 변환하여 OutputStream 에 기록합니다 (UTF-8)
+   * @param rows
+   * @param out
+   * @throws IOException
+   */
+  public static final void writeArray(
+      final Iterable<? extends Map<String, ?>> rows, final OutputStream out
+  ) throws IOException {
+    try (final JsonGenerator generator = MAPPER.getFactory().createGenerator(out)) {
+      writeArray(rows.iterator(), generator);
+    }
+  }
+
+  /**
+   * 주어진 목록을 JSON 배열로 변환하여 Writer 에 기록합니다
+   * @param rows
+   * @param out
+   * @throws IOException
+   */
+  public static final void writeArray(
+      final Iterable<? extends Map<String, ?>> rows, final Writer out
+  ) throws IOException {
+    try (final JsonGenerator generator = MAPPER.getFactory().createGenerator(out)) {
+      writeArray(rows.iterator(), generator);
+    }
+  }
+
+  /**
+   * 주어진 Stream 을 JSON 배열로 변환하여 OutputStream 에 기록합니다 (UTF-8)
+   * 한 행씩 기록하므로 Stream 전체를 메모리에 올리지 않습니다
+   * @param rows
+   * @param out
+   * @throws IOException
+   */
+  public static final void writeArray(
+      final Stream<? extends Map<String, ?>> rows, final OutputStream out
+  ) throws IOException {
+    try (final JsonGenerator generator = MAPPER.getFactory().createGenerator(out)) {
+      writeArray(rows.iterator(), generator);
+    }
+  }
+
+  /**
+   * 주어진 Stream 을 JSON 배열로 변환하여 Writer 에 기록합니다
+   * 한 행씩 기록하므로 Stream 전체를 메모리에 올리지 않습니다
+   * @param rows
+   * @param out
+   * @throws IOException
+   */
+  public static final void writeArray(
+      final Stream<? extends Map<String, ?>> rows, final Writer out
+  ) throws IOException {
+    try (final JsonGenerator generator = MAPPER.getFactory().createGenerator(out)) {
+      writeArray(rows.iterator(), generator);
+    }
+  }
+
+  /**
+   * JSON 객체를 읽어 Dictionary 로 반환합니다. 중첩된 객체도 Dictionary 로 생성됩니다
+   * @param in
+   * @return
+   * @throws IOException
+   */
+  public static final Dictionary readDictionary(final InputStream in) throws IOException {
+    try (final JsonParser parser = MAPPER.getFactory().createParser(in)) {
+      return readRoot(parser);
+    }
+  }
+
+  /**
+   * JSON 객체를 읽어 Dictionary 로 반환합니다. 중첩된 객체도 Dictionary 로 생성됩니다
+   * @param in
+   * @return
+   * @throws IOException
+   */
+  public static final Dictionary readDictionary(final Reader in) throws IOException {
+    try (final JsonParser parser = MAPPER.getFactory().createParser(in)) {
+      return readRoot(parser);
+    }
+  }
+
+  /**
+   * JSON 객체를 읽어 Dictionary 로 반환합니다. 중첩된 객체도 Dictionary 로 생성됩니다
+   * @param json
+   * @return
+   * @throws IOException
+   */
+  public static final Dictionary readDictionary(final byte[] json) throws IOException {
+    try (final JsonParser parser = MAPPER.getFactory().createParser(json)) {
+      return readRoot(parser);
+    }
+  }
+
+  /**
+   * JSON 객체를 읽어 Dictionary 로 반환합니다. 중첩된 객체도 Dictionary 로 생성됩니다
+   * @param json
+   * @return
+   * @throws IOException
+   */
+  public static final Dictionary readDictionary(final String json) throws IOException {
+    try (final JsonParser parser = MAPPER.getFactory().createParser(json)) {
+      return readRoot(parser);
+    }
+  }
+
+  /**
+   * JSON 배열 또는 줄 단위 JSON (NDJSON) 을 한 객체씩 읽어 Dictionary 로 변환하는 Stream 을 반환합니다
+   * 읽은 객체는 보관하지 않기 때문에 큰 입력도 일정한 메모리로 처리할 수 있습니다
+   * Stream 을 닫으면 내부 parser 도 닫힙니다 (InputStream 은 닫지 않음)
+   * @param in
+   * @return
+   * @throws IOException
+   */
+  public static final Stream<Dictionary> streamDictionaries(final InputStream in) throws IOException {
+    return streamDictionaries(MAPPER.getFactory().createParser(in));
+  }
+
+  /**
+   * JSON 배열 또는 줄 단위 JSON (NDJSON) 을 한 객체씩 읽어 Dictionary 로 변환하는 Stream 을 반환합니다
+   * 읽은 객체는 보관하지 않기 때문에 큰 입력도 일정한 메모리로 처리할 수 있습니다
+   * Stream 을 닫으면 내부 parser 도 닫힙니다 (Reader 는 닫지 않음)
+   * @param in
+   * @return
+   * @throws IOException
+   */
+  public static final Stream<Dictionary> streamDictionaries(final Reader in) throws IOException {
+    return streamDictionaries(MAPPER.getFactory().createParser(in));
+  }
+
+  private static Stream<Dictionary> streamDictionaries(final JsonParser parser) throws IOException {
+    final boolean isArray = JsonToken.START_ARRAY == parser.nextToken();
+    if (isArray) parser.nextToken();
+
+    return StreamSupport.stream(
+        new Spliterators.AbstractSpliterator<Dictionary>(
+            Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL
+        ) {
+          @Override
+          public boolean tryAdvance(final Consumer<? super Dictionary> action) {
+            try {
+              final JsonToken token = parser.currentToken();
+              if (null == token || (isArray && JsonToken.END_ARRAY == token)) return false;
+
+              action.accept(readObject(parser));
+              parser.nextToken();
+              return true;
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          }
+        },
+        false
+    ).onClose(() -> {
+      try {
+        parser.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  private static Dictionary readRoot(final JsonParser parser) throws IOException {
+    parser.nextToken();
+    return readObject(parser);
+  }
+
+  private static Dictionary readObject(final JsonParser parser) throws IOException {
+    if (JsonToken.START_OBJECT != parser.currentToken())
+      throw new JsonParseException(parser, "JSON object expected but was " + parser.currentToken());
+
+    final Dictionary dictionary = new Dictionary();
+
+    for (String key; null != (key = parser.nextFieldName());) {
+      parser.nextToken();
+      dictionary.set(key, readValue(parser));
+    }
+
+    return dictionary;
+  }
+
+  private static Object readValue(final JsonParser parser) throws IOException {
+    switch (parser.currentToken()) {
+      case START_OBJECT:
+        return readObject(parser);
+      case START_ARRAY:
+        final List<Object> values = new ArrayList<>();
+        while (JsonToken.END_ARRAY != parser.nextToken()) values.add(readValue(parser));
+        return values;
+      case VALUE_STRING:
+        return parser.getText();
+      case VALUE_NUMBER_INT:
+      case VALUE_NUMBER_FLOAT:
+        return parser.getNumberValue();
+      case VALUE_TRUE:
+        return Boolean.TRUE;
+      case VALUE_FALSE:
+        return Boolean.FALSE;
+      case VALUE_EMBEDDED_OBJECT:
+        return parser.getEmbeddedObject();
+      case VALUE_NULL:
+        return null;
+      default:
+        throw new JsonParseException(parser, "Unexpected token " + parser.currentToken());
+    }
+  }
+
+  private static void writeArray(
+      final Iterator<? extends Map<String, ?>> rows, final JsonGenerator generator
+  ) throws IOException {
+    generator.writeStartArray();
+
+    while (rows.hasNext()) ELEMENT_WRITER.writeValue(generator, rows.next());
+
+    generator.writeEndArray();
+    generator.flush();
+  }
+
+}
@@ -0,0 +1,289 @@
+package com.aipers.groupware.common.utilities;
+
+import com.aipers.groupware.common.Constants;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Serializable;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+
+/**
+ * 크기가 큰 문자열, 바이너리 값 (Clob, Blob, InputStream) 을 힙 밖에 보관하는 클래스 입니다.
+ *   read 메서드는 값을 끝까지 읽으며 기준 크기 이하라면 String, byte[] 을 그대로 반환함
+ *   기준 크기를 넘으면 임시 파일에 기록 후 memory-mapped 버퍼로 보관하며 (파일은 바로 삭제됨)
+ *   toString, getBytes 가 호출될 때만 힙에 값을 만듦
+ *   기준 크기는 환경변수 dictionary.spill.threshold 로 지정 (문자 수 또는 바이트 수, 기본 1MB)
+ *   Java 직렬화시 값 전체를 byte[] 로 기록하며 역직렬화시 다시 임시 파일에 보관함
+ */
+public final class LargeValue implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  public static final long SPILL_THRESHOLD;
+
+  private static final int READ_BUFFER_SIZE = 8192;
+
+  static {
+    long threshold = Constants.DEFAULT_SPILL_THRESHOLD;
+
+    try {
+      final String value = System.getenv("dictionary.spill.threshold");
+      if (null != value) threshold = Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {}
+
+    SPILL_THRESHOLD = threshold;
+  }
+
+  private final boolean text;
+  private final ByteBuffer buffer;
+
+  private LargeValue(final boolean text, final ByteBuffer buffer) {
+    this.text = text;
+    this.buffer = buffer;
+  }
+
+  /**
+   * Clob 의 내용을 읽어 String 또는 LargeValue 로 반환합니다
+   * @param clob
+   * @return
+   * @throws SQLException
+   * @throws IOException
+   */
+  public static Object read(final Clob clob) throws SQLException, IOException {
+    if (null == clob) return null;
+
+    try (final Reader reader = clob.getCharacterStream()) {
+      return read(reader);
+    }
+  }
+
+  /**
+   * Blob 의 내용을 읽어 byte[] 또는 LargeValue 로 반환합니다
+   * @param blob
+   * @return
+   * @throws SQLException
+   * @throws IOException
+   */
+  public static Object read(final Blob blob) throws SQLException, IOException {
+    if (null == blob) return null;
+
+    try (final InputStream in = blob.getBinaryStream()) {
+      return read(in);
+    }
+  }
+
+  /**
+   * Reader 의 내용을 끝까지 읽어 String 또는 LargeValue 로 반환합니다. Reader 는 닫지 않습니다
+   * @param reader
+   * @return
+   * @throws IOException
+   */
+  public static Object read(final Reader reader) throws IOException {
+    if (null == reader) return null;
+
+    final StringBuilder head = new StringBuilder();
+    final char[] chars = new char[READ_BUFFER_SIZE];
+    int read;
+
+    while (-1 != (read = reader.read(chars))) {
+      head.append(chars, 0, read);
+      if (head.length() > SPILL_THRESHOLD) break;
+    }
+
+    if (-1 == read) return head.toString();
+
+    return spill(true, out -> {
+      final Writer writer =
+          new BufferedWriter(new OutputStreamWriter(out, Constants.DEFAULT_CHARSET));
+
+      writer.append(head);
+      for (int count; -1 != (count = reader.read(chars));) writer.write(chars, 0, count);
+      writer.flush();
+    });
+  }
+
+  /**
+   * InputStream 의 내용을 끝까지 읽어 byte[] 또는 LargeValue 로 반환합니다. InputStream 은 닫지 않습니다
+   * @param in
+   * @return
+   * @throws IOException
+   */
+  public static Object read(final InputStream in) throws IOException {
+    if (null == in) return null;
+
+    final ByteArrayOutputStream head = new ByteArrayOutputStream();
+    final byte[] bytes = new byte[READ_BUFFER_SIZE];
+    int read;
+
+    while (-1 != (read = in.read(bytes))) {
+      head.write(bytes, 0, read);
+      if (head.size() > SPILL_THRESHOLD) break;
+    }
+
+    if (-1 == read) return head.toByteArray();
+
+    return spill(false, out -> {
+      head.writeTo(out);
+      for (int count; -1 != (count = in.read(bytes));) out.write(bytes, 0, count);
+    });
+  }
+
+  public boolean isText() {
+    return text;
+  }
+
+  /**
+   * 값의 바이트 수를 반환합니다 (문자열은 UTF-8 기준)
+   * @return
+   */
+  public int length() {
+    return buffer.limit();
+  }
+
+  /**
+   * 값을 힙에 복사하지 않고 읽는 InputStream 을 반환합니다
+   * @return
+   */
+  public InputStream openStream() {
+    final ByteBuffer source = buffer.duplicate();
+
+    return new InputStream() {
+      @Override
+      public int read() {
+        return source.hasRemaining() ? source.get() & 0xFF : -1;
+      }
+
+      @Override
+      public int read(final byte[] bytes, final int offset, final int length) {
+        if (0 == length) return 0;
+        if (!source.hasRemaining()) return -1;
+
+        final int count = Math.min(length, source.remaining());
+        source.get(bytes, offset, count);
+        return count;
+      }
+
+      @Override
+      public int available() {
+        return source.remaining();
+      }
+    };
+  }
+
+  /**
+   * 값을 힙에 복사하지 않고 읽는 Reader 를 반환합니다 (UTF-8)
+   * @return
+   */
+  public Reader openReader() {
+    return new InputStreamReader(openStream(), Constants.DEFAULT_CHARSET);
+  }
+
+  /**
+   * 값을 byte[] 로 복사하여 반환합니다
+   * @return
+   */
+  public byte[] getBytes() {
+    final byte[] bytes = new byte[buffer.limit()];
+    buffer.duplicate().get(bytes);
+    return bytes;
+  }
+
+  /**
+   * JSON 직렬화 값을 반환합니다. 문자열은 String, 바이너리는 byte[] (Base64) 로 기록됩니다
+   * @return
+   */
+  @JsonValue
+  public Object getValue() {
+    return text ? toString() : getBytes();
+  }
+
+  @Override
+  public String toString() {
+    return Constants.DEFAULT_CHARSET.decode(buffer.duplicate()).toString();
+  }
+
+  /**
+   * 직렬화시 memory-mapped 버퍼 대신 값을 기록하는 SerializedForm 으로 대체합니다
+   */
+  private Object writeReplace() {
+    return new SerializedForm(text, getBytes());
+  }
+
+  private void readObject(final ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("SerializedForm required");
+  }
+
+  /**
+   * 임시 파일에 값을 기록 후 memory-mapped 버퍼로 연결한 LargeValue 를 반환합니다
+   */
+  private static LargeValue spill(final boolean text, final SpillWriter writer) throws IOException {
+    final Path path = Files.createTempFile("dictionary-", ".spill");
+
+    try (final FileChannel channel = FileChannel.open(
+        path, StandardOpenOption.READ, StandardOpenOption.WRITE
+    )) {
+      writer.write(Channels.newOutputStream(channel));
+
+      if (Integer.MAX_VALUE < channel.size())
+        throw new IOException("Value is too large to map: " + channel.size());
+
+      return new LargeValue(text, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    } finally {
+      try {
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        path.toFile().deleteOnExit();
+      }
+    }
+  }
+
+  /**
+   * LargeValue 의 직렬화 형태 입니다
+   */
+  private static final class SerializedForm implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean text;
+    private final byte[] bytes;
+
+    private SerializedForm(final boolean text, final byte[] bytes) {
+      this.text = text;
+      this.bytes = bytes;
+    }
+
+    private Object readResolve() throws InvalidObjectException {
+      try {
+        return spill(text, out -> out.write(bytes));
+      } catch (IOException e) {
+        final InvalidObjectException exception = new InvalidObjectException("Failed to spill value");
+        exception.initCause(e);
+        throw exception;
+      }
+    }
+
+  }
+
+  @FunctionalInterface
+  private interface SpillWriter {
+    void write(OutputStream out) throws IOException;
+  }
+
+}
@@ -0,0 +1,340 @@
+package com.aipers.groupware.common.utilities;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 문자열을 한번에 찾아 치환하는 클래스 입니다. (Aho-Corasick)
+ *   치환 목록은 생성시 한번만 automaton 으로 만들며 생성 이후에는 변경할 수 없고 여러 스레드에서 공유 가능함
+ *   입력은 한번만 순회하며 같은 위치에서 시작하는 문자열이 여럿이라면 가장 긴 문자열을 치환함 (leftmost-longest)
+ *   치환된 결과는 다시 검사하지 않음 (순차적인 replace 호출과 달리 치환 결과가 다른 치환에 영향을 주지 않음)
+ */
+public final class LiteralReplacer {
+
+  private static final int ROOT = 0;
+  private static final int ASCII = 128;
+  private static final int MAX_TABLE_STATES = 4096;
+
+  private final String[] patterns;
+  private final String[] replacements;
+
+  private final char[][] labels;
+  private final int[][] targets;
+  private final int[] rootTargets = new int[ASCII];
+  private final int[] fail;
+  private final int[] depth;
+  private final int[] output;
+  private final int[] asciiTable;
+
+  private LiteralReplacer(final Map<String, String> replacements) {
+    final List<String> keys = new ArrayList<>();
+    final List<String> values = new ArrayList<>();
+
+    replacements.forEach((key, value) -> {
+      if (null == key || key.isEmpty()) return;
+
+      keys.add(key);
+      values.add(null == value ? "" : value);
+    });
+
+    this.patterns = keys.toArray(new String[0]);
+    this.replacements = values.toArray(new String[0]);
+
+    final List<char[]> labelList = new ArrayList<>();
+    final List<int[]> targetList = new ArrayList<>();
+    final List<Integer> depthList = new ArrayList<>();
+    final List<Integer> outputList = new ArrayList<>();
+
+    labelList.add(new char[0]);
+    targetList.add(new int[0]);
+    depthList.add(0);
+    outputList.add(-1);
+
+    for (int p = 0;p < patterns.length;p++) {
+      int state = ROOT;
+
+      for (int i = 0;i < patterns[p].length();i++) {
+        final char letter = patterns[p].charAt(i);
+        int next = find(labelList.get(state), targetList.get(state), letter);
+
+        if (0 > next) {
+          next = labelList.size();
+          labelList.add(new char[0]);
+          targetList.add(new int[0]);
+          depthList.add(i + 1);
+          outputList.add(-1);
+
+          final char[] stateLabels = labelList.get(state);
+          final int[] stateTargets = targetList.get(state);
+          final int index = -(Arrays.binarySearch(stateLabels, letter) + 1);
+
+          labelList.set(state, insert(stateLabels, index, letter));
+          targetList.set(state, insert(stateTargets, index, next));
+        }
+
+        state = next;
+      }
+
+      outputList.set(state, p);
+    }
+
+    final int size = labelList.size();
+    this.labels = labelList.toArray(new char[0][]);
+    this.targets = targetList.toArray(new int[0][]);
+    this.depth = new int[size];
+    this.output = new int[size];
+    this.fail = new int[size];
+
+    for (int i = 0;i < size;i++) {
+      depth[i] = depthList.get(i);
+      output[i] = outputList.get(i);
+    }
+
+    Arrays.fill(rootTargets, ROOT);
+    for (int i = 0;i < labels[ROOT].length;i++) {
+      if (ASCII > labels[ROOT][i]) rootTargets[labels[ROOT][i]] = targets[ROOT][i];
+    }
+
+    buildFailureLinks();
+    this.asciiTable = MAX_TABLE_STATES < size ? null : buildAsciiTable(size);
+  }
+
+  /**
+   * 주어진 치환 목록 (찾을 문자열 => 바꿀 문자열) 으로 LiteralReplacer 를 생성합니다. 빈 문자열 키는 무시합니다
+   * @param replacements
+   * @return
+   */
+  public static LiteralReplacer of(final Map<String, String> replacements) {
+    return new LiteralReplacer(replacements);
+  }
+
+  /**
+   * 주어진 문자열 목록을 찾는 LiteralReplacer 를 생성합니다 (containsAny, indexOf 용도)
+   * @param patterns
+   * @return
+   */
+  public static LiteralReplacer of(final String ... patterns) {
+    final Map<String, String> replacements = new LinkedHashMap<>();
+    for (final String pattern : patterns) replacements.put(pattern, "");
+    return new LiteralReplacer(replacements);
+  }
+
+  /**
+   * 치환한 문자열을 반환합니다. 치환할 문자열이 없다면 원본을 그대로 반환합니다
+   * @param source
+   * @return
+   */
+  public String replace(final CharSequence source) {
+    if (null == source) return null;
+
+    final StringBuilder out = new StringBuilder(source.length() + (source.length() >> 3) + 16);
+
+    try {
+      return 0 == write(source, out) ? source.toString() : out.toString();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * 치환한 문자열을 out 에 기록합니다
+   * @param source
+   * @param out
+   * @return
+   * @param <A>
+   * @throws IOException
+   */
+  public <A extends Appendable> A replace(final CharSequence source, final A out)
+      throws IOException {
+    if (0 == write(source, out)) out.append(source);
+    return out;
+  }
+
+  /**
+   * 주어진 문자열에 찾을 문자열이 하나라도 있는지 확인합니다
+   * @param source
+   * @return
+   */
+  public boolean containsAny(final CharSequence source) {
+    return 0 <= indexOf(source);
+  }
+
+  /**
+   * 처음 발견된 문자열의 시작 위치를 반환합니다. 없다면 -1 을 반환합니다
+   * @param source
+   * @return
+   */
+  public int indexOf(final CharSequence source) {
+    int state = ROOT;
+
+    for (int i = 0;i < source.length();i++) {
+      state = step(state, source.charAt(i));
+
+      final int match = longestMatch(state);
+      if (0 <= match) return i - patterns[match].length() + 1;
+    }
+
+    return -1;
+  }
+
+  /**
+   * 입력을 한 문자씩 직접 진행할 때의 시작 상태를 반환합니다 (PasswordPolicy)
+   */
+  int start() {
+    return ROOT;
+  }
+
+  /**
+   * 현재 상태에서 letter 를 읽은 다음 상태를 반환합니다
+   */
+  int next(final int state, final char letter) {
+    return step(state, letter);
+  }
+
+  /**
+   * 현재 상태에서 끝나는 문자열이 있는지 확인합니다
+   */
+  boolean isMatched(final int state) {
+    return 0 <= output[state];
+  }
+
+  /**
+   * 치환 결과를 out 에 기록하고 치환 횟수를 반환합니다. 치환이 없었다면 out 에 아무것도 기록하지 않습니다
+   */
+  private int write(final CharSequence source, final Appendable out) throws IOException {
+    final int length = source.length();
+    int copied = 0, count = 0, state = ROOT, i = 0;
+    int bestStart = -1, bestEnd = -1, bestMatch = -1;
+
+    while (true) {
+      if (i < length) {
+        state = step(state, source.charAt(i));
+
+        final int match = longestMatch(state);
+
+        if (0 <= match) {
+          final int start = i - patterns[match].length() + 1;
+
+          if (0 > bestMatch || start < bestStart || (start == bestStart && i + 1 > bestEnd)) {
+            bestStart = start;
+            bestEnd = i + 1;
+            bestMatch = match;
+          }
+        }
+
+        if (0 > bestMatch || i - depth[state] + 1 <= bestStart) {
+          i++;
+          continue;
+        }
+      } else if (0 > bestMatch) {
+        break;
+      }
+
+      out.append(source, copied, bestStart).append(replacements[bestMatch]);
+      count++;
+
+      copied = i = bestEnd;
+      state = ROOT;
+      bestMatch = -1;
+    }
+
+    if (0 < count) out.append(source, copied, length);
+    return count;
+  }
+
+  private int step(int state, final char letter) {
+    if (ASCII > letter && null != asciiTable) return asciiTable[state * ASCII + letter];
+
+    while (true) {
+      if (ROOT == state && ASCII > letter) return rootTargets[letter];
+
+      final int next = find(labels[state], targets[state], letter);
+      if (0 <= next) return next;
+      if (ROOT == state) return ROOT;
+
+      state = fail[state];
+    }
+  }
+
+  /**
+   * 현재 상태에서 끝나는 가장 긴 문자열의 번호를 반환합니다
+   */
+  private int longestMatch(final int state) {
+    return output[state];
+  }
+
+  private void buildFailureLinks() {
+    final Deque<Integer> queue = new ArrayDeque<>();
+
+    for (final int child : targets[ROOT]) {
+      fail[child] = ROOT;
+      queue.add(child);
+    }
+
+    while (!queue.isEmpty()) {
+      final int state = queue.poll();
+
+      for (int i = 0;i < labels[state].length;i++) {
+        final int child = targets[state][i];
+        final char letter = labels[state][i];
+        int link = fail[state];
+
+        while (ROOT != link && 0 > find(labels[link], targets[link], letter)) link = fail[link];
+
+        final int next = find(labels[link], targets[link], letter);
+        fail[child] = 0 <= next && next != child ? next : ROOT;
+        queue.add(child);
+      }
+    }
+
+    // 자신의 출력이 없는 상태는 failure 경로에서 가장 먼저 만나는 (가장 긴) 출력을 물려받음
+    for (int state = 1;state < fail.length;state++) {
+      int link = state;
+      while (ROOT != link && 0 > output[link]) link = fail[link];
+      output[state] = output[link];
+    }
+  }
+
+  /**
+   * 상태 수가 적다면 ASCII 문자의 전이 (failure 경로 포함) 를 미리 계산하여 한번의 배열 조회로 처리함
+   */
+  private int[] buildAsciiTable(final int size) {
+    final int[] table = new int[size * ASCII];
+
+    for (int state = 0;state < size;state++) {
+      for (char letter = 0;letter < ASCII;letter++) {
+        table[state * ASCII + letter] = step(state, letter);
+      }
+    }
+
+    return table;
+  }
+
+  private static int find(final char[] labels, final int[] targets, final char letter) {
+    final int index = Arrays.binarySearch(labels, letter);
+    return 0 > index ? -1 : targets[index];
+  }
+
+  private static char[] insert(final char[] array, final int index, final char value) {
+    final char[] copy = new char[array.length + 1];
+    System.arraycopy(array, 0, copy, 0, index);
+    copy[index] = value;
+    System.arraycopy(array, index, copy, index + 1, array.length - index);
+    return copy;
+  }
+
+  private static int[] insert(final int[] array, final int index, final int value) {
+    final int[] copy = new int[array.length + 1];
+    System.arraycopy(array, 0, copy, 0, index);
+    copy[index] = value;
+    System.arraycopy(array, index, copy, index + 1, array.length - index);
+    return copy;
+  }
+
+}
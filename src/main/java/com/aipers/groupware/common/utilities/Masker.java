@@ -0,0 +1,628 @@
+package com.aipers.groupware.common.utilities;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 개인정보 (이메일, 전화번호, 카드번호, 주민등록번호 등) 를 마스킹 하는 클래스 입니다.
+ *   Dictionary 는 Builder 로 지정한 키별 마스킹 유형 (Type) 으로 값을 마스킹 함
+ *   문자열, Reader 는 한번만 순회하며 영문, 숫자, ._%+-@ 로 이루어진 단어마다 유형을 판별하여 마스킹 함
+ *   숫자는 하이픈 (-) 구분 또는 연속된 숫자만 판별하며 구분 문자는 그대로 둠
+ *   전화번호는 국가번호 형식 (+82-10-1234-5678, +82 10-1234-5678) 도 판별함
+ *   영문 다음의 . 뒤에 숫자가 오면 (tel.010-1234-5678) 숫자부터 다시 판별함
+ *   생성 이후 변경할 수 없으며 여러 스레드에서 공유 가능함
+ */
+public final class Masker {
+
+  /**
+   * 마스킹 유형 입니다
+   */
+  public enum Type {
+    /** 아이디 (@ 앞부분) 의 앞 2 자리를 제외하고 마스킹 (ho******@example.com) */
+    EMAIL,
+    /** 가운데 번호를 마스킹 (010-****-5678, 02-***-4567, +82-10-****-5678) */
+    PHONE,
+    /** 앞 6 자리, 뒤 4 자리를 제외하고 마스킹 (1234-56**-****-3456) */
+    CARD,
+    /** 생년월일, 성별 (앞 7 자리) 을 제외하고 마스킹 (900101-1******) */
+    RESIDENT_NO,
+    /** 처음과 마지막 문자를 제외하고 마스킹 (홍*동, 홍*) */
+    NAME,
+    /** 양 끝 두자리를 제외하고 마스킹 (Formatters.maskingBetweenChars 와 같은 모양) */
+    BETWEEN,
+    /** 공백을 제외한 모든 문자를 마스킹 */
+    ALL
+  }
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final int MAX_TOKEN_LENGTH = 320;
+  private static final boolean[] TOKEN_CHARS = tokenChars();
+
+  private final Map<String, Type> fields;
+  private final Set<Type> detections;
+  private final char maskChar;
+
+  private Masker(final Builder builder) {
+    this.fields = new LinkedHashMap<>(builder.fields);
+    this.detections = EnumSet.copyOf(builder.detections);
+    this.maskChar = builder.maskChar;
+  }
+
+  /**
+   * 키별 마스킹 유형이 없고 이메일, 전화번호, 카드번호, 주민등록번호를 판별하는 Builder 를 반환합니다
+   * @return
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Builder 로 지정한 키의 값을 마스킹 합니다. 값이 없는 키는 건너뛰며 주어진 Dictionary 를 변경합니다
+   * @param dictionary
+   * @return
+   * @param <T>
+   */
+  public <T extends Dictionary> T apply(final T dictionary) {
+    for (final Map.Entry<String, Type> field : fields.entrySet()) {
+      final Object value = dictionary.take(field.getKey());
+      if (null == value) continue;
+
+      dictionary.set(
+          field.getKey(),
+          mask(field.getValue(), value instanceof CharSequence ? (CharSequence) value : String.valueOf(value))
+      );
+    }
+
+    return dictionary;
+  }
+
+  /**
+   * 목록의 모든 Dictionary 에 apply 를 적용합니다
+   * @param dictionaries
+   * @return
+   * @param <T>
+   * @param <C>
+   */
+  public <T extends Dictionary, C extends Collection<T>> C applyAll(final C dictionaries) {
+    for (final T dictionary : dictionaries) apply(dictionary);
+    return dictionaries;
+  }
+
+  /**
+   * 주어진 유형으로 값을 마스킹 하여 반환합니다
+   * @param type
+   * @param value
+   * @return
+   */
+  public String mask(final Type type, final CharSequence value) {
+    if (null == value) return null;
+
+    switch (type) {
+      case NAME: return maskKeeping(value, 1, 1);
+      case BETWEEN: return maskKeeping(value, 2, 2);
+      case ALL: return maskKeeping(value, 0, 0);
+      default:
+        final char[] chars = value.toString().toCharArray();
+        if (Type.EMAIL == type && 0 > indexOf(chars, 0, chars.length, '@')) return maskKeeping(value, 2, 2);
+
+        mask(type, chars, 0, chars.length);
+        return new String(chars);
+    }
+  }
+
+  /**
+   * 문자열에서 개인정보를 판별하여 마스킹 한 결과를 반환합니다
+   * @param text
+   * @return
+   */
+  public String maskText(final CharSequence text) {
+    if (null == text) return null;
+
+    final String source = text.toString();
+    final char[] buffer = new char[Math.min(BUFFER_SIZE, Math.max(1, source.length()))];
+    final StringBuilder out = new StringBuilder(source.length() + 16);
+    final Detector detector = new Detector(out);
+
+    try {
+      for (int from = 0;from < source.length();from += buffer.length) {
+        final int to = Math.min(source.length(), from + buffer.length);
+        source.getChars(from, to, buffer, 0);
+        detector.accept(buffer, to - from);
+      }
+
+      detector.flush();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+
+    return out.toString();
+  }
+
+  /**
+   * Reader 의 내용을 끝까지 읽어 개인정보를 판별하여 마스킹 한 결과를 out 에 기록합니다. Reader 는 닫지 않습니다
+   * @param in
+   * @param out
+   * @return
+   * @param <W>
+   * @throws IOException
+   */
+  public <W extends Writer> W mask(final Reader in, final W out) throws IOException {
+    final char[] buffer = new char[BUFFER_SIZE];
+    final Detector detector = new Detector(out);
+
+    for (int read;-1 != (read = in.read(buffer));) detector.accept(buffer, read);
+
+    detector.flush();
+    return out;
+  }
+
+  /**
+   * EMAIL, PHONE, CARD, RESIDENT_NO 유형으로 from ~ to 구간을 문자 단위로 바로 마스킹 합니다 (길이는 변하지 않음)
+   *   EMAIL 은 @ 가 있어야 하며 숫자 유형은 숫자 순번으로 위치를 정하고 구분 문자는 그대로 둠
+   */
+  private void mask(final Type type, final char[] chars, final int from, final int to) {
+    if (Type.EMAIL == type) {
+      final int at = indexOf(chars, from, to, '@');
+      Arrays.fill(chars, from + 2 < at ? from + 2 : Math.max(from, at - 1), at, maskChar);
+      return;
+    }
+
+    final int digits = countDigits(chars, from, to);
+
+    switch (type) {
+      case PHONE:
+        maskPhone(chars, from, to, digits);
+        break;
+      case CARD:
+        maskDigits(chars, from, to, 12 > digits ? 0 : 6, digits - 4);
+        break;
+      default:
+        maskDigits(chars, from, to, 7 < digits ? 7 : 0, digits);
+    }
+  }
+
+  /**
+   * 0 으로 시작하는 번호는 지역번호 (02, 010 등) 와 뒤 4 자리를 제외하고 마스킹 합니다
+   * 국가번호 (+82) 가 있거나 앞자리 0 이 없는 번호는 끝에서 두번째 구간을 마스킹 하며
+   * 구분 문자가 없다면 뒤 4 자리 앞의 4 자리를 마스킹 합니다
+   */
+  private void maskPhone(final char[] chars, final int from, final int to, final int digits) {
+    int i = from;
+    while (i < to && !isDigit(chars[i])) i++;
+
+    if (i < to && '0' == chars[i]) {
+      maskDigits(chars, from, to, 9 > digits ? 0 : startsWith02(chars, from, to) ? 2 : 3, digits - 4);
+      return;
+    }
+
+    int tail = 0, middle = 0;
+    for (i = to - 1;i >= from && '-' != chars[i];i--) {
+      if (isDigit(chars[i])) tail++;
+    }
+    for (i--;i >= from && '-' != chars[i];i--) {
+      if (isDigit(chars[i])) middle++;
+    }
+
+    // 구분 문자가 없거나 두 구간뿐이라면 가운데 구간을 알 수 없음
+    if (i < from || middle == digits - tail) {
+      maskDigits(chars, from, to, Math.max(0, digits - 8), digits - 4);
+    } else {
+      maskDigits(chars, from, to, digits - tail - middle, digits - tail);
+    }
+  }
+
+  /**
+   * 숫자 순번이 first 이상 last 미만인 숫자를 마스킹 합니다
+   */
+  private void maskDigits(final char[] chars, final int from, final int to, final int first, final int last) {
+    for (int i = from, index = 0;i < to && index < last;i++) {
+      if (!isDigit(chars[i])) continue;
+      if (index++ >= first) chars[i] = maskChar;
+    }
+  }
+
+  /**
+   * 앞의 head 개, 뒤의 tail 개 문자 (code point) 를 제외하고 공백이 아닌 문자를 마스킹 합니다
+   * 두 글자는 첫 글자만 남깁니다 (NAME)
+   */
+  private String maskKeeping(final CharSequence value, final int head, final int tail) {
+    final int count = Character.codePointCount(value, 0, value.length());
+    final int keepTail = 2 == count && 1 == head ? 0 : tail;
+    final StringBuilder out = new StringBuilder(value.length());
+    int index = 0;
+
+    for (int i = 0;i < value.length();index++) {
+      final int codePoint = Character.codePointAt(value, i);
+      final int width = Character.charCount(codePoint);
+
+      if (index < head || index >= count - keepTail || Character.isWhitespace(codePoint)) {
+        out.append(value, i, i + width);
+      } else {
+        out.append(maskChar);
+      }
+
+      i += width;
+    }
+
+    return out.toString();
+  }
+
+  private static int indexOf(final char[] chars, final int from, final int to, final char letter) {
+    for (int i = from;i < to;i++) {
+      if (letter == chars[i]) return i;
+    }
+    return -1;
+  }
+
+  private static int countDigits(final char[] chars, final int from, final int to) {
+    int count = 0;
+    for (int i = from;i < to;i++) {
+      if (isDigit(chars[i])) count++;
+    }
+    return count;
+  }
+
+  private static boolean startsWith02(final char[] chars, final int from, final int to) {
+    int matched = 0;
+
+    for (int i = from;i < to && 2 > matched;i++) {
+      if (!isDigit(chars[i])) continue;
+      if ((0 == matched ? '0' : '2') != chars[i]) return false;
+      matched++;
+    }
+
+    return 2 == matched;
+  }
+
+  private static boolean isDigit(final char letter) {
+    return '0' <= letter && '9' >= letter;
+  }
+
+  private static boolean isAlphanumeric(final char letter) {
+    return isDigit(letter) || ('a' <= letter && 'z' >= letter) || ('A' <= letter && 'Z' >= letter);
+  }
+
+  private static boolean isTokenChar(final char letter) {
+    return TOKEN_CHARS.length > letter && TOKEN_CHARS[letter];
+  }
+
+  private static boolean[] tokenChars() {
+    final boolean[] table = new boolean[128];
+
+    for (char letter = 0;letter < table.length;letter++) {
+      table[letter] = isAlphanumeric(letter) || 0 <= "._%+-@".indexOf(letter);
+    }
+
+    return table;
+  }
+
+  /**
+   * 읽은 내용을 단어 단위로 나누어 개인정보를 판별하는 상태 입니다
+   *   단어는 읽은 buffer 안에서 바로 판별, 마스킹 하므로 읽은 내용을 한번에 기록함
+   *   읽기 단위에 걸친 단어만 token 에 보관하여 다음 읽기로 이어서 판별함
+   *   단어는 최대 MAX_TOKEN_LENGTH 까지만 판별하며 넘어가면 그대로 기록함
+   */
+  private final class Detector {
+
+    private final Appendable out;
+    private final char[] token = new char[MAX_TOKEN_LENGTH];
+    private final int[] groups = new int[8];
+    private int length;
+    private boolean overflow;
+    // 직전 단어가 국가번호 (+82) 였는지 여부 (+82 10-1234-5678)
+    private boolean countryCode;
+
+    private Detector(final Appendable out) {
+      this.out = out;
+    }
+
+    private void accept(final char[] chars, final int end) throws IOException {
+      int i = 0;
+
+      // 이전 읽기에서 이어지는 단어
+      if (0 < length || overflow) {
+        while (i < end && isTokenChar(chars[i])) i++;
+
+        if (overflow) {
+          write(chars, 0, i);
+        } else if (MAX_TOKEN_LENGTH - length >= i) {
+          System.arraycopy(chars, 0, token, length, i);
+          length += i;
+        } else {
+          write(token, 0, length);
+          write(chars, 0, i);
+          length = 0;
+          overflow = true;
+        }
+
+        if (i == end) return;
+
+        flush();
+      }
+
+      final int first = i;
+
+      while (i < end) {
+        if (!isTokenChar(chars[i])) {
+          i++;
+          continue;
+        }
+
+        final int start = i;
+        while (i < end && isTokenChar(chars[i])) i++;
+
+        if (i == end) {
+          write(chars, first, start);
+
+          if (MAX_TOKEN_LENGTH >= i - start) {
+            System.arraycopy(chars, start, token, 0, i - start);
+            length = i - start;
+          } else {
+            write(chars, start, i);
+            overflow = true;
+          }
+
+          return;
+        }
+
+        if (MAX_TOKEN_LENGTH >= i - start) mask(chars, start, i);
+      }
+
+      write(chars, first, end);
+    }
+
+    /**
+     * 보관 중인 단어를 판별하여 기록합니다
+     */
+    private void flush() throws IOException {
+      mask(token, 0, length);
+      write(token, 0, length);
+
+      length = 0;
+      overflow = false;
+    }
+
+    /**
+     * 단어를 판별하여 마스킹 대상이라면 바로 마스킹 합니다
+     */
+    private void mask(final char[] chars, final int start, final int end) {
+      if (start == end) return;
+
+      // 문장 부호로 쓰인 앞뒤의 . - 등은 판별에서 제외함
+      int from = start, to = end;
+      while (from < to && !isAlphanumeric(chars[from])) from++;
+      while (to > from && !isAlphanumeric(chars[to - 1])) to--;
+
+      final boolean international = from - 1 == start && '+' == chars[start];
+      final boolean afterCountryCode = countryCode;
+
+      countryCode = international && from < to && 3 >= to - from && to == end
+          && countDigits(chars, from, to) == to - from;
+      if (countryCode || from == to) return;
+
+      Type type = detect(chars, from, to, international, afterCountryCode);
+
+      // 영문 다음의 . 뒤의 숫자부터 다시 판별함 (tel.010-1234-5678)
+      for (int i = from + 1;null == type && i + 1 < to;i++) {
+        final char prev = chars[i - 1];
+        if ('.' == chars[i] && isDigit(chars[i + 1]) && isAlphanumeric(prev) && !isDigit(prev)) {
+          from = i + 1;
+          type = detect(chars, from, to, false, false);
+        }
+      }
+
+      if (null != type) Masker.this.mask(type, chars, from, to);
+    }
+
+    private void write(final char[] chars, final int from, final int to) throws IOException {
+      if (from == to) return;
+
+      if (out instanceof Writer) {
+        ((Writer) out).write(chars, from, to - from);
+      } else {
+        ((StringBuilder) out).append(chars, from, to - from);
+      }
+    }
+
+    private Type detect(
+        final char[] chars, final int from, final int to, final boolean international,
+        final boolean afterCountryCode
+    ) {
+      int count = 0, group = 0, digits = 0;
+
+      for (int i = from;i < to;i++) {
+        final char letter = chars[i];
+
+        if (isDigit(letter)) {
+          group++;
+          digits++;
+        } else if ('-' == letter && 0 < group && groups.length > count + 1) {
+          groups[count++] = group;
+          group = 0;
+        } else {
+          final int at = indexOf(chars, i, to, '@');
+          return 0 <= at && detections.contains(Type.EMAIL) && isEmail(chars, from, at, to) ? Type.EMAIL : null;
+        }
+      }
+
+      groups[count++] = group;
+
+      if (international) {
+        return detections.contains(Type.PHONE) && isInternationalPhone(count, digits) ? Type.PHONE : null;
+      }
+
+      if (detections.contains(Type.RESIDENT_NO) && isResidentNo(chars, from, count, digits)) {
+        return Type.RESIDENT_NO;
+      }
+      if (detections.contains(Type.CARD) && isCard(chars, from, to, count, digits)) return Type.CARD;
+      if (detections.contains(Type.PHONE)
+          && (isPhone(chars, from, count, digits) || (afterCountryCode && isNationalPhone(count, digits)))) {
+        return Type.PHONE;
+      }
+
+      return null;
+    }
+
+    /**
+     * 아이디가 있고 도메인이 점으로 구분되며 마지막 부분이 2 자 이상의 영문인지 확인합니다
+     */
+    private boolean isEmail(final char[] chars, final int from, final int at, final int to) {
+      if (from == at) return false;
+
+      int label = 0;
+      boolean dotted = false, alphabetic = true;
+
+      for (int i = at + 1;i < to;i++) {
+        final char letter = chars[i];
+
+        if ('.' == letter) {
+          if (0 == label) return false;
+          label = 0;
+          dotted = true;
+          alphabetic = true;
+        } else if (isAlphanumeric(letter) || '-' == letter) {
+          label++;
+          alphabetic &= !isDigit(letter) && '-' != letter;
+        } else {
+          return false;
+        }
+      }
+
+      return dotted && alphabetic && 2 <= label;
+    }
+
+    /**
+     * 6-7 자리 또는 연속된 13 자리이며 생년월일과 성별 숫자가 올바른지 확인합니다
+     */
+    private boolean isResidentNo(final char[] chars, final int from, final int count, final int digits) {
+      if (13 != digits || !((2 == count && 6 == groups[0]) || 1 == count)) return false;
+
+      final int month = digitAt(chars, from, 2) * 10 + digitAt(chars, from, 3);
+      final int day = digitAt(chars, from, 4) * 10 + digitAt(chars, from, 5);
+      final int gender = digitAt(chars, from, 6);
+
+      return 1 <= month && 12 >= month && 1 <= day && 31 >= day && 1 <= gender && 8 >= gender;
+    }
+
+    /**
+     * 4-4-4-4, 4-6-5 형식이거나 연속된 14 ~ 16 자리 숫자가 Luhn 검사를 통과하는지 확인합니다
+     */
+    private boolean isCard(final char[] chars, final int from, final int to, final int count, final int digits) {
+      if (4 == count) return 4 == groups[0] && 4 == groups[1] && 4 == groups[2] && 4 == groups[3];
+      if (3 == count) return 4 == groups[0] && 6 == groups[1] && 5 == groups[2];
+
+      return 1 == count && 14 <= digits && 16 >= digits && isLuhn(chars, from, to);
+    }
+
+    /**
+     * 0 으로 시작하는 2~3, 3~4, 4 자리 형식이거나 연속된 9 ~ 11 자리 숫자인지 확인합니다
+     */
+    private boolean isPhone(final char[] chars, final int from, final int count, final int digits) {
+      if ('0' != chars[from]) return false;
+      if (1 == count) return 9 <= digits && 11 >= digits;
+
+      return 3 == count && 2 <= groups[0] && 3 >= groups[0]
+          && 3 <= groups[1] && 4 >= groups[1] && 4 == groups[2];
+    }
+
+    /**
+     * + 다음의 국가번호를 포함한 8 ~ 15 자리 (E.164) 이며 첫 구간이 1 ~ 3 자리 국가번호인지 확인합니다
+     */
+    private boolean isInternationalPhone(final int count, final int digits) {
+      return 8 <= digits && 15 >= digits && (1 == count || 3 >= groups[0]);
+    }
+
+    /**
+     * 국가번호 다음의 앞자리 0 이 없는 1~2, 3~4, 4 자리 형식이거나 연속된 8 ~ 10 자리 숫자인지 확인합니다
+     */
+    private boolean isNationalPhone(final int count, final int digits) {
+      if (1 == count) return 8 <= digits && 10 >= digits;
+
+      return 3 == count && 1 <= groups[0] && 2 >= groups[0]
+          && 3 <= groups[1] && 4 >= groups[1] && 4 == groups[2];
+    }
+
+    private boolean isLuhn(final char[] chars, final int from, final int to) {
+      int sum = 0;
+      boolean doubled = false;
+
+      for (int i = to - 1;i >= from;i--) {
+        int digit = chars[i] - '0';
+        if (doubled && 9 < (digit <<= 1)) digit -= 9;
+        sum += digit;
+        doubled = !doubled;
+      }
+
+      return 0 == sum % 10;
+    }
+
+    /**
+     * from 부터 index 번째 숫자를 반환합니다 (구분 문자 제외)
+     */
+    private int digitAt(final char[] chars, final int from, final int index) {
+      for (int i = from, count = 0;i < chars.length;i++) {
+        if (isDigit(chars[i]) && count++ == index) return chars[i] - '0';
+      }
+      return -1;
+    }
+
+  }
+
+  /**
+   * Masker 를 구성하는 Builder 입니다
+   */
+  public static final class Builder {
+    private final Map<String, Type> fields = new LinkedHashMap<>();
+    private final Set<Type> detections =
+        EnumSet.of(Type.EMAIL, Type.PHONE, Type.CARD, Type.RESIDENT_NO);
+    private char maskChar = '*';
+
+    private Builder() {}
+
+    /**
+     * Dictionary 의 key 값을 주어진 유형으로 마스킹 합니다
+     * @param key
+     * @param type
+     * @return
+     */
+    public Builder field(final String key, final Type type) {
+      fields.put(key, type);
+      return this;
+    }
+
+    /**
+     * 문자열, Reader 에서 판별할 유형을 지정합니다. EMAIL, PHONE, CARD, RESIDENT_NO 만 판별할 수 있습니다
+     * @param types
+     * @return
+     */
+    public Builder detect(final Type ... types) {
+      detections.clear();
+
+      for (final Type type : types) {
+        if (Type.NAME == type || Type.BETWEEN == type || Type.ALL == type)
+          throw new IllegalArgumentException("Type can not be detected: " + type);
+
+        detections.add(type);
+      }
+
+      return this;
+    }
+
+    public Builder maskChar(final char maskChar) {
+      this.maskChar = maskChar;
+      return this;
+    }
+
+    public Masker build() {
+      return new Masker(this);
+    }
+  }
+
+}
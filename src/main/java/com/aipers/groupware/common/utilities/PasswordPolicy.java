@@ -0,0 +1,296 @@
+package com.aipers.groupware.common.utilities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 비밀번호 정책 (길이, 문자 종류, 반복, 연속, 금지 단어) 을 검사하는 클래스 입니다.
+ *   규칙은 Builder 로 한번만 구성하며 검사는 비밀번호를 한번만 순회하여 위반한 모든 규칙을 반환함
+ *   금지 단어는 Aho-Corasick trie (LiteralReplacer) 로 보관하며 대소문자를 구분하지 않음
+ *   생성 이후 변경할 수 없으며 여러 스레드에서 공유 가능함
+ */
+public final class PasswordPolicy {
+
+  /**
+   * 정책 위반 항목 입니다
+   */
+  public enum Violation {
+    TOO_SHORT,
+    TOO_LONG,
+    NO_LOWER_CASE,
+    NO_UPPER_CASE,
+    NO_DIGIT,
+    NO_SPECIAL,
+    TOO_FEW_CHARACTER_CLASSES,
+    REPEATED,
+    SEQUENTIAL,
+    BLOCKED_WORD
+  }
+
+  private static final int LOWER = 1;
+  private static final int UPPER = 1 << 1;
+  private static final int DIGIT = 1 << 2;
+  private static final int SPECIAL = 1 << 3;
+
+  private final int minLength;
+  private final int maxLength;
+  private final int requiredClasses;
+  private final int minClasses;
+  private final int repeatLimit;
+  private final int sequenceLimit;
+  private final LiteralReplacer blockedWords;
+
+  private PasswordPolicy(final Builder builder) {
+    this.minLength = builder.minLength;
+    this.maxLength = builder.maxLength;
+    this.requiredClasses = builder.requiredClasses;
+    this.minClasses = builder.minClasses;
+    this.repeatLimit = builder.repeatLimit;
+    this.sequenceLimit = builder.sequenceLimit;
+    this.blockedWords = builder.blockedWords.isEmpty()
+        ? null
+        : LiteralReplacer.of(builder.blockedWords);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * 비밀번호를 검사하여 위반한 모든 항목을 반환합니다. 정책을 만족한다면 빈 Set 을 반환합니다
+   * @param password
+   * @return
+   */
+  public Set<Violation> validate(final CharSequence password) {
+    final Set<Violation> violations = EnumSet.noneOf(Violation.class);
+    final int length = null == password ? 0 : password.length();
+
+    int classes = 0, repeat = 0, ascending = 0, descending = 0;
+    int state = null == blockedWords ? 0 : blockedWords.start();
+    char prev = 0;
+
+    for (int i = 0;i < length;i++) {
+      final char letter = password.charAt(i);
+      final char lower = Character.toLowerCase(letter);
+
+      classes |= classOf(letter);
+
+      final boolean alphanumeric = Character.isLetterOrDigit(letter);
+
+      if (0 == i) {
+        repeat = ascending = descending = 1;
+      } else {
+        // 연속 문자는 영문, 숫자 사이에서만 이어지는 것으로 봄
+        final int step = alphanumeric && Character.isLetterOrDigit(prev)
+            ? lower - Character.toLowerCase(prev)
+            : 0;
+
+        repeat = letter == prev ? repeat + 1 : 1;
+        ascending = 1 == step ? ascending + 1 : 1;
+        descending = -1 == step ? descending + 1 : 1;
+      }
+
+      if (0 < repeatLimit && repeat >= repeatLimit) violations.add(Violation.REPEATED);
+      if (0 < sequenceLimit && Math.max(ascending, descending) >= sequenceLimit) {
+        violations.add(Violation.SEQUENTIAL);
+      }
+
+      if (null != blockedWords) {
+        state = blockedWords.next(state, lower);
+        if (blockedWords.isMatched(state)) violations.add(Violation.BLOCKED_WORD);
+      }
+
+      prev = letter;
+    }
+
+    if (length < minLength) violations.add(Violation.TOO_SHORT);
+    if (0 < maxLength && length > maxLength) violations.add(Violation.TOO_LONG);
+
+    final int missing = requiredClasses & ~classes;
+    if (0 != (missing & LOWER)) violations.add(Violation.NO_LOWER_CASE);
+    if (0 != (missing & UPPER)) violations.add(Violation.NO_UPPER_CASE);
+    if (0 != (missing & DIGIT)) violations.add(Violation.NO_DIGIT);
+    if (0 != (missing & SPECIAL)) violations.add(Violation.NO_SPECIAL);
+    if (Integer.bitCount(classes) < minClasses) violations.add(Violation.TOO_FEW_CHARACTER_CLASSES);
+
+    return violations;
+  }
+
+  /**
+   * 비밀번호가 정책을 만족하는지 확인합니다
+   * @param password
+   * @return
+   */
+  public boolean isValid(final CharSequence password) {
+    return validate(password).isEmpty();
+  }
+
+  /**
+   * 여러 비밀번호를 검사하여 순서대로 위반 항목을 반환합니다 (일괄 점검 용도)
+   * @param passwords
+   * @return
+   */
+  public List<Set<Violation>> validateAll(final Collection<? extends CharSequence> passwords) {
+    final List<Set<Violation>> results = new ArrayList<>(passwords.size());
+    for (final CharSequence password : passwords) results.add(validate(password));
+    return results;
+  }
+
+  /**
+   * 여러 비밀번호를 검사하여 위반 항목별 건수를 반환합니다 (일괄 점검 용도)
+   * @param passwords
+   * @return
+   */
+  public Map<Violation, Integer> countViolations(final Iterable<? extends CharSequence> passwords) {
+    final int[] counts = new int[Violation.values().length];
+
+    for (final CharSequence password : passwords) {
+      for (final Violation violation : validate(password)) counts[violation.ordinal()]++;
+    }
+
+    final Map<Violation, Integer> result = new EnumMap<>(Violation.class);
+    for (final Violation violation : Violation.values()) {
+      if (0 < counts[violation.ordinal()]) result.put(violation, counts[violation.ordinal()]);
+    }
+
+    return result;
+  }
+
+  private static int classOf(final char letter) {
+    if (Character.isLowerCase(letter)) return LOWER;
+    if (Character.isUpperCase(letter)) return UPPER;
+    if (Character.isDigit(letter)) return DIGIT;
+    return Character.isLetter(letter) ? 0 : SPECIAL;
+  }
+
+  /**
+   * 비밀번호 정책을 구성하는 Builder 입니다. 설정하지 않은 규칙은 검사하지 않습니다
+   */
+  public static final class Builder {
+    private int minLength;
+    private int maxLength;
+    private int requiredClasses;
+    private int minClasses;
+    private int repeatLimit;
+    private int sequenceLimit;
+    private final Map<String, String> blockedWords = new LinkedHashMap<>();
+
+    private Builder() {}
+
+    /**
+     * 허용하는 길이를 설정합니다. maxLength 가 0 이라면 최대 길이는 검사하지 않습니다
+     * @param minLength
+     * @param maxLength
+     * @return
+     */
+    public Builder length(final int minLength, final int maxLength) {
+      if (0 > minLength || (0 < maxLength && maxLength < minLength))
+        throw new IllegalArgumentException(
+            String.format("Invalid length range %d ~ %d", minLength, maxLength));
+
+      this.minLength = minLength;
+      this.maxLength = maxLength;
+      return this;
+    }
+
+    public Builder requireLowerCase() {
+      requiredClasses |= LOWER;
+      return this;
+    }
+
+    public Builder requireUpperCase() {
+      requiredClasses |= UPPER;
+      return this;
+    }
+
+    public Builder requireDigit() {
+      requiredClasses |= DIGIT;
+      return this;
+    }
+
+    public Builder requireSpecial() {
+      requiredClasses |= SPECIAL;
+      return this;
+    }
+
+    /**
+     * 소문자, 대문자, 숫자, 특수문자 중 최소 몇 종류를 포함해야 하는지 설정합니다
+     * @param count
+     * @return
+     */
+    public Builder minCharacterClasses(final int count) {
+      if (0 > count || 4 < count) throw new IllegalArgumentException("count must be 0 ~ 4");
+
+      this.minClasses = count;
+      return this;
+    }
+
+    /**
+     * 같은 문자가 limit 회 이상 연속되면 위반으로 처리합니다 (aaa)
+     * @param limit
+     * @return
+     */
+    public Builder rejectRepeats(final int limit) {
+      if (2 > limit) throw new IllegalArgumentException("limit must be 2 or more");
+
+      this.repeatLimit = limit;
+      return this;
+    }
+
+    /**
+     * 영문, 숫자가 limit 자 이상 순서대로 (abc, 321) 연속되면 위반으로 처리합니다. 대소문자는 구분하지 않습니다
+     * @param limit
+     * @return
+     */
+    public Builder rejectSequences(final int limit) {
+      if (2 > limit) throw new IllegalArgumentException("limit must be 2 or more");
+
+      this.sequenceLimit = limit;
+      return this;
+    }
+
+    /**
+     * 비밀번호에 포함될 수 없는 단어를 추가합니다. 대소문자는 구분하지 않습니다
+     * @param words
+     * @return
+     */
+    public Builder blockWords(final String ... words) {
+      return blockWords(null == words ? Collections.emptyList() : Arrays.asList(words));
+    }
+
+    /**
+     * 비밀번호에 포함될 수 없는 단어를 추가합니다. 대소문자는 구분하지 않습니다
+     * @param words
+     * @return
+     */
+    public Builder blockWords(final Collection<String> words) {
+      for (final String word : words) {
+        if (null != word && !word.isEmpty()) blockedWords.put(toLowerCase(word), "");
+      }
+
+      return this;
+    }
+
+    public PasswordPolicy build() {
+      return new PasswordPolicy(this);
+    }
+
+    /**
+     * 검사시와 같이 문자 단위로 소문자 변환합니다
+     */
+    private static String toLowerCase(final String word) {
+      final char[] letters = word.toCharArray();
+      for (int i = 0;i < letters.length;i++) letters[i] = Character.toLowerCase(letters[i]);
+      return new String(letters);
+    }
+  }
+
+}
@@ -0,0 +1,130 @@
+package com.aipers.groupware.common.utilities;
+
+import com.aipers.groupware.common.Constants;
+import java.util.regex.Pattern;
+
+/**
+ * 컴파일된 정규식 (Pattern) 을 공유하는 캐시 입니다.
+ *   String.replaceAll, Pattern.compile 처럼 호출할 때마다 정규식을 컴파일하는 대신 캐시된 Pattern 을 사용함
+ *   최대 Constants.MAX_PATTERN_CACHE_SIZE 개를 보관하며 여러 스레드에서 사용 가능함 (BoundedCache)
+ *   적중률은 getHitRate 로 확인할 수 있음
+ */
+public abstract class PatternCache {
+
+  // flag 가 없는 정규식은 문자열, flag 가 있다면 Key 를 키로 사용함 (서로 같을 수 없으므로 충돌하지 않음)
+  private static final BoundedCache<Object, Pattern> CACHE =
+      new BoundedCache<>(Constants.MAX_PATTERN_CACHE_SIZE);
+
+  private PatternCache() {}
+
+  /**
+   * 정규식을 컴파일한 Pattern 을 반환합니다. 같은 정규식은 캐시된 Pattern 을 반환합니다
+   * @param regex
+   * @return
+   */
+  public static final Pattern compile(final String regex) {
+    return CACHE.get(regex, key -> Pattern.compile(regex));
+  }
+
+  /**
+   * 정규식과 flag 로 컴파일한 Pattern 을 반환합니다
+   * @param regex
+   * @param flags
+   * @return
+   */
+  public static final Pattern compile(final String regex, final int flags) {
+    if (0 == flags) return compile(regex);
+
+    return CACHE.get(new Key(regex, flags), key -> Pattern.compile(regex, flags));
+  }
+
+  /**
+   * 문자열 전체가 정규식과 일치하는지 확인합니다 (String.matches 와 동일)
+   * @param regex
+   * @param input
+   * @return
+   */
+  public static final boolean matches(final String regex, final CharSequence input) {
+    return compile(regex).matcher(input).matches();
+  }
+
+  /**
+   * 정규식과 일치하는 모든 부분을 치환합니다 (String.replaceAll 과 동일)
+   * @param input
+   * @param regex
+   * @param replacement
+   * @return
+   */
+  public static final String replaceAll(
+      final CharSequence input, final String regex, final String replacement
+  ) {
+    return compile(regex).matcher(input).replaceAll(replacement);
+  }
+
+  /**
+   * 정규식과 처음 일치하는 부분을 치환합니다 (String.replaceFirst 와 동일)
+   * @param input
+   * @param regex
+   * @param replacement
+   * @return
+   */
+  public static final String replaceFirst(
+      final CharSequence input, final String regex, final String replacement
+  ) {
+    return compile(regex).matcher(input).replaceFirst(replacement);
+  }
+
+  /**
+   * 정규식으로 문자열을 나눕니다 (String.split 과 동일)
+   * @param input
+   * @param regex
+   * @return
+   */
+  public static final String[] split(final CharSequence input, final String regex) {
+    return compile(regex).split(input);
+  }
+
+  public static final int size() {
+    return CACHE.size();
+  }
+
+  public static final long getHitCount() {
+    return CACHE.getHitCount();
+  }
+
+  public static final long getMissCount() {
+    return CACHE.getMissCount();
+  }
+
+  public static final double getHitRate() {
+    return CACHE.getHitRate();
+  }
+
+  /**
+   * flag 가 있는 정규식의 캐시 키 입니다
+   */
+  private static final class Key {
+    private final String regex;
+    private final int flags;
+
+    private Key(final String regex, final int flags) {
+      this.regex = regex;
+      this.flags = flags;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) return true;
+      if (!(o instanceof Key)) return false;
+
+      final Key key = (Key) o;
+      return flags == key.flags && regex.equals(key.regex);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * regex.hashCode() + flags;
+    }
+  }
+
+}
@@ -0,0 +1,445 @@
+package com.aipers.groupware.common.utilities;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 변경할 수 없는 (persistent) Dictionary 입니다.
+ *   Hash Array Mapped Trie 구조로 with, without, pick 호출시 원본과 구조를 공유하는 새 객체를 반환함 (O(log n))
+ *   생성 이후 내용이 바뀌지 않으므로 잠금 없이 여러 스레드에서 공유 가능함
+ *   Map 의 변경 메서드 (put, remove, clear 등) 는 UnsupportedOperationException 을 발생시킴
+ */
+public final class PersistentDictionary extends AbstractMap<String, Object> {
+
+  private static final int BITS = 5;
+  private static final int MASK = (1 << BITS) - 1;
+  private static final Object NOT_FOUND = new Object();
+
+  private static final PersistentDictionary EMPTY = new PersistentDictionary(BitmapNode.EMPTY, 0);
+
+  private final Node root;
+  private final int size;
+
+  private PersistentDictionary(final Node root, final int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * 비어있는 PersistentDictionary 를 반환합니다
+   * @return
+   */
+  public static PersistentDictionary empty() {
+    return EMPTY;
+  }
+
+  /**
+   * 주어진 Map 의 내용으로 PersistentDictionary 를 생성합니다
+   * @param map
+   * @return
+   */
+  public static PersistentDictionary of(final Map<String, ?> map) {
+    if (map instanceof PersistentDictionary) return (PersistentDictionary) map;
+
+    return EMPTY.withAll(map);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean containsKey(final Object key) {
+    return key instanceof String && NOT_FOUND != find((String) key);
+  }
+
+  @Override
+  public Object get(final Object key) {
+    if (!(key instanceof String)) return null;
+
+    final Object value = find((String) key);
+    return NOT_FOUND == value ? null : value;
+  }
+
+  /**
+   * 주어진 키와 값을 추가한 새 PersistentDictionary 를 반환합니다
+   * @param key
+   * @param value
+   * @return
+   */
+  public PersistentDictionary with(final String key, final Object value) {
+    final boolean[] added = new boolean[1];
+    final Node node = root.with(hash(key), 0, key, value, added);
+
+    return node == root ? this : new PersistentDictionary(node, added[0] ? size + 1 : size);
+  }
+
+  /**
+   * 주어진 Map 의 키와 값을 모두 추가한 새 PersistentDictionary 를 반환합니다
+   * @param map
+   * @return
+   */
+  public PersistentDictionary withAll(final Map<String, ?> map) {
+    if (null == map || map.isEmpty()) return this;
+
+    final boolean[] added = new boolean[1];
+    Node node = root;
+    int count = size;
+
+    for (final Map.Entry<String, ?> entry : map.entrySet()) {
+      added[0] = false;
+      node = node.with(hash(entry.getKey()), 0, entry.getKey(), entry.getValue(), added);
+      if (added[0]) count++;
+    }
+
+    return node == root ? this : new PersistentDictionary(node, count);
+  }
+
+  /**
+   * 주어진 키를 제외한 새 PersistentDictionary 를 반환합니다
+   * @param keys
+   * @return
+   */
+  public PersistentDictionary without(final String ... keys) {
+    Node node = root;
+    int count = size;
+
+    for (final String key : keys) {
+      if (null == key) continue;
+
+      final Node next = node.without(hash(key), 0, key);
+      if (next == node) continue;
+
+      node = null == next ? BitmapNode.EMPTY : next;
+      count--;
+    }
+
+    return node == root ? this : new PersistentDictionary(node, count);
+  }
+
+  /**
+   * 주어진 키의 값만 갖는 새 PersistentDictionary 를 반환합니다. null 값은 제외됩니다 (Dictionary.pick 과 동일)
+   * @param keys
+   * @return
+   */
+  public PersistentDictionary pick(final String ... keys) {
+    final boolean[] added = new boolean[1];
+    Node node = BitmapNode.EMPTY;
+    int count = 0;
+
+    for (final String key : keys) {
+      final Object value = get(key);
+      if (null == value) continue;
+
+      added[0] = false;
+      node = node.with(hash(key), 0, key, value, added);
+      if (added[0]) count++;
+    }
+
+    return 0 == count ? EMPTY : new PersistentDictionary(node, count);
+  }
+
+  /**
+   * 변경 가능한 Dictionary 로 복사하여 반환합니다
+   * @return
+   */
+  public Dictionary toDictionary() {
+    final Dictionary dictionary = new Dictionary((int) (size / 0.75f) + 1);
+
+    for (final Map.Entry<String, Object> entry : entrySet()) {
+      dictionary.set(entry.getKey(), entry.getValue());
+    }
+
+    return dictionary;
+  }
+
+  @Override
+  public Set<Map.Entry<String, Object>> entrySet() {
+    return new AbstractSet<Map.Entry<String, Object>>() {
+      @Override
+      public Iterator<Map.Entry<String, Object>> iterator() {
+        return new EntryIterator(root);
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  private Object find(final String key) {
+    return root.find(hash(key), 0, key);
+  }
+
+  private static int hash(final String key) {
+    final int h = key.hashCode();
+    return h ^ (h >>> 16);
+  }
+
+  private static int bitOf(final int hash, final int shift) {
+    return 1 << ((hash >>> shift) & MASK);
+  }
+
+  private static Object[] copyAndSet(final Object[] array, final int index, final Object value) {
+    final Object[] copy = array.clone();
+    copy[index] = value;
+    return copy;
+  }
+
+  private static Object[] copyAndInsert(
+      final Object[] array, final int index, final Object key, final Object value
+  ) {
+    final Object[] copy = new Object[array.length + 2];
+    System.arraycopy(array, 0, copy, 0, index);
+    copy[index] = key;
+    copy[index + 1] = value;
+    System.arraycopy(array, index, copy, index + 2, array.length - index);
+    return copy;
+  }
+
+  private static Object[] copyAndRemove(final Object[] array, final int index) {
+    final Object[] copy = new Object[array.length - 2];
+    System.arraycopy(array, 0, copy, 0, index);
+    System.arraycopy(array, index + 2, copy, index, array.length - index - 2);
+    return copy;
+  }
+
+  /**
+   * trie 의 노드 입니다. 변경 메서드는 바뀐 경로만 복사한 새 노드를 반환하며, 바뀐 내용이 없다면 자신을 반환합니다
+   */
+  private interface Node {
+    Object find(int hash, int shift, String key);
+    Node with(int hash, int shift, String key, Object value, boolean[] added);
+    Node without(int hash, int shift, String key);
+    Object[] array();
+  }
+
+  /**
+   * 32 갈래의 bitmap 노드 입니다. array 는 [키, 값] 쌍으로 구성되며 키가 null 이면 값은 하위 노드 입니다
+   */
+  private static final class BitmapNode implements Node {
+    private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+    private final int bitmap;
+    private final Object[] array;
+
+    private BitmapNode(final int bitmap, final Object[] array) {
+      this.bitmap = bitmap;
+      this.array = array;
+    }
+
+    @Override
+    public Object find(final int hash, final int shift, final String key) {
+      final int bit = bitOf(hash, shift);
+      if (0 == (bitmap & bit)) return NOT_FOUND;
+
+      final int index = 2 * Integer.bitCount(bitmap & (bit - 1));
+      final Object current = array[index];
+
+      if (null == current) return ((Node) array[index + 1]).find(hash, shift + BITS, key);
+
+      return key.equals(current) ? array[index + 1] : NOT_FOUND;
+    }
+
+    @Override
+    public Node with(
+        final int hash, final int shift, final String key, final Object value, final boolean[] added
+    ) {
+      final int bit = bitOf(hash, shift);
+      final int index = 2 * Integer.bitCount(bitmap & (bit - 1));
+
+      if (0 == (bitmap & bit)) {
+        added[0] = true;
+        return new BitmapNode(bitmap | bit, copyAndInsert(array, index, key, value));
+      }
+
+      final Object current = array[index];
+      final Object currentValue = array[index + 1];
+
+      if (null == current) {
+        final Node child = (Node) currentValue;
+        final Node next = child.with(hash, shift + BITS, key, value, added);
+
+        return next == child ? this : new BitmapNode(bitmap, copyAndSet(array, index + 1, next));
+      }
+
+      if (key.equals(current)) {
+        return value == currentValue
+            ? this
+            : new BitmapNode(bitmap, copyAndSet(array, index + 1, value));
+      }
+
+      added[0] = true;
+
+      final Object[] copy = array.clone();
+      copy[index] = null;
+      copy[index + 1] = split(shift + BITS, (String) current, currentValue, hash, key, value);
+
+      return new BitmapNode(bitmap, copy);
+    }
+
+    @Override
+    public Node without(final int hash, final int shift, final String key) {
+      final int bit = bitOf(hash, shift);
+      if (0 == (bitmap & bit)) return this;
+
+      final int index = 2 * Integer.bitCount(bitmap & (bit - 1));
+      final Object current = array[index];
+
+      if (null == current) {
+        final Node child = (Node) array[index + 1];
+        final Node next = child.without(hash, shift + BITS, key);
+
+        if (next == child) return this;
+        if (null != next) return new BitmapNode(bitmap, copyAndSet(array, index + 1, next));
+      } else if (!key.equals(current)) {
+        return this;
+      }
+
+      return bitmap == bit ? null : new BitmapNode(bitmap ^ bit, copyAndRemove(array, index));
+    }
+
+    @Override
+    public Object[] array() {
+      return array;
+    }
+
+    private static Node split(
+        final int shift, final String key1, final Object value1,
+        final int hash2, final String key2, final Object value2
+    ) {
+      final int hash1 = hash(key1);
+
+      if (hash1 == hash2) return new CollisionNode(hash1, new Object[] { key1, value1, key2, value2 });
+
+      final boolean[] added = new boolean[1];
+      return EMPTY
+          .with(hash1, shift, key1, value1, added)
+          .with(hash2, shift, key2, value2, added);
+    }
+  }
+
+  /**
+   * 해시 값이 같은 키들을 보관하는 노드 입니다
+   */
+  private static final class CollisionNode implements Node {
+    private final int hash;
+    private final Object[] array;
+
+    private CollisionNode(final int hash, final Object[] array) {
+      this.hash = hash;
+      this.array = array;
+    }
+
+    @Override
+    public Object find(final int hash, final int shift, final String key) {
+      final int index = indexOf(key);
+      return 0 > index ? NOT_FOUND : array[index + 1];
+    }
+
+    @Override
+    public Node with(
+        final int hash, final int shift, final String key, final Object value, final boolean[] added
+    ) {
+      if (hash != this.hash) {
+        return new BitmapNode(bitOf(this.hash, shift), new Object[] { null, this })
+            .with(hash, shift, key, value, added);
+      }
+
+      final int index = indexOf(key);
+
+      if (0 > index) {
+        added[0] = true;
+        return new CollisionNode(hash, copyAndInsert(array, array.length, key, value));
+      }
+
+      return value == array[index + 1]
+          ? this
+          : new CollisionNode(hash, copyAndSet(array, index + 1, value));
+    }
+
+    @Override
+    public Node without(final int hash, final int shift, final String key) {
+      final int index = indexOf(key);
+
+      if (0 > index) return this;
+      if (2 == array.length) return null;
+
+      return new CollisionNode(hash, copyAndRemove(array, index));
+    }
+
+    @Override
+    public Object[] array() {
+      return array;
+    }
+
+    private int indexOf(final String key) {
+      for (int i = 0;i < array.length;i += 2) {
+        if (key.equals(array[i])) return i;
+      }
+      return -1;
+    }
+  }
+
+  /**
+   * trie 를 깊이 우선으로 순회하는 Iterator 입니다
+   */
+  private static final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+    private final Deque<Object[]> arrays = new ArrayDeque<>();
+    private final Deque<Integer> positions = new ArrayDeque<>();
+    private Map.Entry<String, Object> next;
+
+    private EntryIterator(final Node root) {
+      arrays.push(root.array());
+      positions.push(0);
+      advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return null != next;
+    }
+
+    @Override
+    public Map.Entry<String, Object> next() {
+      if (null == next) throw new NoSuchElementException();
+
+      final Map.Entry<String, Object> current = next;
+      advance();
+      return current;
+    }
+
+    private void advance() {
+      next = null;
+
+      while (!arrays.isEmpty()) {
+        final Object[] array = arrays.peek();
+        final int position = positions.pop();
+
+        if (position >= array.length) {
+          arrays.pop();
+          continue;
+        }
+
+        positions.push(position + 2);
+
+        if (null == array[position]) {
+          arrays.push(((Node) array[position + 1]).array());
+          positions.push(0);
+        } else {
+          next = new SimpleImmutableEntry<>((String) array[position], array[position + 1]);
+          return;
+        }
+      }
+    }
+  }
+
+}
@@ -1,13 +1,13 @@
 package com.aipers.groupware.common.utilities;
 
 import com.aipers.groupware.common.Constants;
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
-import java.net.URLEncoder;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -17,8 +17,34 @@ import java.util.stream.IntStream;
 
 public abstract class StringUtils {
 
+  private static final BoundedCache<String, String> CAMEL_CASE_CACHE =
+      new BoundedCache<>(Constants.MAX_KEY_CACHE_SIZE);
+
+  private static final int CASE_LOWER = 0;
+  private static final int CASE_UPPER = 1;
+  private static final int CASE_PASCAL = 2;
+  private static final int CASE_CAMEL = 3;
+
+  private static final TokenGenerator NUMBER_TOKENS =
+      TokenGenerator.secure(TokenGenerator.NUMBERS);
+  private static final TokenGenerator ALPHANUMERIC_TOKENS =
+      TokenGenerator.secure(TokenGenerator.ALPHANUMERIC);
+  private static final TokenGenerator SPECIAL_TOKENS =
+      TokenGenerator.secure(TokenGenerator.ALPHANUMERIC + TokenGenerator.SPECIAL_CHARACTERS);
+
+  private static final LiteralReplacer DESAFE_HTML = LiteralReplacer.of(replacements(
+      "&#39;", "'", "&quot;", "\"", "&#41;", ")", "&#40;", "(",
+      "&gt;", ">", "&lt;", "<", "&#35;", "#", "&amp;", "&"
+  ));
+
   private StringUtils() {}
 
+  private static Map<String, String> replacements(final String ... pairs) {
+    final Map<String, String> map = new LinkedHashMap<>();
+    for (int i = 0;i < pairs.length;i += 2) map.put(pairs[i], pairs[i + 1]);
+    return map;
+  }
+
   /**
    * 주어진 문자열이 빈 문자인지 확인 합니다
    * @param value
@@ -56,22 +82,20 @@ public abstract class StringUtils {
    */
   public static final String replace(final String source, final String oldPart, final String newPart) {
     if(source == null) return "";
-    if(oldPart == null || newPart == null) return source;
+    if(oldPart == null || newPart == null || oldPart.isEmpty()) return source;
 
-    StringBuilder sb = new StringBuilder();
+    int start = source.indexOf(oldPart);
+    if (0 > start) return source;
+
+    final StringBuilder sb = new StringBuilder(source.length() + Math.max(0, newPart.length() - oldPart.length()) * 4);
     int last = 0;
-    while (true) {
-      int start = source.indexOf(oldPart, last);
-      if (start >= 0) {
-        sb.append(source.substring(last, start));
-        sb.append(newPart);
-        last = start + oldPart.length();
-      }
-      else {
-        sb.append(source.substring(last));
-        return sb.toString();
-      }
+
+    for (;0 <= start;start = source.indexOf(oldPart, last)) {
+      sb.append(source, last, start).append(newPart);
+      last = start + oldPart.length();
     }
+
+    return sb.append(source, last, source.length()).toString();
   }
 
   /**
@@ -109,17 +133,10 @@ public abstract class StringUtils {
    * @param str
    * @return
    */
-  public final static String safeHTML(String str) {
-    str	= replace(str, "&", "&amp;");
-    str	= replace(str, "#", "&#35;");
-    str	= replace(str, "<", "&lt;");
-    str	= replace(str, ">", "&gt;");
-    str	= replace(str, "(", "&#40;");
-    str	= replace(str, ")", "&#41;");
-    str	= replace(str, "\"", "&quot;");
-    str	= replace(str, "\'", "&#39;");
+  public final static String safeHTML(final String str) {
+    if (null == str) return "";
 
-    return str;
+    return Escaper.HTML.escape(str);
   }
 
   /**
@@ -130,16 +147,22 @@ public abstract class StringUtils {
   public static final String deSafeHTML(String str) {
     if (CommonUtils.isEmpty(str)) return "";
 
-    str	= replace(str, "&#39;", "'");
-    str	= replace(str, "&quot;", "\"");
-    str	= replace(str, "&#41;", ")");
-    str	= replace(str, "&#40;", "(");
-    str	= replace(str, "&gt;", ">");
-    str	= replace(str, "&lt;", "<");
-    str	= replace(str, "&#35;", "#");
-    str	= replace(str, "&amp;", "&");
+    return DESAFE_HTML.replace(str);
+  }
 
-    return str;
+  /**
+   * 주어진 치환 목록 (찾을 문자열 => 바꿀 문자열) 의 문자열을 한번에 치환하여 반환합니다
+   * 같은 위치에서는 가장 긴 문자열을 치환하며 치환된 결과는 다시 치환하지 않습니다
+   * 같은 치환 목록을 반복하여 사용한다면 LiteralReplacer 를 생성하여 재사용하세요
+   * @param source
+   * @param replacements
+   * @return
+   */
+  public static final String replaceAll(final String source, final Map<String, String> replacements) {
+    if (null == source) return "";
+    if (null == replacements || replacements.isEmpty()) return source;
+
+    return LiteralReplacer.of(replacements).replace(source);
   }
 
   /**
@@ -148,7 +171,7 @@ public abstract class StringUtils {
    * @return
    */
   public static final String normalizeWhitespace(final String text) {
-    return nvl(text).replaceAll("(\\r\\n|\\r|\\n)(\\s*(\\r\\n|\\r|\\n))+", "$1");
+    return PatternCache.replaceAll(nvl(text), "(\\r\\n|\\r|\\n)(\\s*(\\r\\n|\\r|\\n))+", "$1");
   }
 
   /**
@@ -157,11 +180,7 @@ public abstract class StringUtils {
    * @return
    */
   public static final String encodeUrl(final String text) {
-    try {
-      return URLEncoder.encode(text, Constants.DEFAULT_ENCODING).replaceAll("\\+", "%20");
-    } catch (UnsupportedEncodingException e) {
-      return null;
-    }
+    return UrlUtils.encode(text);
   }
 
   /**
@@ -189,17 +208,44 @@ public abstract class StringUtils {
     return false;
   }
 
+  /**
+   * 주어진 문자열에서 같은 문자가 limit 회 이상 연속되는지 확인합니다. (주로 비밀번호의 유효성 검증에 사용됩니다)
+   * 정규식 (.)\1\1 과 같은 결과를 반환하며 줄바꿈 문자는 제외합니다
+   * @param input
+   * @param limit
+   * @return
+   */
+  public static boolean isRepeatedAtLimitMore(final String input, final int limit) {
+    if (null == input) return false;
+
+    for (int i = 0;i < input.length();i++) {
+      final char letter = input.charAt(i);
+      if (isLineTerminator(letter)) continue;
+
+      // 정규식의 (.) 은 surrogate pair 를 한 문자로, 역참조 (\1) 는 char 단위로 비교함
+      final int width = Character.isHighSurrogate(letter) && i + 1 < input.length()
+          && Character.isLowSurrogate(input.charAt(i + 1)) ? 2 : 1;
+
+      int count = 1, next = i + width;
+      while (count < limit && input.regionMatches(next, input, i, width)) {
+        count++;
+        next += width;
+      }
+
+      if (count >= limit) return true;
+    }
+
+    return false;
+  }
+
+
   /**
    * 주어진 URL safe 문자열을 복원합니다
    * @param text
    * @return
    */
   public static final String decodeUrl(final String text) {
-    try {
-      return URLDecoder.decode(text, Constants.DEFAULT_ENCODING);
-    } catch (UnsupportedEncodingException e) {
-      return null;
-    }
+    return UrlUtils.decode(text);
   }
 
   /**
@@ -225,13 +271,9 @@ public abstract class StringUtils {
    * @return
    */
   public static final byte[] decodeBase64(final String text) {
-    try {
-      return Formatters.isBase64String(text)
-          ? Base64.getDecoder().decode(text.getBytes(Constants.DEFAULT_ENCODING))
-          : text.getBytes(Constants.DEFAULT_ENCODING); // throw new IllegalArgumentException();
-    } catch (UnsupportedEncodingException e) {
-      throw new RuntimeException(e);
-    }
+    final byte[] decoded = Base64Utils.decodeOrNull(text);
+
+    return null == decoded ? text.getBytes(Constants.DEFAULT_CHARSET) : decoded;
   }
 
   /**
@@ -241,13 +283,10 @@ public abstract class StringUtils {
    */
   public static final String decodeBase64String(final String text) {
     if (CommonUtils.isEmpty(text)) return Constants.EMPTY_STRING;
-    if (!Formatters.isBase64String(text)) return text;
 
-    try {
-      return new String(decodeBase64(text), Constants.DEFAULT_ENCODING);
-    } catch (UnsupportedEncodingException e) {
-      throw new RuntimeException(e);
-    }
+    final byte[] decoded = Base64Utils.decodeOrNull(text);
+
+    return null == decoded ? text : new String(decoded, Constants.DEFAULT_CHARSET);
   }
 
   /**
@@ -256,9 +295,187 @@ public abstract class StringUtils {
    * @return
    */
   public final static String toCamelCase(final String source) {
-    return Formatters.CAMEL_PATTERN.matcher(source.toLowerCase()).find()
-        ? replace(source.toLowerCase(), Formatters.CAMEL_PATTERN, (m) -> m.group(1).toUpperCase())
-        : source;
+    return CAMEL_CASE_CACHE.get(source, key -> camelize(key).intern());
+  }
+
+  /**
+   * Formatters.CAMEL_PATTERN 과 동일한 규칙으로 camel case 변환합니다. (정규식 미사용)
+   *   영문, 숫자 이외의 문자가 연속된 구간을 제거하고 바로 다음 문자를 대문자로 변환함
+   *   구분 문자가 없다면 원본 문자열을 그대로 반환함
+   * @param source
+   * @return
+   */
+  private static String camelize(final String source) {
+    final String lower = isAscii(source) ? source : source.toLowerCase(Locale.ROOT);
+    final int length = lower.length();
+
+    int index = 0;
+    while (index < length && !isCamelSeparator(lower.charAt(index))) index++;
+    if (index == length) return source;
+
+    final StringBuilder result = new StringBuilder(length);
+    for (int i = 0;i < index;i++) result.append(toLowerAscii(lower.charAt(i)));
+
+    boolean replaced = false;
+
+    while (index < length) {
+      final char letter = lower.charAt(index);
+
+      if (!isCamelSeparator(letter)) {
+        result.append(toLowerAscii(letter));
+        index++;
+        continue;
+      }
+
+      int next = index + 1;
+      while (next < length && isCamelSeparator(lower.charAt(next))) next++;
+
+      if (next == length) {
+        // 구분 문자로 끝나는 경우 정규식의 backtracking 과 같이 마지막 문자를 대상으로 함
+        next = lower.offsetByCodePoints(length, -1);
+        while (next > index && isLineTerminator(lower.charAt(next)))
+          next = lower.offsetByCodePoints(next, -1);
+
+        if (next == index) {
+          if (!replaced) return source;
+          result.append(lower, index, length);
+          break;
+        }
+      }
+
+      final int codePoint = lower.codePointAt(next);
+      if (128 > codePoint) result.append(Character.toUpperCase((char) codePoint));
+      else result.append(new String(Character.toChars(codePoint)).toUpperCase(Locale.ROOT));
+
+      index = next + Character.charCount(codePoint);
+      replaced = true;
+    }
+
+    return result.toString();
+  }
+
+  /**
+   * 주어진 문자열을 단어 단위로 나누어 camel case (userId) 형태로 변환하여 반환 합니다
+   * toCamelCase 와 달리 구분 문자가 없어도 단어를 나누므로 pascal case, 약어도 변환됨 (UserId, HTTPServer => httpServer)
+   * @param source
+   * @return
+   */
+  public static final String toLowerCamelCase(final String source) {
+    return convertCase(source, CASE_CAMEL, '\0');
+  }
+
+  /**
+   * 주어진 문자열을 pascal case (UserId) 형태로 변환하여 반환 합니다
+   * @param source
+   * @return
+   */
+  public static final String toPascalCase(final String source) {
+    return convertCase(source, CASE_PASCAL, '\0');
+  }
+
+  /**
+   * 주어진 문자열을 snake case (user_id) 형태로 변환하여 반환 합니다
+   * @param source
+   * @return
+   */
+  public static final String toSnakeCase(final String source) {
+    return convertCase(source, CASE_LOWER, '_');
+  }
+
+  /**
+   * 주어진 문자열을 대문자 snake case (USER_ID) 형태로 변환하여 반환 합니다 (주로 SQL 컬럼명)
+   * @param source
+   * @return
+   */
+  public static final String toScreamingSnakeCase(final String source) {
+    return convertCase(source, CASE_UPPER, '_');
+  }
+
+  /**
+   * 주어진 문자열을 kebab case (user-id) 형태로 변환하여 반환 합니다
+   * @param source
+   * @return
+   */
+  public static final String toKebabCase(final String source) {
+    return convertCase(source, CASE_LOWER, '-');
+  }
+
+  /**
+   * 문자열을 단어 단위로 나누어 주어진 형태로 연결합니다. (정규식 미사용)
+   *   영문, 숫자 (Character.isLetterOrDigit) 이외의 문자는 구분 문자로 보고 제거함
+   *   대문자가 아닌 문자 다음의 대문자 (userId) 와 약어 다음의 단어 (HTTPServer) 에서 단어를 나눔
+   *   이미 변환할 형태라면 원본 문자열을 그대로 반환함
+   */
+  private static String convertCase(final String source, final int mode, final char delimiter) {
+    if (null == source) return null;
+
+    final int length = source.length();
+    final char[] result = new char[length << 1];
+    int size = 0, words = 0, index = 0;
+    boolean same = true;
+
+    while (index < length) {
+      while (index < length && !isWordChar(source.charAt(index))) index++;
+      if (index == length) break;
+
+      final int start = index++;
+      while (index < length && !isWordBoundary(source, index)) index++;
+
+      if (0 < words && '\0' != delimiter) {
+        same &= size < length && delimiter == source.charAt(size);
+        result[size++] = delimiter;
+      }
+
+      for (int i = start;i < index;i++) {
+        final char letter = source.charAt(i);
+        final boolean capital = i == start && (CASE_PASCAL == mode || (CASE_CAMEL == mode && 0 < words));
+        final char converted = CASE_UPPER == mode || capital
+            ? Character.toUpperCase(letter)
+            : Character.toLowerCase(letter);
+
+        same &= size < length && converted == source.charAt(size);
+        result[size++] = converted;
+      }
+
+      words++;
+    }
+
+    return same && size == length ? source : new String(result, 0, size);
+  }
+
+  private static boolean isWordChar(final char letter) {
+    return Character.isLetterOrDigit(letter) || Character.isSurrogate(letter);
+  }
+
+  private static boolean isWordBoundary(final String source, final int index) {
+    final char letter = source.charAt(index);
+    if (!isWordChar(letter)) return true;
+    if (!Character.isUpperCase(letter)) return false;
+
+    if (!Character.isUpperCase(source.charAt(index - 1))) return true;
+
+    return index + 1 < source.length() && Character.isLowerCase(source.charAt(index + 1));
+  }
+
+  private static boolean isAscii(final String source) {
+    for (int i = 0;i < source.length();i++) {
+      if (128 <= source.charAt(i)) return false;
+    }
+    return true;
+  }
+
+  private static boolean isCamelSeparator(final char letter) {
+    return !(('a' <= letter && 'z' >= letter) || ('A' <= letter && 'Z' >= letter)
+        || ('0' <= letter && '9' >= letter));
+  }
+
+  private static boolean isLineTerminator(final char letter) {
+    return '\n' == letter || '\r' == letter
+        || '\u0085' == letter || '\u2028' == letter || '\u2029' == letter;
+  }
+
+  private static char toLowerAscii(final char letter) {
+    return 'A' <= letter && 'Z' >= letter ? (char) (letter + ('a' - 'A')) : letter;
   }
 
   /**
@@ -291,7 +508,7 @@ public abstract class StringUtils {
    * @return
    */
   public final static String getRandomNumberString(final int length) {
-    return shuffle(repeat(shuffle("1234567890"), 5), 5).substring(0, length);
+    return NUMBER_TOKENS.generate(length);
   }
 
   /**
@@ -301,13 +518,7 @@ public abstract class StringUtils {
    * @return
    */
   public final static String getRandomString(final int length, final boolean isSpecialChars) {
-    String str	= "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ1234567890"
-        .concat((isSpecialChars ? "`~!@#$%^&*()_+<>,./" : ""));
-    str	= shuffle(str);
-    str	= repeat(str, 5);
-    str	= shuffle(str);
-
-    return str.substring(0, length);
+    return (isSpecialChars ? SPECIAL_TOKENS : ALPHANUMERIC_TOKENS).generate(length);
   }
 
 }
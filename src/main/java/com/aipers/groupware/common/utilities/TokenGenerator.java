@@ -0,0 +1,135 @@
+package com.aipers.groupware.common.utilities;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+
+/**
+ * 주어진 문자 (alphabet) 로 임의의 문자열 (OTP, 임시 비밀번호 등) 을 생성하는 클래스 입니다.
+ *   문자는 alphabet 크기에 맞는 bit 만큼 난수를 잘라 범위를 벗어나면 다시 뽑으므로 (rejection sampling) 편향이 없음
+ *   난수는 스레드별로 보관한 byte pool 에서 꺼내 쓰며 문자열 하나당 char[] 하나만 할당함
+ *   secure 는 SecureRandom, fast 는 SplittableRandom (암호학적으로 안전하지 않음) 을 사용함
+ *   생성 이후 변경할 수 없으며 여러 스레드에서 공유 가능함
+ */
+public final class TokenGenerator {
+
+  public static final String NUMBERS = "1234567890";
+  public static final String ALPHANUMERIC =
+      "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ1234567890";
+  public static final String SPECIAL_CHARACTERS = "`~!@#$%^&*()_+<>,./";
+
+  private static final int POOL_SIZE = 256;
+
+  private static final ThreadLocal<Entropy> SECURE =
+      ThreadLocal.withInitial(() -> new Entropy(new SecureRandom(), null));
+  private static final ThreadLocal<Entropy> FAST =
+      ThreadLocal.withInitial(() -> new Entropy(null, new SplittableRandom()));
+
+  private final char[] alphabet;
+  private final int mask;
+  private final boolean wide;
+  private final ThreadLocal<Entropy> entropy;
+
+  private TokenGenerator(final String alphabet, final ThreadLocal<Entropy> entropy) {
+    if (null == alphabet || alphabet.isEmpty()) {
+      throw new IllegalArgumentException("alphabet must not be empty");
+    }
+
+    this.alphabet = alphabet.toCharArray();
+    this.mask = 1 == this.alphabet.length
+        ? 0
+        : -1 >>> Integer.numberOfLeadingZeros(this.alphabet.length - 1);
+    this.wide = 0xFF < mask;
+    this.entropy = entropy;
+  }
+
+  /**
+   * SecureRandom 으로 alphabet 의 문자를 뽑는 생성기를 반환합니다 (OTP, 임시 비밀번호 용도)
+   * @param alphabet
+   * @return
+   */
+  public static TokenGenerator secure(final String alphabet) {
+    return new TokenGenerator(alphabet, SECURE);
+  }
+
+  /**
+   * 스레드별 SplittableRandom 으로 alphabet 의 문자를 뽑는 생성기를 반환합니다 (보안이 필요 없는 식별자 용도)
+   * @param alphabet
+   * @return
+   */
+  public static TokenGenerator fast(final String alphabet) {
+    return new TokenGenerator(alphabet, FAST);
+  }
+
+  /**
+   * 주어진 길이의 임의의 문자열을 생성합니다
+   * @param length
+   * @return
+   */
+  public String generate(final int length) {
+    if (0 > length) throw new IllegalArgumentException("length must not be negative");
+
+    return new String(fill(entropy.get(), new char[length]));
+  }
+
+  /**
+   * 주어진 길이의 임의의 문자열을 count 개 생성합니다
+   * @param count
+   * @param length
+   * @return
+   */
+  public String[] generate(final int count, final int length) {
+    if (0 > count || 0 > length) throw new IllegalArgumentException("count, length must not be negative");
+
+    final Entropy source = entropy.get();
+    final String[] tokens = new String[count];
+
+    for (int i = 0;i < count;i++) tokens[i] = new String(fill(source, new char[length]));
+
+    return tokens;
+  }
+
+  private char[] fill(final Entropy source, final char[] token) {
+    for (int i = 0;i < token.length;) {
+      final int value = (wide ? source.nextByte() << 8 | source.nextByte() : source.nextByte()) & mask;
+      if (value < alphabet.length) token[i++] = alphabet[value];
+    }
+
+    return token;
+  }
+
+  /**
+   * 스레드별 난수 byte pool 입니다
+   */
+  private static final class Entropy {
+
+    private final SecureRandom secure;
+    private final SplittableRandom fast;
+    private final byte[] pool = new byte[POOL_SIZE];
+    private int position = POOL_SIZE;
+
+    private Entropy(final SecureRandom secure, final SplittableRandom fast) {
+      this.secure = secure;
+      this.fast = fast;
+    }
+
+    private int nextByte() {
+      if (pool.length == position) refill();
+      return pool[position++] & 0xFF;
+    }
+
+    private void refill() {
+      if (null != secure) {
+        secure.nextBytes(pool);
+      } else {
+        for (int i = 0;i < pool.length;i += 8) {
+          long bits = fast.nextLong();
+          for (int j = 0;j < 8;j++, bits >>>= 8) pool[i + j] = (byte) bits;
+        }
+      }
+
+      position = 0;
+    }
+
+  }
+
+}
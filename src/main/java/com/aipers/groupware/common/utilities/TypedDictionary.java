@@ -0,0 +1,126 @@
+package com.aipers.groupware.common.utilities;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 숫자 값을 문자열로 바꾸지 않고 그대로 보관하는 Dictionary 입니다.
+ *   set(int/long/float/double) 사용시 값은 Number 객체로 저장됨
+ *   getInt, getLong, getDouble 등은 문자열 파싱 없이 값을 반환함
+ *   문자열 변환은 get, getString 호출 시점에만 처리됨 (Dictionary 와 같은 문자열을 반환함)
+ *   숫자 0 은 빈 값으로 취급하지 않음
+ */
+public class TypedDictionary extends Dictionary {
+
+  private final static long serialVersionUID = -3866154126624385112L;
+
+  public TypedDictionary() {
+    super();
+  }
+
+  public TypedDictionary(final int initialCapacity) {
+    super(initialCapacity);
+  }
+
+  public TypedDictionary(final Map<String,?> map) {
+    super(map);
+  }
+
+  @Override
+  public TypedDictionary set(final String column, final int value) {
+    super.set(column, (Object) value);
+    return this;
+  }
+
+  @Override
+  public TypedDictionary set(final String column, final long value) {
+    super.set(column, (Object) value);
+    return this;
+  }
+
+  @Override
+  public TypedDictionary set(final String column, final float value) {
+    super.set(column, (Object) value);
+    return this;
+  }
+
+  @Override
+  public TypedDictionary set(final String column, final double value) {
+    super.set(column, (Object) value);
+    return this;
+  }
+
+  @Override
+  public String get(final String key) {
+    final Object value = take(key);
+    return value instanceof Number ? value.toString() : super.get(key);
+  }
+
+  @Override
+  public String get(final String key, final int value) {
+    final Object current = take(key);
+    return current instanceof Number ? current.toString() : super.get(key, value);
+  }
+
+  @Override
+  public String get(final String key, final String value) {
+    final Object current = take(key);
+    return current instanceof Number ? current.toString() : super.get(key, value);
+  }
+
+  @Override
+  public String getString(final String column, final String v_default) {
+    final Object value = take(column);
+    return value instanceof Number ? value.toString() : super.getString(column, v_default);
+  }
+
+  @Override
+  public BigDecimal getDecimal(final String column, final double v_default) {
+    final Object value = take(column);
+
+    if (value instanceof BigDecimal) return (BigDecimal) value;
+    if (value instanceof BigInteger) return new BigDecimal((BigInteger) value);
+    if (value instanceof Long || value instanceof Integer
+        || value instanceof Short || value instanceof Byte)
+      return BigDecimal.valueOf(((Number) value).longValue());
+    // NaN, Infinity 는 BigDecimal 로 표현할 수 없으므로 기본 값을 반환함
+    if (value instanceof Number && !Double.isFinite(((Number) value).doubleValue()))
+      return BigDecimal.valueOf(v_default);
+    if (value instanceof Float) return new BigDecimal(value.toString());
+    if (value instanceof Number) return BigDecimal.valueOf(((Number) value).doubleValue());
+
+    return super.getDecimal(column, v_default);
+  }
+
+  @Override
+  public boolean isEmpty(final String key) {
+    return isEmptyValue(take(key));
+  }
+
+  @Override
+  public boolean anyEmpty(final String ... keys) {
+    return Arrays.stream(keys).map(this::take).anyMatch(TypedDictionary::isEmptyValue);
+  }
+
+  @Override
+  public boolean allEmpty(final String ... keys) {
+    return Arrays.stream(keys).map(this::take).allMatch(TypedDictionary::isEmptyValue);
+  }
+
+  @Override
+  public TypedDictionary copy() {
+    return (TypedDictionary) super.copy();
+  }
+
+  @Override
+  public TypedDictionary clone() {
+    return (TypedDictionary) super.clone();
+  }
+
+  private static boolean isEmptyValue(final Object value) {
+    return !(value instanceof Number) && CommonUtils.isEmpty(value);
+  }
+
+}
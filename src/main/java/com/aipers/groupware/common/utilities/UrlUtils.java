@@ -0,0 +1,276 @@
+package com.aipers.groupware.common.utilities;
+
+import com.aipers.groupware.common.Constants;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * URL query string 을 해석, 생성하는 유틸리티 클래스 입니다.
+ *   정규식, split 없이 문자열을 한번만 순회하며 percent-encoding (UTF-8) 을 처리함
+ *   같은 키가 여러번 나오면 값은 String[] 으로 보관됨 (Dictionary.getValues 로 조회)
+ *   인코딩은 URLEncoder 와 같은 문자 (영문, 숫자, . - * _) 만 그대로 두며 공백은 %20 으로 변환함
+ *   path, query, fragment 는 RFC 3986 의 허용 문자 table (Escaper) 로 인코딩하며 UTF-8 로 바로 기록함
+ */
+public abstract class UrlUtils {
+
+  private UrlUtils() {}
+
+  /**
+   * query string 을 Dictionary 로 변환합니다. 앞의 ? 는 무시하며 값이 없는 키는 빈 문자열로 보관합니다
+   * @param query
+   * @return
+   */
+  public static final Dictionary parseQuery(final CharSequence query) {
+    final Dictionary params = new Dictionary();
+    if (null == query) return params;
+
+    final int length = query.length();
+    int position = 0 < length && '?' == query.charAt(0) ? 1 : 0;
+    byte[] buffer = null;
+
+    while (position < length) {
+      int end = position, separator = -1;
+
+      for (char letter;end < length && '&' != (letter = query.charAt(end));end++) {
+        if ('=' == letter && 0 > separator) separator = end;
+      }
+
+      if (end > position && separator != position) {
+        if (null == buffer) buffer = new byte[Math.max(16, length)];
+
+        final String key = decode(query, position, 0 > separator ? end : separator, buffer, true);
+        final String value = 0 > separator
+            ? Constants.EMPTY_STRING
+            : decode(query, separator + 1, end, buffer, true);
+
+        addValue(params, key, value);
+      }
+
+      position = end + 1;
+    }
+
+    return params;
+  }
+
+  /**
+   * Map 의 키와 값을 query string 으로 만들어 반환합니다
+   * @param params
+   * @return
+   */
+  public static final String toQueryString(final Map<String, ?> params) {
+    try {
+      return appendQuery(params, new StringBuilder(16 * params.size())).toString();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Map 의 키와 값을 query string 으로 만들어 out 에 기록합니다
+   * null 값은 빈 값 (key=) 으로, 배열과 Collection 은 같은 키를 반복하여 기록합니다
+   * @param params
+   * @param out
+   * @return
+   * @param <A>
+   * @throws IOException
+   */
+  public static final <A extends Appendable> A appendQuery(
+      final Map<String, ?> params, final A out
+  ) throws IOException {
+    boolean first = true;
+
+    for (final Map.Entry<String, ?> entry : params.entrySet()) {
+      final Object value = entry.getValue();
+
+      if (value instanceof Object[] || value instanceof Collection) {
+        final Iterable<?> values = value instanceof Collection
+            ? (Collection<?>) value
+            : Arrays.asList((Object[]) value);
+
+        for (final Object item : values) {
+          first = appendPair(out, first, entry.getKey(), item);
+        }
+      } else {
+        first = appendPair(out, first, entry.getKey(), value);
+      }
+    }
+
+    return out;
+  }
+
+  /**
+   * 문자열을 percent-encoding 하여 반환합니다 (StringUtils.encodeUrl 과 같은 결과)
+   * @param text
+   * @return
+   */
+  public static final String encode(final CharSequence text) {
+    return Escaper.URL_FORM.escape(text);
+  }
+
+  /**
+   * 문자열을 percent-encoding 하여 out 에 기록합니다
+   * @param text
+   * @param out
+   * @return
+   * @param <A>
+   * @throws IOException
+   */
+  public static final <A extends Appendable> A encode(
+      final CharSequence text, final A out
+  ) throws IOException {
+    return Escaper.URL_FORM.escape(text, out);
+  }
+
+  /**
+   * URL path 로 인코딩하여 반환합니다. / 와 RFC 3986 의 path 허용 문자는 그대로 둡니다
+   * @param text
+   * @return
+   */
+  public static final String encodePath(final CharSequence text) {
+    return Escaper.URL_PATH.escape(text);
+  }
+
+  /**
+   * URL query 의 키, 값으로 인코딩하여 반환합니다. &amp; = + # 는 인코딩합니다
+   * @param text
+   * @return
+   */
+  public static final String encodeQuery(final CharSequence text) {
+    return Escaper.URL_QUERY.escape(text);
+  }
+
+  /**
+   * URL fragment 로 인코딩하여 반환합니다
+   * @param text
+   * @return
+   */
+  public static final String encodeFragment(final CharSequence text) {
+    return Escaper.URL_FRAGMENT.escape(text);
+  }
+
+  /**
+   * percent-encoding 된 문자열을 복원합니다. + 는 공백으로, 잘못된 % 표기는 그대로 둡니다
+   * @param text
+   * @return
+   */
+  public static final String decode(final CharSequence text) {
+    if (null == text) return null;
+
+    return decode(text, 0, text.length(), new byte[text.length()], true);
+  }
+
+  /**
+   * RFC 3986 방식으로 percent-encoding 된 문자열을 복원합니다. + 는 그대로 둡니다
+   * @param text
+   * @return
+   */
+  public static final String decodeComponent(final CharSequence text) {
+    if (null == text) return null;
+
+    return decode(text, 0, text.length(), new byte[text.length()], false);
+  }
+
+  private static boolean appendPair(
+      final Appendable out, final boolean first, final String key, final Object value
+  ) throws IOException {
+    if (!first) out.append('&');
+
+    encode(key, out).append('=');
+    if (null != value) encode(String.valueOf(value), out);
+
+    return false;
+  }
+
+  private static void addValue(final Dictionary params, final String key, final String value) {
+    final Object current = params.take(key);
+
+    if (null == current) {
+      params.set(key, value);
+    } else if (current instanceof String[]) {
+      final String[] values = Arrays.copyOf((String[]) current, ((String[]) current).length + 1);
+      values[values.length - 1] = value;
+      params.set(key, values);
+    } else {
+      params.set(key, new String[] { (String) current, value });
+    }
+  }
+
+  /**
+   * from ~ to 구간을 복원합니다. 인코딩된 문자가 없다면 원본 구간을 그대로 반환합니다
+   * buffer 는 구간의 길이 이상이어야 하며 plusAsSpace 라면 + 는 공백으로 복원합니다
+   */
+  private static String decode(
+      final CharSequence text, final int from, final int to, final byte[] buffer,
+      final boolean plusAsSpace
+  ) {
+    int i = from;
+    while (i < to && '%' != text.charAt(i) && (!plusAsSpace || '+' != text.charAt(i))) i++;
+
+    if (i == to) return text.subSequence(from, to).toString();
+
+    int count = 0;
+
+    for (i = from;i < to;i++) {
+      final char letter = text.charAt(i);
+      final int high, low;
+
+      if (plusAsSpace && '+' == letter) {
+        buffer[count++] = ' ';
+      } else if ('%' == letter && i + 2 < to
+          && 0 <= (high = hexValue(text.charAt(i + 1)))
+          && 0 <= (low = hexValue(text.charAt(i + 2)))) {
+        buffer[count++] = (byte) ((high << 4) | low);
+        i += 2;
+      } else if (0x80 > letter) {
+        buffer[count++] = (byte) letter;
+      } else {
+        return decodeMixed(text, from, to, buffer, plusAsSpace);
+      }
+    }
+
+    return new String(buffer, 0, count, Constants.DEFAULT_CHARSET);
+  }
+
+  /**
+   * 인코딩되지 않은 non-ASCII 문자가 섞인 구간을 복원합니다. 연속된 %XX 단위로 UTF-8 복원합니다
+   */
+  private static String decodeMixed(
+      final CharSequence text, final int from, final int to, final byte[] buffer,
+      final boolean plusAsSpace
+  ) {
+    final StringBuilder decoded = new StringBuilder(to - from);
+
+    for (int i = from;i < to;) {
+      final char letter = text.charAt(i);
+
+      if ('%' == letter && i + 2 < to
+          && 0 <= hexValue(text.charAt(i + 1)) && 0 <= hexValue(text.charAt(i + 2))) {
+        int count = 0;
+
+        while (i + 2 < to && '%' == text.charAt(i)
+            && 0 <= hexValue(text.charAt(i + 1)) && 0 <= hexValue(text.charAt(i + 2))) {
+          buffer[count++] =
+              (byte) ((hexValue(text.charAt(i + 1)) << 4) | hexValue(text.charAt(i + 2)));
+          i += 3;
+        }
+
+        decoded.append(new String(buffer, 0, count, Constants.DEFAULT_CHARSET));
+      } else {
+        decoded.append(plusAsSpace && '+' == letter ? ' ' : letter);
+        i++;
+      }
+    }
+
+    return decoded.toString();
+  }
+
+  private static int hexValue(final char letter) {
+    if ('0' <= letter && '9' >= letter) return letter - '0';
+    if ('A' <= letter && 'F' >= letter) return letter - 'A' + 10;
+    if ('a' <= letter && 'f' >= letter) return letter - 'a' + 10;
+    return -1;
+  }
+
+}
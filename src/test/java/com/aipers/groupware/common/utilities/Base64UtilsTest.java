@@ -0,0 +1,152 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Base64Utils 의 검사, 복원과 stream, ByteBuffer 단위 인코딩이 java.util.Base64 와 같은지 검증합니다
+ */
+class Base64UtilsTest {
+
+  private static final int[] SIZES = { 0, 1, 2, 3, 4, 5, 57, 76, 6143, 6144, 6145, 8191, 8192, 8193, 50_000 };
+
+  @Test
+  void validatesAndDecodes() {
+    assertTrue(Base64Utils.isBase64("aGVsbG8="));
+    assertTrue(Base64Utils.isBase64("aGVsbG8h"));
+    assertTrue(Base64Utils.isBase64("aGVsbG8"));
+    assertFalse(Base64Utils.isBase64("aGVsb"));
+    assertFalse(Base64Utils.isBase64("aGVsbG8h="));
+    assertFalse(Base64Utils.isBase64("aGVs*G8="));
+    assertFalse(Base64Utils.isBase64(null));
+
+    assertArrayEquals("hello".getBytes(StandardCharsets.US_ASCII), Base64Utils.decode("aGVsbG8="));
+    assertArrayEquals("hello".getBytes(StandardCharsets.US_ASCII), Base64Utils.decode("aGVsbG8"));
+    assertArrayEquals(new byte[0], Base64Utils.decode(""));
+    assertNull(Base64Utils.decodeOrNull("%%%%"));
+    assertThrows(IllegalArgumentException.class, () -> Base64Utils.decode("%%%%"));
+  }
+
+  @Test
+  void encodesStreamLikeJdk() throws IOException {
+    final Random random = new Random(3L);
+
+    for (final int size : SIZES) {
+      final byte[] bytes = new byte[size];
+      random.nextBytes(bytes);
+
+      for (final boolean urlSafe : new boolean[] { false, true }) {
+        final Base64.Encoder encoder = urlSafe ? Base64.getUrlEncoder() : Base64.getEncoder();
+        final String expected = encoder.encodeToString(bytes);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(expected.length(), Base64Utils.encode(new ChunkedInputStream(bytes, 1000), out, urlSafe));
+        assertEquals(expected, new String(out.toByteArray(), StandardCharsets.US_ASCII), "size " + size);
+
+        final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        try (OutputStream encoding = Base64Utils.encoding(encoded, urlSafe)) {
+          encoding.write(bytes);
+        }
+        assertEquals(expected, new String(encoded.toByteArray(), StandardCharsets.US_ASCII));
+      }
+    }
+  }
+
+  @Test
+  void decodesStreamLikeJdk() throws IOException {
+    final Random random = new Random(5L);
+
+    for (final int size : SIZES) {
+      final byte[] bytes = new byte[size];
+      random.nextBytes(bytes);
+
+      for (final byte[] encoded : new byte[][] {
+          Base64.getEncoder().encode(bytes),
+          Base64.getUrlEncoder().withoutPadding().encode(bytes),
+          Base64.getMimeEncoder().encode(bytes)
+      }) {
+        for (final int chunk : new int[] { 1, 3, 4096, 65536 }) {
+          final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+          assertEquals(size, Base64Utils.decode(new ChunkedInputStream(encoded, chunk), out));
+          assertArrayEquals(bytes, out.toByteArray(), "size " + size + ", chunk " + chunk);
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final InputStream decoding = Base64Utils.decoding(new ByteArrayInputStream(encoded));
+        for (int read;-1 != (read = decoding.read());) out.write(read);
+        assertArrayEquals(bytes, out.toByteArray());
+      }
+    }
+  }
+
+  @Test
+  void encodesAndDecodesBuffers() {
+    final byte[] bytes = "Base64 ByteBuffer 단위 변환".getBytes(StandardCharsets.UTF_8);
+    final ByteBuffer source = ByteBuffer.wrap(bytes);
+    final ByteBuffer encoded = ByteBuffer.allocate(64);
+
+    // 3 byte 단위로 처리하고 남은 byte 는 endOfInput 에서 = 를 붙여 인코딩함
+    source.limit(10);
+    assertEquals(12, Base64Utils.encode(source, encoded, false, false));
+    assertEquals(1, source.remaining());
+    source.limit(bytes.length);
+    Base64Utils.encode(source, encoded, true, false);
+
+    encoded.flip();
+    assertEquals(
+        Base64.getEncoder().encodeToString(bytes),
+        StandardCharsets.US_ASCII.decode(encoded.duplicate()).toString()
+    );
+
+    // 4 문자 단위로 처리하고 남은 문자는 endOfInput 에서 복원함
+    final ByteBuffer decoded = ByteBuffer.allocate(64);
+    final ByteBuffer unpadded = ByteBuffer.wrap(Base64.getEncoder().withoutPadding().encode(bytes));
+    Base64Utils.decode(unpadded, decoded, false);
+    assertEquals(unpadded.limit() % 4, unpadded.remaining());
+    Base64Utils.decode(unpadded, decoded, true);
+
+    decoded.flip();
+    final byte[] result = new byte[decoded.remaining()];
+    decoded.get(result);
+    assertArrayEquals(bytes, result);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Base64Utils.decode(ByteBuffer.wrap(new byte[] { 'Q' }), ByteBuffer.allocate(4), true)
+    );
+  }
+
+  /**
+   * 한번에 chunk 개까지만 읽는 InputStream 입니다
+   */
+  private static final class ChunkedInputStream extends ByteArrayInputStream {
+    private final int chunk;
+
+    private ChunkedInputStream(final byte[] bytes, final int chunk) {
+      super(bytes);
+      this.chunk = chunk;
+    }
+
+    @Override
+    public synchronized int read(final byte[] buffer, final int offset, final int length) {
+      return super.read(buffer, offset, Math.min(chunk, length));
+    }
+  }
+
+}
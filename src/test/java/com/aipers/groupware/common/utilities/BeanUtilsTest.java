@@ -0,0 +1,87 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BeanUtils 의 setter 선택 규칙을 검증합니다
+ */
+class BeanUtilsTest {
+
+  @Test
+  void usesTypedSetterInsteadOfBridge() {
+    final Map<String, Object> source = new HashMap<>();
+    source.put("value", 1234);
+
+    final NameHolder bean = BeanUtils.toBean(source, NameHolder.class);
+
+    assertEquals("1234", bean.getValue());
+    assertEquals("1234", BeanUtils.toDictionary(bean).take("value"));
+  }
+
+  @Test
+  void prefersMostSpecificOverloadedSetter() {
+    final Map<String, Object> source = new HashMap<>();
+    source.put("amount", "1234");
+    source.put("code", 7);
+
+    final OverloadedBean bean = BeanUtils.toBean(source, OverloadedBean.class);
+
+    assertEquals("Long:1234", bean.amount);
+    // 관계가 없는 타입은 타입 이름 순 (int < java.lang.String) 으로 선택함
+    assertEquals("int:7", bean.code);
+  }
+
+  public static class Holder<T> {
+    private T value;
+
+    public T getValue() {
+      return value;
+    }
+
+    public void setValue(final T value) {
+      this.value = value;
+    }
+  }
+
+  public static class NameHolder extends Holder<String> {
+    @Override
+    public String getValue() {
+      return super.getValue();
+    }
+
+    @Override
+    public void setValue(final String value) {
+      super.setValue(value);
+    }
+  }
+
+  public static class OverloadedBean {
+    private String amount;
+    private String code;
+
+    public void setAmount(final Object amount) {
+      this.amount = "Object:" + amount;
+    }
+
+    public void setAmount(final Number amount) {
+      this.amount = "Number:" + amount;
+    }
+
+    public void setAmount(final Long amount) {
+      this.amount = "Long:" + amount;
+    }
+
+    public void setCode(final String code) {
+      this.code = "String:" + code;
+    }
+
+    public void setCode(final int code) {
+      this.code = "int:" + code;
+    }
+  }
+
+}
@@ -0,0 +1,58 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URLEncoder;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CommonUtils 의 RSA 복호화가 전달 과정에서 변형된 Base64 문자열을 복원하는지 검증합니다
+ */
+class CommonUtilsTest {
+
+  private static final String PLAIN_TEXT = "password-1234";
+
+  private static KeyPair keyPair;
+  private static String encrypted;
+
+  @BeforeAll
+  static void setUp() throws NoSuchAlgorithmException {
+    final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(1024);
+    keyPair = generator.generateKeyPair();
+
+    // + 가 포함된 암호문으로 검증함 (padding 이 임의값이므로 반복 생성)
+    do {
+      encrypted = CommonUtils.rsaEncrypt(PLAIN_TEXT, keyPair.getPublic());
+    } while (!encrypted.contains("+"));
+  }
+
+  @Test
+  void decryptsPlainBase64() {
+    assertEquals(PLAIN_TEXT, CommonUtils.rsaDecrypt(encrypted, keyPair.getPrivate()));
+  }
+
+  @Test
+  void decryptsUrlEncodedBase64() throws Exception {
+    assertEquals(
+        PLAIN_TEXT,
+        CommonUtils.rsaDecrypt(URLEncoder.encode(encrypted, "UTF-8"), keyPair.getPrivate())
+    );
+  }
+
+  @Test
+  void restoresPlusSigns() {
+    for (final String plus : new String[] {"%2B", "%2b", " ", "%20", "%2520"}) {
+      assertEquals(
+          PLAIN_TEXT,
+          CommonUtils.rsaDecrypt(encrypted.replace("+", plus), keyPair.getPrivate()),
+          plus
+      );
+    }
+  }
+
+}
@@ -0,0 +1,124 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ConcurrentDictionary 의 카운터가 누적 값을 유실하지 않는지 검증합니다
+ */
+class ConcurrentDictionaryTest {
+
+  @Test
+  void setRejectsCounters() {
+    final ConcurrentDictionary dictionary = new ConcurrentDictionary()
+        .increment("count")
+        .add("amount", 0.5);
+
+    assertThrows(IllegalStateException.class, () -> dictionary.set("count", 0));
+    assertThrows(IllegalStateException.class, () -> dictionary.set("amount", (Object) null));
+    assertThrows(IllegalStateException.class, () -> dictionary.computeLong("amount", value -> 0L));
+    assertEquals(1L, dictionary.getLong("count"));
+    assertEquals(0.5, dictionary.getDouble("amount"));
+
+    dictionary.remove("count");
+    dictionary.set("count", 10);
+    assertEquals("10", dictionary.get("count"));
+  }
+
+  @Test
+  void putRejectsCounters() {
+    final ConcurrentDictionary dictionary = new ConcurrentDictionary()
+        .increment("count")
+        .add("amount", 0.5);
+
+    assertThrows(IllegalStateException.class, () -> dictionary.put("count", "x"));
+    assertThrows(IllegalStateException.class, () -> dictionary.putAll(new Dictionary().set("amount", "1")));
+    assertThrows(IllegalStateException.class, () -> dictionary.replace("count", "x"));
+    assertThrows(
+        IllegalStateException.class,
+        () -> dictionary.replace("count", dictionary.take("count"), "x")
+    );
+    assertThrows(IllegalStateException.class, () -> dictionary.replaceAll((key, value) -> "x"));
+
+    assertEquals(1L, dictionary.getLong("count"));
+    assertEquals(0.5, dictionary.getDouble("amount"));
+  }
+
+  @Test
+  void putUsesCamelCaseKeys() {
+    final ConcurrentDictionary dictionary = new ConcurrentDictionary();
+
+    assertNull(dictionary.put("USER_ID", "u1"));
+    dictionary.putAll(new HashMap<>(Collections.singletonMap("USER_NM", "kim")));
+
+    assertEquals(new Dictionary().set("userId", "u1").set("userNm", "kim"), dictionary.toDictionary());
+    assertEquals("u1", dictionary.put("USER_ID", "u2"));
+    assertEquals("u2", dictionary.replace("USER_ID", "u3"));
+    assertFalse(dictionary.replace("USER_ID", "u2", "u4"));
+    assertTrue(dictionary.replace("USER_ID", "u3", "u4"));
+    assertNull(dictionary.replace("LOGIN_ID", "x"));
+    assertEquals("u4", dictionary.get("userId"));
+    assertFalse(dictionary.containsKey("loginId"));
+
+    dictionary.put("USER_NM", null);
+    assertFalse(dictionary.containsKey("userNm"));
+  }
+
+  @Test
+  void incrementFoldsIntoDoubleCounter() {
+    final ConcurrentDictionary dictionary = new ConcurrentDictionary()
+        .add("amount", 0.5)
+        .increment("amount", 2);
+
+    assertEquals(2.5, dictionary.getDouble("amount"));
+  }
+
+  @Test
+  void addRejectsLongCounter() {
+    final ConcurrentDictionary dictionary = new ConcurrentDictionary().increment("count", 3);
+
+    assertThrows(IllegalStateException.class, () -> dictionary.add("count", 0.5));
+    assertEquals(3L, dictionary.getLong("count"));
+  }
+
+  @Test
+  void mergesCountsFromManyThreads() throws Exception {
+    final ConcurrentDictionary total = new ConcurrentDictionary();
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    final List<Future<?>> futures = new ArrayList<>();
+
+    try {
+      for (int i = 0;i < 8;i++) {
+        futures.add(executor.submit(() -> {
+          for (int j = 0;j < 10_000;j++) {
+            total.increment("count");
+            total.mergeAll(new Dictionary("rows", (Object) 1L).set("amount", (Object) 0.5D));
+            total.increment("amount");
+          }
+        }));
+      }
+
+      for (final Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(80_000L, total.getLong("count"));
+    assertEquals(80_000L, total.getLong("rows"));
+    assertEquals(120_000D, total.getDouble("amount"));
+  }
+
+}
@@ -0,0 +1,208 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DictionaryCodec 의 태그별 변환과 잘못된 입력 처리를 검증합니다
+ */
+class DictionaryCodecTest {
+
+  @Test
+  void roundTripsScalars() {
+    final Dictionary source = new Dictionary()
+        .set("null", (Object) null)
+        .set("true", (Object) Boolean.TRUE)
+        .set("false", (Object) Boolean.FALSE)
+        .set("int", (Object) Integer.MIN_VALUE)
+        .set("long", (Object) Long.MAX_VALUE)
+        .set("negativeLong", (Object) (-1L))
+        .set("short", (Object) (short) -300)
+        .set("byte", (Object) (byte) -7)
+        .set("char", (Object) '한')
+        .set("float", (Object) Float.NaN)
+        .set("double", (Object) (-0.0d))
+        .set("decimal", (Object) new BigDecimal("-1234.5600"))
+        .set("scaledDecimal", (Object) new BigDecimal("1E+5"))
+        .set("bigInteger", (Object) new BigInteger("-123456789012345678901234567890"))
+        .set("string", "한글 😀 text")
+        .set("empty", "")
+        .set("date", (Object) new Date(1_700_000_000_123L));
+
+    final Dictionary restored = roundTrip(source);
+
+    assertEquals(source, restored);
+    source.forEach((key, value) ->
+        assertEquals(null == value ? null : value.getClass(), typeOf(restored.take(key)), key));
+    assertEquals(1E+5, ((BigDecimal) restored.take("scaledDecimal")).doubleValue());
+    assertEquals(-5, ((BigDecimal) restored.take("scaledDecimal")).scale());
+  }
+
+  @Test
+  void roundTripsTimestampNanos() {
+    final Timestamp timestamp = Timestamp.valueOf("2024-10-18 12:34:56.123456789");
+    final Timestamp early = Timestamp.valueOf("1960-01-01 00:00:00.000000001");
+
+    final Dictionary restored = roundTrip(new Dictionary().set("at", timestamp).set("early", early));
+
+    assertEquals(timestamp, restored.take("at"));
+    assertEquals(123456789, ((Timestamp) restored.take("at")).getNanos());
+    assertEquals(early, restored.take("early"));
+  }
+
+  @Test
+  void roundTripsArrays() {
+    final Dictionary restored = roundTrip(new Dictionary()
+        .set("bytes", new byte[] {0, -1, 127})
+        .set("strings", new String[] {"a", null, ""})
+        .set("ints", new int[] {1, -2, 3})
+        .set("objects", new Object[] {1, "b", null}));
+
+    assertArrayEquals(new byte[] {0, -1, 127}, (byte[]) restored.take("bytes"));
+    assertArrayEquals(new String[] {"a", null, ""}, (String[]) restored.take("strings"));
+    assertArrayEquals(new int[] {1, -2, 3}, (int[]) restored.take("ints"));
+    assertArrayEquals(new Object[] {1, "b", null}, (Object[]) restored.take("objects"));
+  }
+
+  @Test
+  void roundTripsNestedContainers() {
+    final Map<String, Object> map = new LinkedHashMap<>();
+    map.put("z", 1L);
+    map.put("a", Arrays.asList("x", null));
+
+    final TypedDictionary typed = new TypedDictionary().set("count", 3);
+    final Dictionary source = new Dictionary()
+        .set("list", Arrays.asList(1, "two", Arrays.asList(3L, new Dictionary().set("deep", "v"))))
+        .set("map", map)
+        .set("child", new Dictionary().set("name", "kim").set("grandChild", new Dictionary()))
+        .set("typed", typed);
+
+    final Dictionary restored = roundTrip(source);
+
+    assertEquals(source, restored);
+    assertInstanceOf(Dictionary.class, ((List<?>) ((List<?>) restored.take("list")).get(2)).get(1));
+    assertInstanceOf(LinkedHashMap.class, restored.take("map"));
+    assertEquals(Arrays.asList("z", "a"), Arrays.asList(((Map<?, ?>) restored.take("map")).keySet().toArray()));
+    assertInstanceOf(Dictionary.class, restored.take("child"));
+    assertInstanceOf(TypedDictionary.class, restored.take("typed"));
+    assertEquals(3, ((Dictionary) restored.take("typed")).take("count"));
+  }
+
+  @Test
+  void roundTripsSerializableFallback() {
+    final java.sql.Date sqlDate = java.sql.Date.valueOf("2024-10-18");
+    final Dictionary source = new Dictionary()
+        .set("enum", (Object) TimeUnit.SECONDS)
+        .set("sqlDate", (Object) sqlDate)
+        .set("set", new LinkedHashSet<>(Arrays.asList("b", "a")))
+        .set("singleton", Collections.singleton(1L));
+
+    final Dictionary restored = roundTrip(source);
+
+    assertEquals(source, restored);
+    assertEquals(TimeUnit.SECONDS, restored.take("enum"));
+    assertEquals(java.sql.Date.class, restored.take("sqlDate").getClass());
+    assertEquals(LinkedHashSet.class, restored.take("set").getClass());
+  }
+
+  @Test
+  void writesLargeValueAsContent() throws IOException {
+    final int size = (int) LargeValue.SPILL_THRESHOLD + 16;
+    final char[] chars = new char[size];
+    Arrays.fill(chars, 'x');
+
+    final Dictionary restored = roundTrip(new Dictionary()
+        .set("text", LargeValue.read(new StringReader(new String(chars))))
+        .spill("binary", new ByteArrayInputStream(new byte[size])));
+
+    assertEquals(new String(chars), restored.take("text"));
+    assertArrayEquals(new byte[size], (byte[]) restored.take("binary"));
+  }
+
+  @Test
+  void readsFromBufferPosition() {
+    final Dictionary source = new Dictionary().set("a", "1");
+    final byte[] encoded = source.toByte();
+    final ByteBuffer buffer = ByteBuffer.allocate(encoded.length + 8);
+
+    buffer.put(new byte[] {9, 9});
+    DictionaryCodec.encode(source, buffer);
+    buffer.flip().position(2);
+
+    assertEquals(source, Dictionary.fromBytes(buffer));
+    assertEquals(2 + encoded.length, buffer.position());
+  }
+
+  @Test
+  void rejectsTruncatedInput() {
+    final byte[] encoded = new Dictionary()
+        .set("text", "한글")
+        .set("list", Arrays.asList(1L, 2.5d, new Dictionary().set("a", "b")))
+        .set("at", new Timestamp(0L))
+        .set("enum", (Object) TimeUnit.DAYS)
+        .toByte();
+
+    for (int length = 0;length < encoded.length;length++) {
+      final byte[] truncated = Arrays.copyOf(encoded, length);
+      assertThrows(IllegalArgumentException.class, () -> Dictionary.fromBytes(truncated), "length " + length);
+    }
+  }
+
+  @Test
+  void rejectsInvalidInput() {
+    final byte[] encoded = new Dictionary().set("a", "1").toByte();
+
+    final byte[] unknownTag = encoded.clone();
+    unknownTag[6] = 99;
+    assertThrows(IllegalArgumentException.class, () -> Dictionary.fromBytes(unknownTag));
+
+    final byte[] badMagic = encoded.clone();
+    badMagic[0] = 0;
+    assertThrows(IllegalArgumentException.class, () -> Dictionary.fromBytes(badMagic));
+
+    final byte[] notDictionary = {encoded[0], encoded[1], 11, 0};
+    assertThrows(IllegalArgumentException.class, () -> Dictionary.fromBytes(notDictionary));
+
+    final byte[] badSerialized = {encoded[0], encoded[1], 18, 1, 1, 'a', 21, 2, 1, 2};
+    assertThrows(IllegalArgumentException.class, () -> Dictionary.fromBytes(badSerialized));
+  }
+
+  @Test
+  void rejectsUnsupportedValues() {
+    assertThrows(IllegalArgumentException.class, () -> new Dictionary().set("a", new Object()).toByte());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new Dictionary().set("a", Collections.singletonMap(1, "x")).toByte()
+    );
+  }
+
+  private static Dictionary roundTrip(final Dictionary source) {
+    final Dictionary restored = Dictionary.fromBytes(source.toByte());
+    assertEquals(source.getClass(), restored.getClass());
+    return restored;
+  }
+
+  private static Class<?> typeOf(final Object value) {
+    return null == value ? null : value.getClass();
+  }
+
+}
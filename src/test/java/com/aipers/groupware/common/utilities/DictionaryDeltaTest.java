@@ -0,0 +1,153 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Dictionary 의 변경 추적과 DictionaryDelta 를 검증합니다
+ */
+class DictionaryDeltaTest {
+
+  @Test
+  void tracksSetAndRemove() {
+    final Dictionary dictionary = tracked();
+    dictionary.set("a", "1").set("b", "3").set("c", "new");
+    dictionary.put("USER_ID", "u");
+    dictionary.delete("d");
+
+    final DictionaryDelta delta = dictionary.delta();
+    assertEquals(new Dictionary().set("b", "3").set("c", "new").set("userId", "u"), delta.getChanged());
+    assertEquals(Collections.singleton("d"), delta.getRemoved());
+    assertTrue(dictionary.isDirty());
+
+    dictionary.checkpoint();
+    assertFalse(dictionary.isDirty());
+    assertFalse(dictionary.delta().hasChanges());
+  }
+
+  @Test
+  void skipsUnchangedPutAll() {
+    final Dictionary dictionary = tracked();
+    dictionary.putAll(new Dictionary().set("a", "1").set("b", "2"));
+
+    assertFalse(dictionary.isDirty());
+
+    dictionary.putAll(new Dictionary().set("a", "1").set("b", "9"));
+    assertEquals(new Dictionary().set("b", "9"), dictionary.delta().getChanged());
+  }
+
+  @Test
+  void tracksMapDefaultMethods() {
+    final Dictionary dictionary = tracked();
+
+    dictionary.putIfAbsent("a", "x");
+    dictionary.putIfAbsent("e", "5");
+    dictionary.merge("b", "0", (previous, value) -> previous + "" + value);
+    dictionary.computeIfAbsent("f", key -> "6");
+    dictionary.computeIfPresent("c", (key, value) -> null);
+    dictionary.compute("a", (key, value) -> value);
+    dictionary.replace("d", "40");
+    dictionary.replace("g", "x");
+
+    final DictionaryDelta delta = dictionary.delta();
+    assertEquals(
+        new Dictionary().set("e", "5").set("b", "20").set("f", "6").set("d", "40"),
+        delta.getChanged()
+    );
+    assertEquals(Collections.singleton("c"), delta.getRemoved());
+  }
+
+  @Test
+  void tracksConditionalMethods() {
+    final Dictionary dictionary = tracked();
+
+    assertFalse(dictionary.replace("a", "9", "x"));
+    assertTrue(dictionary.replace("a", "1", "10"));
+    assertFalse(dictionary.remove("b", "9"));
+    assertTrue(dictionary.remove("b", "2"));
+    dictionary.replaceAll((key, value) -> "c".equals(key) ? "30" : value);
+
+    final DictionaryDelta delta = dictionary.delta();
+    assertEquals(new Dictionary().set("a", "10").set("c", "30"), delta.getChanged());
+    assertEquals(Collections.singleton("b"), delta.getRemoved());
+  }
+
+  @Test
+  void tracksViewRemoval() {
+    final Dictionary dictionary = tracked();
+
+    dictionary.keySet().remove("a");
+    dictionary.values().removeIf("2"::equals);
+
+    final Iterator<Map.Entry<String, Object>> iterator = dictionary.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<String, Object> entry = iterator.next();
+      if ("c".equals(entry.getKey())) iterator.remove();
+      if ("d".equals(entry.getKey())) entry.setValue("40");
+    }
+
+    final DictionaryDelta delta = dictionary.delta();
+    assertEquals(new Dictionary().set("d", "40"), delta.getChanged());
+    assertEquals(new LinkedHashSet<>(Arrays.asList("a", "b", "c")), delta.getRemoved());
+    assertEquals(new Dictionary().set("d", "40"), dictionary);
+  }
+
+  @Test
+  void clearsAll() {
+    final Dictionary dictionary = tracked();
+    dictionary.clear();
+
+    assertEquals(4, dictionary.delta().getRemoved().size());
+    assertTrue(dictionary.delta().getChanged().isEmpty());
+  }
+
+  @Test
+  void ignoresUntracked() {
+    final Dictionary dictionary = source();
+    dictionary.set("a", "9").putIfAbsent("z", "1");
+
+    assertFalse(dictionary.isTracking());
+    assertFalse(dictionary.isDirty());
+    assertFalse(dictionary.delta().hasChanges());
+  }
+
+  @Test
+  void deltaIsReadOnly() {
+    final Dictionary dictionary = tracked().set("a", "9");
+    dictionary.remove("b");
+
+    final DictionaryDelta delta = dictionary.delta();
+    delta.getChanged().set("x", "y");
+
+    assertEquals(new Dictionary().set("a", "9"), delta.getChanged());
+    assertThrows(UnsupportedOperationException.class, () -> delta.getRemoved().add("x"));
+  }
+
+  @Test
+  void appliesDelta() {
+    final Dictionary dictionary = tracked().set("a", "9").set("e", "5");
+    dictionary.remove("b");
+
+    final Dictionary replica = source().apply(dictionary.delta());
+
+    assertEquals(dictionary, replica);
+  }
+
+  private static Dictionary source() {
+    return new Dictionary().set("a", "1").set("b", "2").set("c", "3").set("d", "4");
+  }
+
+  private static Dictionary tracked() {
+    return source().track();
+  }
+
+}
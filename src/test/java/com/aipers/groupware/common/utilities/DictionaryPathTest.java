@@ -0,0 +1,91 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DictionaryPath 의 배열 색인 해석을 검증합니다
+ */
+class DictionaryPathTest {
+
+  @Test
+  void readsIndex() {
+    final Dictionary root = new Dictionary().set("items", Arrays.asList("a", "b", "c"));
+
+    assertEquals("c", DictionaryPath.compile("items[2]").getString(root));
+    assertEquals("", DictionaryPath.compile("items[3]").getString(root));
+  }
+
+  @Test
+  void readsNestedPath() {
+    final Dictionary root = new Dictionary()
+        .set("order", new Dictionary().set("items", Arrays.asList(
+            new Dictionary().set("price", (Object) 10L),
+            new Dictionary().set("price", (Object) 2.5d)
+        )))
+        .set("data", new Dictionary().set("user.name", "kim"));
+
+    assertEquals(10L, DictionaryPath.compile("order.items[0].price").getLong(root));
+    assertEquals("kim", DictionaryPath.compile("data['user.name']").getString(root));
+    assertEquals("kim", DictionaryPath.compile("data[\"user.name\"]").get(root));
+    assertEquals("x", DictionaryPath.compile("order.missing").getString(root, "x"));
+  }
+
+  @Test
+  void readsDecimal() {
+    final Dictionary root = new Dictionary()
+        .set("long", (Object) 7L)
+        .set("double", (Object) 2.5d)
+        .set("text", " 1.25 ")
+        .set("nan", (Object) Double.NaN)
+        .set("infinity", (Object) Double.POSITIVE_INFINITY)
+        .set("floatNaN", (Object) Float.NaN)
+        .set("word", "abc");
+
+    assertEquals(new BigDecimal("7"), DictionaryPath.compile("long").getDecimal(root));
+    assertEquals(new BigDecimal("2.5"), DictionaryPath.compile("double").getDecimal(root));
+    assertEquals(new BigDecimal("1.25"), DictionaryPath.compile("text").getDecimal(root));
+    assertEquals(BigDecimal.ZERO, DictionaryPath.compile("nan").getDecimal(root));
+    assertEquals(BigDecimal.ZERO, DictionaryPath.compile("infinity").getDecimal(root));
+    assertEquals(BigDecimal.ZERO, DictionaryPath.compile("missing").getDecimal(root));
+
+    assertEquals(BigDecimal.valueOf(1.5D), DictionaryPath.compile("nan").getDecimal(root, 1.5D));
+    assertEquals(BigDecimal.valueOf(1.5D), DictionaryPath.compile("infinity").getDecimal(root, 1.5D));
+    assertEquals(BigDecimal.valueOf(1.5D), DictionaryPath.compile("floatNaN").getDecimal(root, 1.5D));
+    assertEquals(BigDecimal.valueOf(1.5D), DictionaryPath.compile("word").getDecimal(root, 1.5D));
+    assertEquals(BigDecimal.valueOf(1.5D), DictionaryPath.compile("missing").getDecimal(root, 1.5D));
+    assertEquals(new BigDecimal("2.5"), DictionaryPath.compile("double").getDecimal(root, 1.5D));
+  }
+
+  @Test
+  void rejectsMalformedPath() {
+    for (final String expression : new String[] {
+        "a[0]b", "a['b']c", "a.b]", "a]", "a[0]]", ".a", "a.", "a..b", "a.[0]", "a[]", "a[x]", "a['b'", ""
+    }) {
+      assertThrows(IllegalArgumentException.class, () -> DictionaryPath.compile(expression), expression);
+    }
+
+    assertDoesNotThrow(() -> DictionaryPath.compile("a[0][1].b['c'].d"));
+  }
+
+  @Test
+  void acceptsMaxIndex() {
+    assertDoesNotThrow(() -> DictionaryPath.compile("items[2147483647]"));
+  }
+
+  @Test
+  void rejectsOverflowingIndex() {
+    final IllegalArgumentException e = assertThrows(
+        IllegalArgumentException.class, () -> DictionaryPath.compile("items[2147483648]"));
+    assertEquals("Invalid path expression [items[2147483648]] at 15", e.getMessage());
+
+    assertThrows(IllegalArgumentException.class, () -> DictionaryPath.compile("items[4294967297]"));
+    assertThrows(IllegalArgumentException.class, () -> DictionaryPath.compile("items[99999999999]"));
+  }
+
+}
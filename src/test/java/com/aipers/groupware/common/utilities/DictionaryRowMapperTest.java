@@ -0,0 +1,242 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DictionaryRowMapper 를 H2 in-memory DB 의 실제 ResultSet 으로 검증합니다
+ */
+class DictionaryRowMapperTest {
+
+  private static final int LARGE_SIZE = (int) LargeValue.SPILL_THRESHOLD + 1024;
+
+  private Connection connection;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:row_mapper;DB_CLOSE_DELAY=-1");
+
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute(
+          "CREATE TABLE TB_USER ("
+              + " USER_ID INTEGER, USER_NM VARCHAR(50), LOGIN_CNT BIGINT, POINT_AMT DECIMAL(10, 2),"
+              + " RATE DOUBLE, USE_YN BOOLEAN, REG_DT TIMESTAMP, MEMO CLOB, PHOTO BLOB)"
+      );
+    }
+
+    try (final PreparedStatement insert = connection.prepareStatement(
+        "INSERT INTO TB_USER VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)"
+    )) {
+      insert.setInt(1, 1);
+      insert.setString(2, "홍길동");
+      insert.setLong(3, 10_000_000_000L);
+      insert.setBigDecimal(4, new BigDecimal("1234.50"));
+      insert.setDouble(5, 0.25);
+      insert.setBoolean(6, true);
+      insert.setTimestamp(7, Timestamp.valueOf("2024-10-18 12:34:56"));
+      insert.setString(8, "첫 줄\n둘째 줄");
+      insert.setBytes(9, new byte[] {1, 2, 3});
+      insert.executeUpdate();
+
+      insert.setInt(1, 2);
+      for (int i = 2;i <= 9;i++) insert.setObject(i, null);
+      insert.executeUpdate();
+
+      insert.setInt(1, 3);
+      insert.setString(2, "large");
+      insert.setString(8, repeat('가', LARGE_SIZE));
+      insert.setBytes(9, new byte[LARGE_SIZE]);
+      insert.executeUpdate();
+    }
+  }
+
+  @AfterEach
+  void tearDown() throws SQLException {
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute("DROP ALL OBJECTS");
+    }
+
+    connection.close();
+  }
+
+  /**
+   * 구분 문자가 없는 컬럼명은 기존 camel case 변환과 같이 그대로 키가 됩니다 (RATE, MEMO, PHOTO)
+   */
+  @Test
+  void mapsColumnsByType() throws SQLException {
+    final Dictionary row = query("SELECT * FROM TB_USER WHERE USER_ID = 1").get(0);
+
+    assertEquals(1, row.take("userId"));
+    assertEquals("홍길동", row.take("userNm"));
+    assertEquals(10_000_000_000L, row.take("loginCnt"));
+    assertEquals(new BigDecimal("1234.50"), row.take("pointAmt"));
+    assertEquals(0.25, row.take("RATE"));
+    assertEquals(Boolean.TRUE, row.take("useYn"));
+    assertEquals(Timestamp.valueOf("2024-10-18 12:34:56"), row.take("regDt"));
+    assertEquals("첫 줄\n둘째 줄", row.take("MEMO"));
+    assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) row.take("PHOTO"));
+  }
+
+  @Test
+  void readsMappedColumnsAsText() throws SQLException {
+    final Dictionary row = query("SELECT * FROM TB_USER WHERE USER_ID = 1").get(0);
+
+    assertEquals("1", row.get("userId"));
+    assertEquals("1", row.getString("userId"));
+    assertEquals("1", row.get("userId", "x"));
+    assertEquals("1", row.get("userId", 9));
+    assertEquals("10000000000", row.getString("loginCnt"));
+    assertEquals("1234.50", row.get("pointAmt"));
+    assertEquals("0.25", row.getString("RATE", "x"));
+    assertEquals("true", row.get("useYn"));
+    assertEquals("2024-10-18 12:34:56.0", row.getString("regDt"));
+    assertEquals(1, row.getInt("userId"));
+    assertEquals(10_000_000_000L, row.getLong("loginCnt"));
+
+    final Dictionary empty = query("SELECT * FROM TB_USER WHERE USER_ID = 2").get(0);
+    assertEquals("", empty.get("loginCnt"));
+    assertEquals("x", empty.getString("pointAmt", "x"));
+    assertEquals("9", empty.get("RATE", 9));
+  }
+
+  @Test
+  void mapsNullColumnsToNull() throws SQLException {
+    final Dictionary row = query("SELECT * FROM TB_USER WHERE USER_ID = 2").get(0);
+
+    for (final String key : Arrays.asList(
+        "userNm", "loginCnt", "pointAmt", "RATE", "useYn", "regDt", "MEMO", "PHOTO"
+    )) {
+      assertTrue(row.containsKey(key), key);
+      assertNull(row.take(key), key);
+    }
+  }
+
+  @Test
+  void spillsLargeClobAndBlob() throws SQLException {
+    final Dictionary row = query("SELECT MEMO, PHOTO FROM TB_USER WHERE USER_ID = 3").get(0);
+
+    final LargeValue memo = assertInstanceOf(LargeValue.class, row.take("MEMO"));
+    assertTrue(memo.isText());
+    assertEquals(repeat('가', LARGE_SIZE), row.getString("MEMO"));
+
+    final LargeValue photo = assertInstanceOf(LargeValue.class, row.take("PHOTO"));
+    assertFalse(photo.isText());
+    assertArrayEquals(new byte[LARGE_SIZE], row.getByte("PHOTO"));
+  }
+
+  @Test
+  void keepsLastValueOfDuplicateLabels() throws SQLException {
+    final String sql = "SELECT USER_ID AS ID, USER_NM AS ID, USER_NM AS user_nm FROM TB_USER WHERE USER_ID = 1";
+    final Dictionary row = query(sql).get(0);
+
+    assertEquals(legacyRows(sql).get(0), row);
+    assertEquals("홍길동", row.take("ID"));
+    assertEquals(2, row.size());
+  }
+
+  @Test
+  void matchesCamelCaseKeysOfLegacyMapping() throws SQLException {
+    final String sql = "SELECT USER_ID, USER_NM AS \"userName\", LOGIN_CNT AS \"LOGIN__CNT\","
+        + " POINT_AMT AS \"point_amt_\", RATE AS R, USE_YN AS \"Use_Yn\" FROM TB_USER";
+
+    try (final Statement statement = connection.createStatement();
+        final ResultSet resultSet = statement.executeQuery(sql)) {
+      assertEquals(
+          legacyRows(sql).get(0).keySet(),
+          new LinkedHashSet<>(Arrays.asList(DictionaryRowMapper.of(resultSet).getKeys()))
+      );
+    }
+
+    final List<Dictionary> rows = query(sql);
+    final List<Dictionary> legacy = legacyRows(sql);
+
+    assertEquals(legacy.size(), rows.size());
+    for (int i = 0;i < rows.size();i++) assertEquals(legacy.get(i).keySet(), rows.get(i).keySet());
+  }
+
+  @Test
+  void streamsRowsLazily() throws SQLException {
+    try (final Statement statement = connection.createStatement();
+        final ResultSet resultSet = statement.executeQuery("SELECT USER_ID FROM TB_USER ORDER BY USER_ID");
+        final Stream<Dictionary> rows = DictionaryRowMapper.stream(resultSet)) {
+      assertEquals(
+          Arrays.asList(1, 2),
+          rows.limit(2).map(row -> row.take("userId")).collect(Collectors.toList())
+      );
+      assertTrue(resultSet.next());
+      assertEquals(3, resultSet.getInt(1));
+    }
+  }
+
+  @Test
+  void mapsRowsIntoTable() throws SQLException {
+    try (final Statement statement = connection.createStatement();
+        final ResultSet resultSet = statement.executeQuery(
+            "SELECT USER_ID, USER_NM FROM TB_USER ORDER BY USER_ID"
+        )) {
+      final DictionaryTable table = DictionaryRowMapper.toTable(resultSet);
+
+      assertEquals(3, table.size());
+      assertEquals(query("SELECT USER_ID, USER_NM FROM TB_USER ORDER BY USER_ID"), table.toList());
+    }
+  }
+
+  private List<Dictionary> query(final String sql) throws SQLException {
+    try (final Statement statement = connection.createStatement();
+        final ResultSet resultSet = statement.executeQuery(sql)) {
+      return DictionaryRowMapper.toList(resultSet);
+    }
+  }
+
+  /**
+   * 기존 방식 (컬럼마다 Dictionary.put) 으로 변환합니다
+   */
+  private List<Dictionary> legacyRows(final String sql) throws SQLException {
+    final List<Dictionary> rows = new ArrayList<>();
+
+    try (final Statement statement = connection.createStatement();
+        final ResultSet resultSet = statement.executeQuery(sql)) {
+      final ResultSetMetaData metaData = resultSet.getMetaData();
+
+      while (resultSet.next()) {
+        final Dictionary row = new Dictionary();
+        for (int i = 1;i <= metaData.getColumnCount();i++) {
+          row.put(metaData.getColumnLabel(i), resultSet.getObject(i));
+        }
+        rows.add(row);
+      }
+    }
+
+    return rows;
+  }
+
+  private static String repeat(final char letter, final int count) {
+    final char[] chars = new char[count];
+    Arrays.fill(chars, letter);
+    return new String(chars);
+  }
+
+}
@@ -0,0 +1,116 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DictionaryTable 의 유형이 섞인 컬럼 정렬을 검증합니다
+ */
+class DictionaryTableTest {
+
+  @Test
+  void sortsMixedNumbersNumerically() {
+    final DictionaryTable table = table(10, 9L, new BigDecimal("9.5"), 100L, 2.5d, -1);
+
+    assertEquals(
+        Arrays.asList("-1", "2.5", "9", "9.5", "10", "100"),
+        values(table.sort("value"))
+    );
+    assertEquals(
+        Arrays.asList("100", "10", "9.5", "9", "2.5", "-1"),
+        values(table.sort("value", true))
+    );
+  }
+
+  @Test
+  void sortsNonFiniteNumbers() {
+    final DictionaryTable table = table(Double.POSITIVE_INFINITY, 1L, Float.NEGATIVE_INFINITY, 0);
+
+    assertEquals(Arrays.asList("-Infinity", "0", "1", "Infinity"), values(table.sort("value")));
+  }
+
+  @Test
+  void sortsOtherTypesAsText() {
+    final DictionaryTable table = table("b", 10, "a");
+
+    assertEquals(Arrays.asList("10", "a", "b"), values(table.sort("value")));
+  }
+
+  @Test
+  void sortsNumbersBeforeText() {
+    final DictionaryTable table = table("1a", 10, 9L, "b", 100L, "0");
+
+    assertEquals(Arrays.asList("9", "10", "100", "0", "1a", "b"), values(table.sort("value")));
+    assertEquals(Arrays.asList("b", "1a", "0", "100", "10", "9"), values(table.sort("value", true)));
+  }
+
+  @Test
+  void keepsShortAndByte() {
+    final DictionaryTable table = table((short) 3, (byte) 2, 1);
+
+    assertEquals(Arrays.asList(Short.class, Byte.class, Integer.class), types(table));
+    assertEquals(Arrays.asList(Byte.class, Short.class), types(table((byte) 2, (short) 3)));
+    assertEquals(Arrays.asList(Integer.class, Short.class), types(table(1, (short) 3)));
+    assertEquals(Arrays.asList("1", "2", "3"), values(table.sort("value")));
+  }
+
+  @Test
+  void readsRowLikeDictionary() {
+    final DictionaryTable table = DictionaryTable.builder("id", "name", "rate", "flag", "memo")
+        .add(7, "kim", 2.5d, true, null)
+        .add(8, "lee", Double.NaN, false, "")
+        .build();
+
+    final DictionaryTable.Row first = table.row(0);
+    assertEquals("7", first.get("id"));
+    assertEquals("kim", first.get("name"));
+    assertEquals("", first.get("memo"));
+    assertEquals("x", first.get("memo", "x"));
+    assertEquals("5", first.get("memo", 5));
+    assertEquals(7, first.take("id"));
+    assertEquals("kim", first.take("name", String.class));
+    assertEquals(7, first.getInt("id"));
+    assertEquals(2.5f, first.getFloat("rate"));
+    assertEquals(new BigDecimal("2.5"), first.getDecimal("rate"));
+    assertTrue(first.getBoolean("flag"));
+    assertTrue(first.isEmpty("memo"));
+    assertEquals(table.toDictionary(0), first.toDictionary());
+
+    final DictionaryTable.Row second = table.row(1);
+    assertFalse(second.getBoolean("flag"));
+    assertEquals(BigDecimal.ZERO, second.getDecimal("rate"));
+    assertEquals(BigDecimal.valueOf(1.5D), second.getDecimal("rate", 1.5D));
+    assertEquals("x", second.get("memo", "x"));
+  }
+
+  private static DictionaryTable table(final Object ... values) {
+    final List<Map<String, ?>> rows = new ArrayList<>();
+    for (final Object value : values) rows.add(Collections.singletonMap("value", value));
+
+    return DictionaryTable.of(rows);
+  }
+
+  private static List<Class<?>> types(final DictionaryTable table) {
+    final List<Class<?>> types = new ArrayList<>();
+    for (final DictionaryTable.Row row : table) types.add(row.take("value").getClass());
+
+    return types;
+  }
+
+  private static List<String> values(final DictionaryTable table) {
+    final List<String> values = new ArrayList<>();
+    for (final DictionaryTable.Row row : table) values.add(row.get("value"));
+
+    return values;
+  }
+
+}
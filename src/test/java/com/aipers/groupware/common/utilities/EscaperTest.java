@@ -0,0 +1,126 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Escaper 의 HTML, JSON, CSV, URL escape 와 Reader 로 읽을 때의 결과를 검증합니다
+ */
+class EscaperTest {
+
+  @Test
+  void escapesHtml() {
+    assertEquals(
+        "&lt;a href=&quot;&#35;&quot; onclick=&#39;f&#40;1&#41;&#39;&gt;&amp;&#35;&lt;/a&gt;",
+        Escaper.HTML.escape("<a href=\"#\" onclick='f(1)'>&#</a>")
+    );
+
+    final String plain = "변경할 문자가 없습니다";
+    assertSame(plain, Escaper.HTML.escape(plain));
+    assertNull(Escaper.HTML.escape(null));
+  }
+
+  @Test
+  void escapesJson() {
+    assertEquals(
+        "\\\"q\\\" \\\\ \\b\\f\\n\\r\\t \\u0000\\u001F 한글 /",
+        Escaper.JSON.escape("\"q\" \\ \b\f\n\r\t \u0000\u001f 한글 /")
+    );
+  }
+
+  @Test
+  void escapesCsv() throws IOException {
+    assertEquals("plain", Escaper.CSV.escape("plain"));
+    assertEquals("\"a,b\"", Escaper.CSV.escape("a,b"));
+    assertEquals("\"say \"\"hi\"\"\"", Escaper.CSV.escape("say \"hi\""));
+    assertEquals("\"line\r\nbreak\"", Escaper.CSV.escape("line\r\nbreak"));
+
+    // Reader 는 내용을 미리 알 수 없으므로 항상 따옴표로 감쌈
+    assertEquals("\"plain\"", Escaper.CSV.escape(new StringReader("plain"), new StringWriter()).toString());
+  }
+
+  @Test
+  void escapesUrl() throws UnsupportedEncodingException {
+    final String text = "a b/c?d=e&f+g#h~i*j:k@l'm(n)!$,;";
+
+    assertEquals(
+        "a%20b%2Fc%3Fd%3De%26f%2Bg%23h~i%2Aj%3Ak%40l%27m%28n%29%21%24%2C%3B",
+        Escaper.URL_COMPONENT.escape(text)
+    );
+    assertEquals("a%20b/c%3Fd=e&f+g%23h~i*j:k@l'm(n)!$,;", Escaper.URL_PATH.escape(text));
+    assertEquals("a%20b/c?d%3De%26f%2Bg%23h~i*j:k@l'm(n)!$,;", Escaper.URL_QUERY.escape(text));
+    assertEquals("a%20b/c?d=e&f+g%23h~i*j:k@l'm(n)!$,;", Escaper.URL_FRAGMENT.escape(text));
+    assertEquals(URLEncoder.encode(text, "UTF-8").replace("+", "%20"), Escaper.URL_FORM.escape(text));
+
+    assertEquals("%C3%A4%ED%95%9C%F0%9F%98%80", Escaper.URL_COMPONENT.escape("ä한😀"));
+    assertEquals("%3Fa", Escaper.URL_COMPONENT.escape("\uD83Da"));
+  }
+
+  @Test
+  void escapesReaderSameAsString() throws IOException {
+    final Random random = new Random(7L);
+    final Escaper[] escapers = { Escaper.HTML, Escaper.JSON, Escaper.URL_COMPONENT, Escaper.URL_FORM };
+
+    for (int i = 0;i < 200;i++) {
+      final StringBuilder text = new StringBuilder();
+      final int length = random.nextInt(20_000);
+
+      // 8192 읽기 단위에 surrogate pair 가 걸치는 경우를 포함함
+      while (text.length() < length) {
+        switch (random.nextInt(4)) {
+          case 0: text.append("😀"); break;
+          case 1: text.append("<&\"\n"); break;
+          case 2: text.append('한'); break;
+          default: text.append("abc ");
+        }
+      }
+
+      for (final Escaper escaper : escapers) {
+        final String expected = escaper.escape(text);
+
+        final Reader chunked = new ChunkedReader(text.toString(), 1 + random.nextInt(9));
+
+        assertEquals(expected, escaper.escape(new StringReader(text.toString()), new StringWriter()).toString());
+        assertEquals(expected, escaper.escape(chunked, new StringWriter()).toString());
+      }
+    }
+  }
+
+  /**
+   * 한번에 chunk 개까지만 읽는 Reader 입니다
+   */
+  private static final class ChunkedReader extends Reader {
+    private final String source;
+    private final int chunk;
+    private int position;
+
+    private ChunkedReader(final String source, final int chunk) {
+      this.source = source;
+      this.chunk = chunk;
+    }
+
+    @Override
+    public int read(final char[] buffer, final int offset, final int length) {
+      if (position == source.length()) return -1;
+
+      final int count = Math.min(Math.min(chunk, length), source.length() - position);
+      source.getChars(position, position + count, buffer, offset);
+      position += count;
+      return count;
+    }
+
+    @Override
+    public void close() {}
+  }
+
+}
@@ -0,0 +1,204 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Formatters 의 phone, number, biz, card 가 기존 정규식 구현과 같은 결과를 반환하는지 검증합니다 (golden test)
+ */
+class FormattersTest {
+
+  private static final int RANDOM_INPUTS = 200_000;
+
+  private static final List<String> EDGE_CASES = Arrays.asList(
+      "", " ", "0", "00", "000", "0000", "-0", "-000123", "0.0", "00.50", "0.",
+      "1", "12", "123", "1234", "1234567", "-1234567", "+1234567", "1|234|5678", "12-345-678",
+      "1234567.891", "1.2.3", "1..2", "1.", "1..", ".5", "..5", "1.2.", " 1234 ", "1,234,567",
+      "\t1234567\n", "12\n34567", "abc", "a1b2c3d4", "١٢٣٤٥٦٧", "１２３４５６７", "1٢3456",
+      "01012345678", "010-1234-5678", "0212345678", "02-123-4567", "031-123-4567", "15881234",
+      "1588-1234", "021234567", "0101234567", "123456789012", " 010 1234 5678 ",
+      "1234567890", "123-45-67890", "12345", "123456", "1234567890123", "1234-5678-9012-3456",
+      "123456789012345678", "4111 1111 1111 1111"
+  );
+
+  @Test
+  void phoneMatchesLegacy() {
+    assertGolden(Formatters::phone, Legacy::phone);
+  }
+
+  @Test
+  void numberMatchesLegacy() {
+    assertGolden(Formatters::number, Legacy::number);
+  }
+
+  @Test
+  void bizMatchesLegacy() {
+    assertGolden(Formatters::biz, Legacy::biz);
+  }
+
+  @Test
+  void cardMatchesLegacy() {
+    assertGolden(Formatters::card, Legacy::card);
+  }
+
+  @Test
+  void numberKeepsLegacyFailures() {
+    assertThrows(NullPointerException.class, () -> Formatters.number((String) null));
+    assertThrows(NullPointerException.class, () -> Legacy.number(null));
+
+    for (final String dots : Arrays.asList(".", "..", "...")) {
+      assertThrows(ArrayIndexOutOfBoundsException.class, () -> Formatters.number(dots), dots);
+      assertThrows(ArrayIndexOutOfBoundsException.class, () -> Legacy.number(dots), dots);
+    }
+  }
+
+  @Test
+  void nullIsFormattedAsEmpty() {
+    assertEquals(Legacy.phone(null), Formatters.phone(null));
+    assertEquals(Legacy.biz(null), Formatters.biz(null));
+    assertEquals(Legacy.card(null), Formatters.card(null));
+  }
+
+  @Test
+  void unchangedInputIsReturnedAsIs() {
+    final String source = new String("0");
+    assertSame(source, Formatters.number(source));
+  }
+
+  @Test
+  void numberOfLongMatchesLegacy() {
+    final Random random = new Random(24);
+    final List<Long> values = new ArrayList<>(Arrays.asList(
+        0L, -1L, 999L, 1000L, -1000L, Long.MAX_VALUE, Long.MIN_VALUE, (long) Integer.MIN_VALUE
+    ));
+    for (int i = 0;i < 10_000;i++) values.add(random.nextLong() >> random.nextInt(64));
+
+    for (final long value : values) {
+      assertEquals(Legacy.number(Long.toString(value)), Formatters.number(value), Long.toString(value));
+    }
+  }
+
+  @Test
+  void numberOfDecimalMatchesLegacy() {
+    for (final String value : Arrays.asList("0", "-0.00", "1234567.890", "1E+10", "-12345.6789", "0.000001")) {
+      final BigDecimal decimal = new BigDecimal(value);
+      assertEquals(Legacy.number(decimal.toPlainString()), Formatters.number(decimal), value);
+    }
+  }
+
+  @Test
+  void bulkFormatMatchesSingleValues() {
+    final List<Dictionary> rows = new ArrayList<>();
+    for (final String value : EDGE_CASES) rows.add(new Dictionary("value", value).set("amount", (Object) 1234567L));
+    rows.add(new Dictionary("value", null));
+
+    Formatters.format(rows, "value", "phone", Formatters.Field.PHONE);
+    Formatters.format(rows, "value", "biz", Formatters.Field.BUSINESS_NO);
+    Formatters.format(rows, "value", "card", Formatters.Field.CARD_NO);
+    Formatters.format(rows, "amount", Formatters.Field.NUMBER);
+
+    for (int i = 0;i < EDGE_CASES.size();i++) {
+      final String value = EDGE_CASES.get(i);
+      assertEquals(Legacy.phone(value), rows.get(i).get("phone"), value);
+      assertEquals(Legacy.biz(value), rows.get(i).get("biz"), value);
+      assertEquals(Legacy.card(value), rows.get(i).get("card"), value);
+      assertEquals("1,234,567", rows.get(i).get("amount"));
+    }
+
+    assertEquals(null, rows.get(EDGE_CASES.size()).take("phone"));
+  }
+
+  @Test
+  void appendableOverloadsMatchStringVersions() throws IOException {
+    for (final String value : EDGE_CASES) {
+      assertEquals(Formatters.phone(value), Formatters.phone(value.trim(), new StringBuilder()).toString());
+      assertEquals(Formatters.biz(value), Formatters.biz(value, new StringBuilder()).toString());
+      assertEquals(Formatters.card(value), Formatters.card(value, new StringBuilder()).toString());
+    }
+  }
+
+  private static void assertGolden(final Function<String, String> actual, final Function<String, String> expected) {
+    for (final String value : EDGE_CASES) assertSameResult(actual, expected, value);
+
+    final Random random = new Random(2024);
+    final String alphabet = "0000123456789-|. \n\tab+,٣";
+
+    for (int i = 0;i < RANDOM_INPUTS;i++) {
+      final char[] chars = new char[random.nextInt(20)];
+      for (int j = 0;j < chars.length;j++) {
+        chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+      }
+
+      assertSameResult(actual, expected, new String(chars));
+    }
+  }
+
+  private static void assertSameResult(
+      final Function<String, String> actual, final Function<String, String> expected, final String value
+  ) {
+    String legacy;
+    try {
+      legacy = expected.apply(value);
+    } catch (RuntimeException e) {
+      assertThrows(e.getClass(), () -> actual.apply(value), value);
+      return;
+    }
+
+    assertEquals(legacy, actual.apply(value), value);
+  }
+
+  /**
+   * 정규식으로 구현된 기존 Formatters 입니다 (기준 결과)
+   */
+  private static final class Legacy {
+
+    private static final Pattern NON_DIGIT = Pattern.compile("[^\\d]");
+    private static final Pattern PHONE_8 = Pattern.compile("(\\d{4})(\\d{4})");
+    private static final Pattern PHONE = Pattern.compile("(^02.{0}|^01\\d{1}|\\d{3})(\\d+)(\\d{4})");
+    private static final Pattern NUMBER_CHARS = Pattern.compile("[^\\d|\\-]");
+    private static final Pattern LEADING_ZEROS = Pattern.compile("^0+(?!$)");
+    private static final Pattern NUMBER = Pattern.compile("(\\d)(?=(?:\\d{3})+(?!\\d))");
+    private static final Pattern BUSINESS_NO = Pattern.compile("^(\\d{3})(\\d{2})(\\d+)$");
+    private static final Pattern CARD_NO = Pattern.compile("^(\\d{4})(\\d{4})(\\d{4})(\\d+)$");
+
+    private static String phone(String str) {
+      str = NON_DIGIT.matcher(StringUtils.nvl(str).trim()).replaceAll("");
+
+      return 8 == str.length()
+          ? PHONE_8.matcher(str).replaceAll("$1-$2")
+          : PHONE.matcher(str).replaceAll("$1-$2-$3");
+    }
+
+    private static String number(final String str) {
+      final String[] parts = str.split("\\.");
+      final String digits = LEADING_ZEROS.matcher(
+          NUMBER_CHARS.matcher(StringUtils.nvl(parts[0]).trim()).replaceAll("")
+      ).replaceFirst("");
+
+      return NUMBER.matcher(digits).replaceAll("$1,") + (1 < parts.length ? ".".concat(parts[1]) : "");
+    }
+
+    private static String biz(final String str) {
+      return BUSINESS_NO.matcher(NON_DIGIT.matcher(StringUtils.nvl(str).trim()).replaceAll(""))
+          .replaceAll("$1-$2-$3");
+    }
+
+    private static String card(final String str) {
+      return CARD_NO.matcher(NON_DIGIT.matcher(StringUtils.nvl(str).trim()).replaceAll(""))
+          .replaceAll("$1-$2-$3-$4");
+    }
+
+  }
+
+}
@@ -0,0 +1,189 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JsonUtils 의 JSON 출력과 Dictionary 읽기 (중첩 객체, 배열, NDJSON) 를 검증합니다
+ */
+class JsonUtilsTest {
+
+  @Test
+  void writesSameAsToJson() throws IOException {
+    final Map<String, Object> value = row(1, "홍길동 \"quoted\"\n");
+    final String json = JsonUtils.toJson(value);
+
+    assertEquals("{\"id\":1,\"name\":\"홍길동 \\\"quoted\\\"\\n\"}", json);
+
+    final StringWriter writer = new StringWriter();
+    JsonUtils.write(value, writer);
+    assertEquals(json, writer.toString());
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    JsonUtils.write(value, out);
+    assertEquals(json, new String(out.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void doesNotCloseTarget() throws IOException {
+    final AtomicBoolean closed = new AtomicBoolean();
+    final Writer writer = new StringWriter() {
+      @Override
+      public void close() throws IOException {
+        closed.set(true);
+        super.close();
+      }
+    };
+
+    JsonUtils.write(Collections.singletonMap("a", 1), writer);
+    JsonUtils.writeArray(Collections.singletonList(row(1, "a")), writer);
+
+    assertFalse(closed.get());
+    assertEquals("{\"a\":1}[{\"id\":1,\"name\":\"a\"}]", writer.toString());
+  }
+
+  @Test
+  void writesArrayOfRows() throws IOException {
+    final List<Map<String, Object>> rows = Arrays.asList(row(1, "a"), row(2, null), row(3, "ㄱ"));
+    final String expected = JsonUtils.toJson(rows);
+
+    final StringWriter writer = new StringWriter();
+    JsonUtils.writeArray(rows, writer);
+    assertEquals(expected, writer.toString());
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    JsonUtils.writeArray(rows.stream(), out);
+    assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+    final StringWriter empty = new StringWriter();
+    JsonUtils.writeArray(Stream.<Map<String, Object>>empty(), empty);
+    assertEquals("[]", empty.toString());
+  }
+
+  @Test
+  void readsNestedDictionary() throws IOException {
+    final String json = "{\"id\":7,\"rate\":1.5,\"big\":12345678901234,\"ok\":true,\"none\":null,"
+        + "\"user\":{\"name\":\"홍길동\",\"tags\":[\"a\",{\"deep\":[1,[2,3]]}]},\"empty\":{},\"list\":[]}";
+
+    for (final Dictionary dictionary : Arrays.asList(
+        JsonUtils.readDictionary(json),
+        JsonUtils.readDictionary(json.getBytes(StandardCharsets.UTF_8)),
+        JsonUtils.readDictionary(new StringReader(json)),
+        JsonUtils.readDictionary(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))
+    )) {
+      assertEquals(7, dictionary.take("id"));
+      assertEquals(1.5, dictionary.take("rate"));
+      assertEquals(12345678901234L, dictionary.take("big"));
+      assertEquals(Boolean.TRUE, dictionary.take("ok"));
+      assertTrue(dictionary.containsKey("none"));
+
+      final Dictionary user = assertInstanceOf(Dictionary.class, dictionary.take("user"));
+      assertEquals("홍길동", user.take("name"));
+
+      final List<?> tags = assertInstanceOf(List.class, user.take("tags"));
+      assertEquals("a", tags.get(0));
+      final Dictionary deep = assertInstanceOf(Dictionary.class, tags.get(1));
+      assertEquals(Arrays.asList(1, Arrays.asList(2, 3)), deep.take("deep"));
+
+      assertEquals(new Dictionary(), dictionary.take("empty"));
+      assertEquals(Collections.emptyList(), dictionary.take("list"));
+    }
+  }
+
+  @Test
+  void rejectsNonObjectRoot() {
+    assertThrows(JsonParseException.class, () -> JsonUtils.readDictionary("[1,2]"));
+    assertThrows(JsonParseException.class, () -> JsonUtils.readDictionary("\"text\""));
+  }
+
+  @Test
+  void streamsArray() throws IOException {
+    final String json = "[{\"id\":1,\"child\":{\"id\":10}},{\"id\":2,\"items\":[{\"id\":20}]},{}]";
+
+    try (Stream<Dictionary> stream = JsonUtils.streamDictionaries(new StringReader(json))) {
+      final List<Dictionary> rows = stream.collect(Collectors.toList());
+
+      assertEquals(3, rows.size());
+      assertEquals(1, rows.get(0).take("id"));
+      assertEquals(10, ((Dictionary) rows.get(0).take("child")).take("id"));
+      assertEquals(20, ((Dictionary) ((List<?>) rows.get(1).take("items")).get(0)).take("id"));
+      assertTrue(rows.get(2).isEmpty());
+    }
+
+    try (Stream<Dictionary> stream = JsonUtils.streamDictionaries(new StringReader("[]"))) {
+      assertEquals(0, stream.count());
+    }
+  }
+
+  @Test
+  void streamsNdjson() throws IOException {
+    final String json = "{\"id\":1,\"name\":\"a\"}\n{\"id\":2,\"nested\":{\"list\":[1,2]}}\n\n{\"id\":3}\n";
+    final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+    try (Stream<Dictionary> stream = JsonUtils.streamDictionaries(new ByteArrayInputStream(bytes))) {
+      final List<Dictionary> rows = stream.collect(Collectors.toList());
+
+      assertEquals(
+          Arrays.asList(1, 2, 3),
+          rows.stream().map(row -> row.take("id")).collect(Collectors.toList())
+      );
+      assertEquals(Arrays.asList(1, 2), ((Dictionary) rows.get(1).take("nested")).take("list"));
+    }
+  }
+
+  @Test
+  void stopsAtLimit() throws IOException {
+    final StringBuilder json = new StringBuilder("[");
+    for (int i = 0;i < 1000;i++) json.append(0 == i ? "" : ",").append("{\"id\":").append(i).append('}');
+    json.append(']');
+
+    try (Stream<Dictionary> stream = JsonUtils.streamDictionaries(new StringReader(json.toString()))) {
+      assertEquals(
+          Arrays.asList(0, 1, 2),
+          stream.limit(3).map(row -> row.take("id")).collect(Collectors.toList())
+      );
+    }
+  }
+
+  @Test
+  void failsOnBrokenElement() throws IOException {
+    try (Stream<Dictionary> stream = JsonUtils.streamDictionaries(new StringReader("[{\"id\":1},2]"))) {
+      final Iterator<Dictionary> rows = stream.iterator();
+
+      assertEquals(1, rows.next().take("id"));
+      final UncheckedIOException e = assertThrows(UncheckedIOException.class, rows::next);
+      assertInstanceOf(JsonParseException.class, e.getCause());
+    }
+  }
+
+  private static Map<String, Object> row(final int id, final String name) {
+    final Map<String, Object> row = new LinkedHashMap<>();
+    row.put("id", id);
+    row.put("name", name);
+    return row;
+  }
+
+}
@@ -0,0 +1,94 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LargeValue 와 Dictionary 의 InputStream 저장 방식을 검증합니다
+ */
+class LargeValueTest {
+
+  private static final int LARGE_SIZE = (int) LargeValue.SPILL_THRESHOLD + 1024;
+
+  @Test
+  void setKeepsInputStreamAsIs() {
+    final InputStream in = new ByteArrayInputStream(new byte[] {1, 2, 3});
+    final Dictionary dictionary = new Dictionary().set("file", in);
+
+    assertSame(in, dictionary.take("file"));
+    assertSame(in, dictionary.take("file", InputStream.class));
+    assertSame(in, dictionary.getStream("file"));
+  }
+
+  @Test
+  void spillReadsInputStream() throws IOException {
+    final Dictionary dictionary = new Dictionary()
+        .spill("small", new ByteArrayInputStream(new byte[] {1, 2, 3}))
+        .spill("large", new ByteArrayInputStream(filled(LARGE_SIZE)));
+
+    assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) dictionary.take("small"));
+    assertInstanceOf(LargeValue.class, dictionary.take("large"));
+    assertArrayEquals(filled(LARGE_SIZE), dictionary.getByte("large"));
+  }
+
+  @Test
+  void serializesAsValue() throws IOException {
+    final char[] chars = new char[LARGE_SIZE];
+    Arrays.fill(chars, '가');
+    final String text = new String(chars);
+
+    final Dictionary dictionary = new Dictionary()
+        .set("text", LargeValue.read(new StringReader(text)))
+        .set("binary", LargeValue.read(new ByteArrayInputStream(filled(LARGE_SIZE))));
+
+    final Dictionary restored = SerializationUtils.deserialized(
+        SerializationUtils.serialized(dictionary), Dictionary.class
+    );
+
+    final LargeValue restoredText = assertInstanceOf(LargeValue.class, restored.take("text"));
+    assertTrue(restoredText.isText());
+    assertEquals(text, restored.getString("text"));
+
+    final LargeValue restoredBinary = assertInstanceOf(LargeValue.class, restored.take("binary"));
+    assertEquals(LARGE_SIZE, restoredBinary.length());
+    assertArrayEquals(filled(LARGE_SIZE), restored.getByte("binary"));
+  }
+
+  @Test
+  void readsSpilledValueAsText() throws IOException {
+    final char[] chars = new char[LARGE_SIZE];
+    Arrays.fill(chars, 'a');
+    final String text = new String(chars);
+
+    final Dictionary dictionary = new Dictionary()
+        .set("body", LargeValue.read(new StringReader(text)))
+        .spill("binary", new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+
+    for (final String key : new String[] {"body", "binary"}) {
+      assertInstanceOf(LargeValue.class, dictionary.take(key));
+      assertEquals(text, dictionary.get(key));
+      assertEquals(text, dictionary.get(key, 1));
+      assertEquals(text, dictionary.get(key, "x"));
+      assertEquals(text, dictionary.getString(key));
+      assertEquals(text, dictionary.getString(key, "x"));
+    }
+  }
+
+  private static byte[] filled(final int size) {
+    final byte[] bytes = new byte[size];
+    for (int i = 0;i < size;i++) bytes[i] = (byte) i;
+    return bytes;
+  }
+
+}
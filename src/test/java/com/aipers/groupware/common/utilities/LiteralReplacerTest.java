@@ -0,0 +1,132 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LiteralReplacer 의 leftmost-longest 치환과 검색이 단순 구현과 같은 결과를 반환하는지 검증합니다
+ */
+class LiteralReplacerTest {
+
+  private static final int RANDOM_INPUTS = 2_000;
+
+  @Test
+  void replacesLeftmostLongest() {
+    final Map<String, String> replacements = new LinkedHashMap<>();
+    replacements.put("ab", "X");
+    replacements.put("abc", "Y");
+    replacements.put("bcd", "Z");
+    replacements.put("", "ignored");
+
+    final LiteralReplacer replacer = LiteralReplacer.of(replacements);
+
+    assertEquals("Yd", replacer.replace("abcd"));
+    assertEquals("YXa", replacer.replace("abcaba"));
+    assertEquals("-Z-", replacer.replace("-bcd-"));
+    assertEquals("aX", replacer.replace("aab"));
+  }
+
+  @Test
+  void doesNotRescanReplacement() {
+    final Map<String, String> replacements = new LinkedHashMap<>();
+    replacements.put("a", "b");
+    replacements.put("b", "a");
+    replacements.put("<", "&lt;");
+    replacements.put("&", "&amp;");
+
+    final LiteralReplacer replacer = LiteralReplacer.of(replacements);
+
+    assertEquals("ba", replacer.replace("ab"));
+    assertEquals("&amp;&lt;", replacer.replace("&<"));
+  }
+
+  @Test
+  void returnsSourceWithoutMatch() throws IOException {
+    final LiteralReplacer replacer = LiteralReplacer.of(Collections.singletonMap("없음", "-"));
+    final String source = "치환할 문자열이 없습니다";
+
+    assertSame(source, replacer.replace(source));
+    assertNull(replacer.replace(null));
+    assertEquals("- 문자열", replacer.replace(new StringBuilder("없음 문자열")));
+    assertEquals("a-b", replacer.replace("a없음b", new StringWriter()).toString());
+    assertEquals(source, replacer.replace(source, new StringBuilder()).toString());
+  }
+
+  @Test
+  void findsPatterns() {
+    final LiteralReplacer finder = LiteralReplacer.of("password", "admin", "ass");
+
+    assertTrue(finder.containsAny("my-admin-1"));
+    assertTrue(finder.containsAny("pass"));
+    assertFalse(finder.containsAny("secure"));
+    assertFalse(finder.containsAny(""));
+
+    assertEquals(3, finder.indexOf("my-admin-1"));
+    assertEquals(1, finder.indexOf("pass"));
+    assertEquals(-1, finder.indexOf("nothing"));
+  }
+
+  @Test
+  void matchesNaiveReplace() {
+    final Random random = new Random(42L);
+
+    for (int size : new int[] { 1, 3, 10, 2_000 }) {
+      final Map<String, String> replacements = new LinkedHashMap<>();
+      while (replacements.size() < size) {
+        final String pattern = randomText(random, 1 + random.nextInt(2_000 > size ? 4 : 8));
+        replacements.put(pattern, "<" + replacements.size() + ">");
+      }
+
+      final LiteralReplacer replacer = LiteralReplacer.of(replacements);
+
+      for (int i = 0;i < RANDOM_INPUTS;i++) {
+        final String source = randomText(random, random.nextInt(40));
+        assertEquals(naiveReplace(replacements, source), replacer.replace(source), source);
+      }
+    }
+  }
+
+  /**
+   * 위치마다 가장 긴 문자열을 찾아 치환하는 단순 구현 입니다
+   */
+  private static String naiveReplace(final Map<String, String> replacements, final String source) {
+    final StringBuilder out = new StringBuilder();
+
+    for (int i = 0;i < source.length();) {
+      String longest = null;
+
+      for (final String pattern : replacements.keySet()) {
+        if (source.startsWith(pattern, i) && (null == longest || longest.length() < pattern.length())) {
+          longest = pattern;
+        }
+      }
+
+      if (null == longest) {
+        out.append(source.charAt(i++));
+      } else {
+        out.append(replacements.get(longest));
+        i += longest.length();
+      }
+    }
+
+    return out.toString();
+  }
+
+  private static String randomText(final Random random, final int length) {
+    final char[] chars = new char[length];
+    for (int i = 0;i < length;i++) chars[i] = "abc가ä".charAt(random.nextInt(5));
+    return new String(chars);
+  }
+
+}
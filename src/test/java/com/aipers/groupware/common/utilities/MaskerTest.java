@@ -0,0 +1,179 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Masker 의 유형별 마스킹, 문자열 판별과 읽기 단위에 걸친 단어의 판별을 검증합니다
+ */
+class MaskerTest {
+
+  private static final Masker MASKER = Masker.builder().build();
+
+  private static final String TEXT = "홍길동 hong123@example.com 010-1234-5678, 02-123-4567 01012345678"
+      + " +82-10-1234-5678 +82 10-1234-5678 +821012345678 tel.010-1234-5678 "
+      + "카드 4111-1111-1111-1111 4111111111111111 주민 900101-1234567 (9001011234567).";
+
+  private static final String MASKED = "홍길동 ho*****@example.com 010-****-5678, 02-***-4567 010****5678"
+      + " +82-10-****-5678 +82 10-****-5678 +8210****5678 tel.010-****-5678 "
+      + "카드 4111-11**-****-1111 411111******1111 주민 900101-1****** (9001011******).";
+
+  @Test
+  void masksEachType() {
+    assertEquals("ho*****@example.com", MASKER.mask(Masker.Type.EMAIL, "hong123@example.com"));
+    assertEquals("a*@example.com", MASKER.mask(Masker.Type.EMAIL, "ab@example.com"));
+    assertEquals("ho***23", MASKER.mask(Masker.Type.EMAIL, "hong123"));
+
+    assertEquals("010-****-5678", MASKER.mask(Masker.Type.PHONE, "010-1234-5678"));
+    assertEquals("02-***-4567", MASKER.mask(Masker.Type.PHONE, "02-123-4567"));
+    assertEquals("010****5678", MASKER.mask(Masker.Type.PHONE, "01012345678"));
+    assertEquals("****5678", MASKER.mask(Masker.Type.PHONE, "15885678"));
+    assertEquals("+82-10-****-5678", MASKER.mask(Masker.Type.PHONE, "+82-10-1234-5678"));
+    assertEquals("+82-2-***-4567", MASKER.mask(Masker.Type.PHONE, "+82-2-123-4567"));
+    assertEquals("+8210****5678", MASKER.mask(Masker.Type.PHONE, "+821012345678"));
+
+    assertEquals("1234-56**-****-3456", MASKER.mask(Masker.Type.CARD, "1234-5678-9012-3456"));
+    assertEquals("900101-1******", MASKER.mask(Masker.Type.RESIDENT_NO, "900101-1234567"));
+
+    assertEquals("홍*동", MASKER.mask(Masker.Type.NAME, "홍길동"));
+    assertEquals("홍*", MASKER.mask(Masker.Type.NAME, "홍길"));
+    assertEquals("남**수", MASKER.mask(Masker.Type.NAME, "남궁민수"));
+    assertEquals("ab**ef", MASKER.mask(Masker.Type.BETWEEN, "abcdef"));
+    assertEquals("** *", MASKER.mask(Masker.Type.ALL, "홍길 동"));
+
+    assertEquals(
+        "010-####-5678",
+        Masker.builder().maskChar('#').build().mask(Masker.Type.PHONE, "010-1234-5678")
+    );
+    assertNull(MASKER.mask(Masker.Type.NAME, null));
+  }
+
+  @Test
+  void detectsInText() {
+    assertEquals(MASKED, MASKER.maskText(TEXT));
+  }
+
+  @Test
+  void leavesOtherNumbersAlone() {
+    final String text = "v1.2.3 주문 12345 2024-01-31 1234567890123456 user.name@localhost +1 a+b 10-1234-5678 "
+        + "82-10-1234-5678 tel.no 0.010 +82 is 10-1234-5678";
+
+    assertEquals(text, MASKER.maskText(text));
+  }
+
+  @Test
+  void splitsAfterDotOnlyWhenNotEmail() {
+    assertEquals("ma******@example.com", MASKER.maskText("mail.010@example.com"));
+    assertEquals("phone.010-****-5678.", MASKER.maskText("phone.010-1234-5678."));
+    assertEquals("tel.no.02-***-4567", MASKER.maskText("tel.no.02-123-4567"));
+  }
+
+  @Test
+  void detectsOnlyGivenTypes() {
+    final Masker phoneOnly = Masker.builder().detect(Masker.Type.PHONE).build();
+
+    assertEquals(
+        "hong123@example.com 010-****-5678 900101-1234567",
+        phoneOnly.maskText("hong123@example.com 010-1234-5678 900101-1234567")
+    );
+    assertEquals(
+        "+82-10-1234-5678",
+        Masker.builder().detect(Masker.Type.EMAIL).build().maskText("+82-10-1234-5678")
+    );
+    assertThrows(IllegalArgumentException.class, () -> Masker.builder().detect(Masker.Type.NAME));
+  }
+
+  @Test
+  void appliesFields() {
+    final Masker masker = Masker.builder()
+        .field("name", Masker.Type.NAME)
+        .field("phone", Masker.Type.PHONE)
+        .field("card", Masker.Type.CARD)
+        .build();
+    final Dictionary dictionary = new Dictionary();
+    dictionary.set("name", "홍길동");
+    dictionary.set("phone", "+82-10-1234-5678");
+    dictionary.set("card", 4111111111111111L);
+
+    assertSame(dictionary, masker.apply(dictionary));
+    assertEquals("홍*동", dictionary.take("name"));
+    assertEquals("+82-10-****-5678", dictionary.take("phone"));
+    assertEquals("411111******1111", dictionary.take("card"));
+    assertNull(dictionary.take("email"));
+  }
+
+  @Test
+  void detectsAcrossReadBoundaries() throws IOException {
+    for (int chunk = 1;chunk <= 13;chunk++) {
+      final String masked = MASKER.mask(new ChunkedReader(TEXT, chunk), new StringWriter()).toString();
+      assertEquals(MASKED, masked, "chunk " + chunk);
+    }
+  }
+
+  @Test
+  void detectsAcrossBufferSize() throws IOException {
+    final String phone = "+82-10-1234-5678";
+
+    // 단어가 BUFFER_SIZE (8192) 경계의 모든 위치에 걸치도록 앞의 길이를 바꿔가며 확인함
+    for (int offset = 0;offset <= phone.length() + 1;offset++) {
+      final StringBuilder text = new StringBuilder();
+      while (text.length() < 8192 - offset) text.append("a ");
+      text.setLength(8192 - offset);
+      if (' ' != text.charAt(text.length() - 1)) text.setCharAt(text.length() - 1, ' ');
+
+      final String source = text + phone + " +82 10-1234-5678";
+      final String expected = text + "+82-10-****-5678 +82 10-****-5678";
+
+      assertEquals(expected, MASKER.maskText(source), "offset " + offset);
+      final String masked = MASKER.mask(new StringReader(source), new StringWriter()).toString();
+      assertEquals(expected, masked, "offset " + offset);
+    }
+  }
+
+  @Test
+  void skipsTooLongWord() throws IOException {
+    final StringBuilder word = new StringBuilder();
+    while (word.length() < 400) word.append("010-1234-5678");
+
+    final String text = word + " 010-1234-5678";
+
+    assertEquals(word + " 010-****-5678", MASKER.maskText(text));
+    assertEquals(word + " 010-****-5678", MASKER.mask(new ChunkedReader(text, 100), new StringWriter()).toString());
+  }
+
+  /**
+   * 한번에 chunk 개까지만 읽는 Reader 입니다
+   */
+  private static final class ChunkedReader extends Reader {
+    private final String source;
+    private final int chunk;
+    private int position;
+
+    private ChunkedReader(final String source, final int chunk) {
+      this.source = source;
+      this.chunk = chunk;
+    }
+
+    @Override
+    public int read(final char[] buffer, final int offset, final int length) {
+      if (position == source.length()) return -1;
+
+      final int count = Math.min(Math.min(chunk, length), source.length() - position);
+      source.getChars(position, position + count, buffer, offset);
+      position += count;
+      return count;
+    }
+
+    @Override
+    public void close() {}
+  }
+
+}
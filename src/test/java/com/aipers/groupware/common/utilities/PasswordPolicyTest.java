@@ -0,0 +1,174 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.aipers.groupware.common.utilities.PasswordPolicy.Violation;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PasswordPolicy 의 한번 순회 검사와 반복 문자 검사를 검증합니다
+ */
+class PasswordPolicyTest {
+
+  private static final PasswordPolicy POLICY = PasswordPolicy.builder()
+      .length(8, 16)
+      .requireLowerCase()
+      .requireUpperCase()
+      .requireDigit()
+      .requireSpecial()
+      .rejectRepeats(3)
+      .rejectSequences(3)
+      .blockWords("password", "sword", "ass", "admin")
+      .build();
+
+  @Test
+  void acceptsValidPassword() {
+    assertTrue(POLICY.isValid("Xk7#mQ2!wz"));
+    assertEquals(EnumSet.noneOf(Violation.class), POLICY.validate("Xk7#mQ2!wz"));
+  }
+
+  @Test
+  void checksLengthAndClasses() {
+    assertEquals(
+        EnumSet.of(
+            Violation.TOO_SHORT, Violation.NO_UPPER_CASE, Violation.NO_DIGIT, Violation.NO_SPECIAL
+        ),
+        POLICY.validate("xkqm")
+    );
+    assertEquals(EnumSet.of(Violation.TOO_LONG), POLICY.validate("Xk7#mQ2!wzXk7#mQ2"));
+    assertTrue(POLICY.isValid("Xk7#mQ2!wzXk7#mQ"));
+    assertEquals(
+        EnumSet.of(Violation.TOO_SHORT, Violation.NO_LOWER_CASE, Violation.NO_UPPER_CASE,
+            Violation.NO_DIGIT, Violation.NO_SPECIAL),
+        POLICY.validate(null)
+    );
+  }
+
+  @Test
+  void countsCharacterClasses() {
+    final PasswordPolicy policy = PasswordPolicy.builder().minCharacterClasses(3).build();
+
+    assertTrue(policy.isValid("ab1!"));
+    assertTrue(policy.isValid("aB1"));
+    assertEquals(EnumSet.of(Violation.TOO_FEW_CHARACTER_CLASSES), policy.validate("abc123"));
+    assertEquals(EnumSet.of(Violation.TOO_FEW_CHARACTER_CLASSES), policy.validate("한글1"));
+  }
+
+  @Test
+  void rejectsRepeatsAtLimit() {
+    final PasswordPolicy policy = PasswordPolicy.builder().rejectRepeats(3).build();
+
+    assertTrue(policy.isValid("aabbaa"));
+    assertTrue(policy.isValid("AAa"));
+    assertFalse(policy.isValid("aaa"));
+    assertFalse(policy.isValid("xy111"));
+    assertFalse(policy.isValid("!!!x"));
+    assertTrue(PasswordPolicy.builder().rejectRepeats(4).build().isValid("aaab"));
+    assertThrows(IllegalArgumentException.class, () -> PasswordPolicy.builder().rejectRepeats(1));
+  }
+
+  @Test
+  void rejectsSequencesAtLimit() {
+    final PasswordPolicy policy = PasswordPolicy.builder().rejectSequences(3).build();
+
+    for (final String sequence : new String[] {"abc", "xCBA", "aBc", "789", "3210", "!xyz!"}) {
+      assertEquals(EnumSet.of(Violation.SEQUENTIAL), policy.validate(sequence), sequence);
+    }
+    for (final String text : new String[] {"ab", "abd", "a1b2c3", "9ab", "ab!c", "yx", "{|}"}) {
+      assertTrue(policy.isValid(text), text);
+    }
+
+    assertTrue(PasswordPolicy.builder().rejectSequences(4).build().isValid("abcx321"));
+    assertFalse(PasswordPolicy.builder().rejectSequences(4).build().isValid("abcd"));
+  }
+
+  @Test
+  void findsOverlappingBlockedWords() {
+    final PasswordPolicy policy = PasswordPolicy.builder()
+        .blockWords("password", "sword", "ass", "abcd", "bc")
+        .build();
+
+    for (final String text : new String[] {
+        "PASSWORD", "myPassw0rd-sword", "swords", "bass", "xabce", "ab-BC"
+    }) {
+      assertEquals(EnumSet.of(Violation.BLOCKED_WORD), policy.validate(text), text);
+    }
+    for (final String text : new String[] {"pa-ss", "swor", "as", "b-c", "ab"}) {
+      assertTrue(policy.isValid(text), text);
+    }
+
+    assertTrue(PasswordPolicy.builder().blockWords((String[]) null).build().isValid("password"));
+    assertTrue(PasswordPolicy.builder().blockWords("", null).build().isValid("password"));
+  }
+
+  @Test
+  void reportsAllViolationsInOnePass() {
+    assertEquals(
+        EnumSet.of(Violation.NO_UPPER_CASE, Violation.NO_SPECIAL, Violation.REPEATED,
+            Violation.SEQUENTIAL, Violation.BLOCKED_WORD),
+        POLICY.validate("adminaaa123")
+    );
+  }
+
+  @Test
+  void validatesInBatch() {
+    final List<String> passwords = Arrays.asList("Xk7#mQ2!wz", "short", "Xk7#mQ2!aaa", "Admin#1x9Q");
+
+    final List<Set<Violation>> results = POLICY.validateAll(passwords);
+    assertEquals(passwords.size(), results.size());
+    for (int i = 0;i < passwords.size();i++) {
+      assertEquals(POLICY.validate(passwords.get(i)), results.get(i), passwords.get(i));
+    }
+
+    final Map<Violation, Integer> expected = new EnumMap<>(Violation.class);
+    expected.put(Violation.TOO_SHORT, 1);
+    expected.put(Violation.NO_UPPER_CASE, 1);
+    expected.put(Violation.NO_DIGIT, 1);
+    expected.put(Violation.NO_SPECIAL, 1);
+    expected.put(Violation.REPEATED, 1);
+    expected.put(Violation.BLOCKED_WORD, 1);
+
+    assertEquals(expected, POLICY.countViolations(passwords));
+    assertEquals(Collections.emptyMap(), POLICY.countViolations(Collections.emptyList()));
+  }
+
+  @Test
+  void rejectsInvalidBuilderValues() {
+    assertThrows(IllegalArgumentException.class, () -> PasswordPolicy.builder().length(-1, 0));
+    assertThrows(IllegalArgumentException.class, () -> PasswordPolicy.builder().length(8, 4));
+    assertThrows(IllegalArgumentException.class, () -> PasswordPolicy.builder().minCharacterClasses(5));
+    assertThrows(IllegalArgumentException.class, () -> PasswordPolicy.builder().rejectSequences(1));
+  }
+
+  /**
+   * 정규식 (.)\1\1 과 같은 결과를 반환하며 기존 instance 메서드 시그니처를 유지하는지 확인합니다
+   */
+  @Test
+  void matchesRepeatRegex() throws NoSuchMethodException {
+    final Pattern pattern = Pattern.compile("(.)\\1\\1");
+
+    for (final String text : new String[] {
+        "", "aa", "aaa", "abaaab", "a\n\n\nb", "\r\r\r", "😀😀😀", "x😀😀", "가가가", "AAa"
+    }) {
+      assertEquals(pattern.matcher(text).find(), StringUtils.isRepeatedAtLimitMore(text, 3), text);
+      assertEquals(pattern.matcher(text).find(), Formatters.isRepeatedThreeTimesMore(text), text);
+    }
+
+    assertFalse(Modifier.isStatic(
+        Formatters.class.getMethod("isRepeatedAtThreeTimeMore", String.class).getModifiers()
+    ));
+  }
+
+}
@@ -0,0 +1,40 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PatternCache 가 정규식, flag 별로 Pattern 을 구분하여 보관하는지 검증합니다
+ */
+class PatternCacheTest {
+
+  @Test
+  void separatesFlagsFromRegex() {
+    final Pattern flagged = PatternCache.compile("abc", Pattern.CASE_INSENSITIVE);
+    final Pattern plain = PatternCache.compile(Pattern.CASE_INSENSITIVE + "/abc");
+
+    assertEquals("abc", flagged.pattern());
+    assertEquals(Pattern.CASE_INSENSITIVE, flagged.flags());
+    assertEquals(Pattern.CASE_INSENSITIVE + "/abc", plain.pattern());
+    assertEquals(0, plain.flags());
+
+    assertTrue(PatternCache.compile("abc", Pattern.CASE_INSENSITIVE).matcher("ABC").matches());
+    assertFalse(PatternCache.compile("2/abc").matcher("2/ABC").matches());
+  }
+
+  @Test
+  void returnsCachedPattern() {
+    assertSame(PatternCache.compile("[0-9]+"), PatternCache.compile("[0-9]+"));
+    assertSame(PatternCache.compile("[0-9]+", 0), PatternCache.compile("[0-9]+"));
+    assertSame(
+        PatternCache.compile("x+", Pattern.MULTILINE),
+        PatternCache.compile("x+", Pattern.MULTILINE)
+    );
+  }
+
+}
@@ -0,0 +1,72 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * StringUtils 의 대소문자 형태 변환을 검증합니다
+ */
+class StringUtilsTest {
+
+  private static final String[][] CASES = {
+      // 원본, camel, pascal, snake, screaming snake, kebab
+      {"userId", "userId", "UserId", "user_id", "USER_ID", "user-id"},
+      {"UserId", "userId", "UserId", "user_id", "USER_ID", "user-id"},
+      {"user_id", "userId", "UserId", "user_id", "USER_ID", "user-id"},
+      {"USER_ID", "userId", "UserId", "user_id", "USER_ID", "user-id"},
+      {"user-id", "userId", "UserId", "user_id", "USER_ID", "user-id"},
+      {"HTTPServer", "httpServer", "HttpServer", "http_server", "HTTP_SERVER", "http-server"},
+      {"parseHTTPResponse", "parseHttpResponse", "ParseHttpResponse", "parse_http_response",
+          "PARSE_HTTP_RESPONSE", "parse-http-response"},
+      {"ID", "id", "Id", "id", "ID", "id"},
+      {"user2Id", "user2Id", "User2Id", "user2_id", "USER2_ID", "user2-id"},
+      {"  user  name.", "userName", "UserName", "user_name", "USER_NAME", "user-name"},
+      {"사용자_ID", "사용자Id", "사용자Id", "사용자_id", "사용자_ID", "사용자-id"},
+  };
+
+  @Test
+  void convertsEachCase() {
+    for (final String[] row : CASES) {
+      assertEquals(row[1], StringUtils.toLowerCamelCase(row[0]), row[0]);
+      assertEquals(row[2], StringUtils.toPascalCase(row[0]), row[0]);
+      assertEquals(row[3], StringUtils.toSnakeCase(row[0]), row[0]);
+      assertEquals(row[4], StringUtils.toScreamingSnakeCase(row[0]), row[0]);
+      assertEquals(row[5], StringUtils.toKebabCase(row[0]), row[0]);
+    }
+  }
+
+  @Test
+  void convertsBackToCamelCase() {
+    for (final String camel : new String[] {"userId", "httpServerName", "orderItemCount"}) {
+      assertEquals(camel, StringUtils.toLowerCamelCase(StringUtils.toPascalCase(camel)));
+      assertEquals(camel, StringUtils.toLowerCamelCase(StringUtils.toSnakeCase(camel)));
+      assertEquals(camel, StringUtils.toLowerCamelCase(StringUtils.toScreamingSnakeCase(camel)));
+      assertEquals(camel, StringUtils.toLowerCamelCase(StringUtils.toKebabCase(camel)));
+    }
+  }
+
+  @Test
+  void returnsSourceWhenUnchanged() {
+    final String camel = new String("userId");
+    final String snake = new String("user_id");
+
+    assertSame(camel, StringUtils.toLowerCamelCase(camel));
+    assertSame(snake, StringUtils.toSnakeCase(snake));
+    assertEquals("", StringUtils.toLowerCamelCase(""));
+    assertNull(StringUtils.toLowerCamelCase(null));
+    assertNull(StringUtils.toSnakeCase(null));
+  }
+
+  @Test
+  void keepsToCamelCaseForDictionaryKeys() {
+    assertEquals("userId", StringUtils.toCamelCase("USER_ID"));
+    assertEquals("userId", StringUtils.toCamelCase("user_id"));
+    assertEquals("UserId", StringUtils.toCamelCase("UserId"));
+    assertEquals("HTTPServer", StringUtils.toCamelCase("HTTPServer"));
+    assertEquals("RATE", StringUtils.toCamelCase("RATE"));
+  }
+
+}
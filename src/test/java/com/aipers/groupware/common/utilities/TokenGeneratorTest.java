@@ -0,0 +1,78 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TokenGenerator 가 alphabet 의 문자만으로 주어진 길이의 고르게 분포된 문자열을 생성하는지 검증합니다
+ */
+class TokenGeneratorTest {
+
+  @Test
+  void generatesFromAlphabet() {
+    for (final String alphabet : Arrays.asList(
+        TokenGenerator.NUMBERS, TokenGenerator.ALPHANUMERIC, TokenGenerator.SPECIAL_CHARACTERS, "x", "ab"
+    )) {
+      for (final TokenGenerator generator : Arrays.asList(
+          TokenGenerator.secure(alphabet), TokenGenerator.fast(alphabet)
+      )) {
+        for (int length : new int[] { 0, 1, 6, 300 }) {
+          final String token = generator.generate(length);
+
+          assertEquals(length, token.length());
+          assertTrue(token.chars().allMatch(letter -> 0 <= alphabet.indexOf(letter)), token);
+        }
+      }
+    }
+  }
+
+  @Test
+  void generatesMany() {
+    final String[] tokens = TokenGenerator.secure(TokenGenerator.ALPHANUMERIC).generate(1000, 16);
+    final Set<String> unique = new HashSet<>(Arrays.asList(tokens));
+
+    assertEquals(1000, tokens.length);
+    assertEquals(1000, unique.size());
+    assertTrue(unique.stream().allMatch(token -> 16 == token.length()));
+    assertEquals(0, TokenGenerator.fast(TokenGenerator.NUMBERS).generate(0, 4).length);
+  }
+
+  @Test
+  void distributesUniformly() {
+    // 2 의 거듭제곱이 아닌 alphabet 과 256 을 넘는 alphabet 모두 편향 없이 뽑는지 확인함
+    final StringBuilder wide = new StringBuilder();
+    for (char letter = 0xAC00;letter < 0xAC00 + 300;letter++) wide.append(letter);
+
+    for (final String alphabet : Arrays.asList(TokenGenerator.NUMBERS, "abc", wide.toString())) {
+      for (final TokenGenerator generator : Arrays.asList(
+          TokenGenerator.secure(alphabet), TokenGenerator.fast(alphabet)
+      )) {
+        final int samples = alphabet.length() * 2_000;
+        final int[] counts = new int[alphabet.length()];
+
+        for (final char letter : generator.generate(samples).toCharArray()) {
+          counts[alphabet.indexOf(letter)]++;
+        }
+
+        for (final int count : counts) {
+          assertTrue(1_600 < count && 2_400 > count, alphabet + ": " + Arrays.toString(counts));
+        }
+      }
+    }
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> TokenGenerator.secure(""));
+    assertThrows(IllegalArgumentException.class, () -> TokenGenerator.fast(null));
+    assertThrows(IllegalArgumentException.class, () -> TokenGenerator.fast("ab").generate(-1));
+    assertThrows(IllegalArgumentException.class, () -> TokenGenerator.fast("ab").generate(-1, 4));
+  }
+
+}
@@ -0,0 +1,41 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TypedDictionary 의 getDecimal 변환을 검증합니다
+ */
+class TypedDictionaryTest {
+
+  @Test
+  void convertsNumbers() {
+    final TypedDictionary dictionary = new TypedDictionary()
+        .set("int", 7)
+        .set("long", Long.MAX_VALUE)
+        .set("float", 0.1f)
+        .set("double", 2.5d);
+
+    assertEquals(new BigDecimal("7"), dictionary.getDecimal("int"));
+    assertEquals(BigDecimal.valueOf(Long.MAX_VALUE), dictionary.getDecimal("long"));
+    assertEquals(new BigDecimal("0.1"), dictionary.getDecimal("float"));
+    assertEquals(new BigDecimal("2.5"), dictionary.getDecimal("double"));
+  }
+
+  @Test
+  void fallsBackOnNonFinite() {
+    final TypedDictionary dictionary = new TypedDictionary()
+        .set("floatNaN", Float.NaN)
+        .set("floatInfinity", Float.POSITIVE_INFINITY)
+        .set("doubleNaN", Double.NaN)
+        .set("doubleInfinity", Double.NEGATIVE_INFINITY);
+
+    assertEquals(BigDecimal.valueOf(0D), dictionary.getDecimal("floatNaN"));
+    assertEquals(BigDecimal.valueOf(1.5D), dictionary.getDecimal("floatInfinity", 1.5D));
+    assertEquals(BigDecimal.valueOf(0D), dictionary.getDecimal("doubleNaN"));
+    assertEquals(BigDecimal.valueOf(-1D), dictionary.getDecimal("doubleInfinity", -1D));
+  }
+
+}
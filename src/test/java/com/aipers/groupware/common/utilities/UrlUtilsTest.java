@@ -0,0 +1,124 @@
+package com.aipers.groupware.common.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * UrlUtils 의 query string 변환과 percent-encoding, 복원을 검증합니다
+ */
+class UrlUtilsTest {
+
+  private static final int RANDOM_INPUTS = 10_000;
+
+  @Test
+  void parsesQuery() {
+    final Dictionary params =
+        UrlUtils.parseQuery("?name=%ED%99%8D%EA%B8%B8%EB%8F%99&q=a+b%2Bc&flag&empty=&=skip&&x=1=2");
+
+    assertEquals("홍길동", params.take("name"));
+    assertEquals("a b+c", params.take("q"));
+    assertEquals("", params.take("flag"));
+    assertEquals("", params.take("empty"));
+    assertEquals("1=2", params.take("x"));
+    assertEquals(5, params.size());
+
+    assertTrue(UrlUtils.parseQuery(null).isEmpty());
+    assertTrue(UrlUtils.parseQuery("?").isEmpty());
+  }
+
+  @Test
+  void collectsRepeatedKeys() {
+    final Dictionary params = UrlUtils.parseQuery("id=1&id=2&id=3&one=a");
+
+    assertArrayEquals(new String[] { "1", "2", "3" }, (String[]) params.take("id"));
+    assertEquals("a", params.take("one"));
+  }
+
+  @Test
+  void buildsQueryString() {
+    final Map<String, Object> params = new LinkedHashMap<>();
+    params.put("name", "홍 길동");
+    params.put("op", "a&b=c+d#e");
+    params.put("none", null);
+    params.put("ids", new Object[] { 1, 2 });
+    params.put("tags", Arrays.asList("x", "y z"));
+
+    final String query = UrlUtils.toQueryString(params);
+
+    assertEquals(
+        "name=%ED%99%8D%20%EA%B8%B8%EB%8F%99&op=a%26b%3Dc%2Bd%23e&none=&ids=1&ids=2&tags=x&tags=y%20z",
+        query
+    );
+
+    final Dictionary parsed = UrlUtils.parseQuery(query);
+    assertEquals("홍 길동", parsed.take("name"));
+    assertEquals("a&b=c+d#e", parsed.take("op"));
+    assertArrayEquals(new String[] { "x", "y z" }, (String[]) parsed.take("tags"));
+    assertEquals("", UrlUtils.toQueryString(new LinkedHashMap<>()));
+  }
+
+  @Test
+  void encodesLikeUrlEncoder() throws UnsupportedEncodingException {
+    final Random random = new Random(20240101L);
+
+    for (int i = 0;i < RANDOM_INPUTS;i++) {
+      final String text = randomText(random);
+      final String expected = URLEncoder.encode(text, "UTF-8").replace("+", "%20");
+
+      assertEquals(expected, UrlUtils.encode(text), text);
+      assertEquals(expected, StringUtils.encodeUrl(text), text);
+      assertEquals(text, UrlUtils.decode(expected), text);
+      assertEquals(text, UrlUtils.decodeComponent(expected), text);
+    }
+  }
+
+  @Test
+  void encodesComponents() {
+    assertEquals("/a%20b/%ED%95%9C/c;d=e:f@g", UrlUtils.encodePath("/a b/한/c;d=e:f@g"));
+    assertEquals("a%20b%26c%3Dd%2Be%23f/?", UrlUtils.encodeQuery("a b&c=d+e#f/?"));
+    assertEquals("a%20b&c=d+e%23f/?", UrlUtils.encodeFragment("a b&c=d+e#f/?"));
+    assertEquals("%F0%9F%98%80", UrlUtils.encode("😀"));
+    assertEquals("abc", UrlUtils.encode("abc"));
+    assertNull(UrlUtils.encode(null));
+  }
+
+  @Test
+  void decodes() throws UnsupportedEncodingException {
+    assertEquals("a b c", UrlUtils.decode("a+b%20c"));
+    assertEquals("a+b c", UrlUtils.decodeComponent("a+b%20c"));
+    assertEquals("100%", UrlUtils.decode("100%"));
+    assertEquals("%zz %4", UrlUtils.decode("%zz+%4"));
+    assertEquals("한글 그대로", UrlUtils.decode("한글+%EA%B7%B8%EB%8C%80%EB%A1%9C"));
+    assertEquals("plain", UrlUtils.decode("plain"));
+    assertEquals(URLDecoder.decode("%ed%99%8d", "UTF-8"), UrlUtils.decode("%ed%99%8d"));
+    assertNull(UrlUtils.decode(null));
+    assertNull(UrlUtils.decodeComponent(null));
+  }
+
+  private static String randomText(final Random random) {
+    final char[] chars = new char[random.nextInt(12)];
+
+    for (int i = 0;i < chars.length;i++) {
+      switch (random.nextInt(4)) {
+        case 0: chars[i] = (char) (0x20 + random.nextInt(0x5F)); break;
+        case 1: chars[i] = (char) (0xAC00 + random.nextInt(11172)); break;
+        case 2: chars[i] = (char) (0x80 + random.nextInt(0x780)); break;
+        default: chars[i] = "aZ09-_.*~ +&=%#/".charAt(random.nextInt(16));
+      }
+    }
+
+    return new String(chars);
+  }
+
+}